@@ -5,6 +5,9 @@ import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
+import java.util.concurrent.Executors;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -21,6 +24,18 @@ public class AwsS3Config {
     @Value("${cloud.aws.region.static}")
     private String region;
 
+    // 동시에 S3 로 전송하는 업로드(및 멀티파트 파트) 수 제한
+    @Value("${cloud.aws.s3.upload.executor-threads:4}")
+    private int uploadExecutorThreads;
+
+    // 이 크기 이상이면 멀티파트 업로드
+    @Value("${cloud.aws.s3.upload.multipart-threshold-bytes:16777216}")
+    private long multipartThresholdBytes;
+
+    // 멀티파트 파트 크기 (S3 최소 5MB)
+    @Value("${cloud.aws.s3.upload.part-size-bytes:8388608}")
+    private long partSizeBytes;
+
     @Bean
     public AmazonS3 amazonS3() {
         AWSCredentials awsCredentials = new BasicAWSCredentials(accessKey, secretKey);
@@ -31,4 +46,15 @@ public class AwsS3Config {
             .build();
     }
 
+    @Bean(destroyMethod = "shutdownNow")
+    public TransferManager transferManager(AmazonS3 amazonS3) {
+        return TransferManagerBuilder.standard()
+            .withS3Client(amazonS3)
+            .withExecutorFactory(() -> Executors.newFixedThreadPool(uploadExecutorThreads,
+                Thread.ofPlatform().name("s3-upload-", 0).factory()))
+            .withMultipartUploadThreshold(multipartThresholdBytes)
+            .withMinimumUploadPartSize(partSizeBytes)
+            .build();
+    }
+
 }
\ No newline at end of file
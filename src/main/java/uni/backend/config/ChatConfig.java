@@ -1,12 +1,15 @@
 package uni.backend.config;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 import uni.backend.util.JwtChannelInterceptor;
 
 @Configuration
@@ -14,12 +17,99 @@ import uni.backend.util.JwtChannelInterceptor;
 @EnableWebSocketMessageBroker
 public class ChatConfig implements WebSocketMessageBrokerConfigurer {
 
+    private static final String BROKER_MODE_SIMPLE = "simple";
+    private static final String BROKER_MODE_RELAY = "relay";
+    private static final String EXECUTOR_MODE_PLATFORM = "platform";
+    private static final String EXECUTOR_MODE_VIRTUAL = "virtual";
+
     private final JwtChannelInterceptor jwtChannelInterceptor;
 
+    @Value("${chat.broker.mode:simple}")
+    private String brokerMode;
+
+    @Value("${chat.broker.relay.host:localhost}")
+    private String relayHost;
+
+    @Value("${chat.broker.relay.port:61613}")
+    private int relayPort;
+
+    @Value("${chat.broker.relay.client-login:guest}")
+    private String relayClientLogin;
+
+    @Value("${chat.broker.relay.client-passcode:guest}")
+    private String relayClientPasscode;
+
+    @Value("${chat.broker.relay.system-login:guest}")
+    private String relaySystemLogin;
+
+    @Value("${chat.broker.relay.system-passcode:guest}")
+    private String relaySystemPasscode;
+
+    @Value("${chat.broker.relay.virtual-host:}")
+    private String relayVirtualHost;
+
+    @Value("${chat.broker.relay.heartbeat-ms:10000}")
+    private long relayHeartbeatMs;
+
+    @Value("${chat.websocket.executor.mode:platform}")
+    private String executorMode;
+
+    @Value("${chat.websocket.executor.inbound.core-pool-size:16}")
+    private int inboundCorePoolSize;
+
+    @Value("${chat.websocket.executor.inbound.max-pool-size:64}")
+    private int inboundMaxPoolSize;
+
+    @Value("${chat.websocket.executor.inbound.queue-capacity:1000}")
+    private int inboundQueueCapacity;
+
+    @Value("${chat.websocket.executor.outbound.core-pool-size:16}")
+    private int outboundCorePoolSize;
+
+    @Value("${chat.websocket.executor.outbound.max-pool-size:64}")
+    private int outboundMaxPoolSize;
+
+    @Value("${chat.websocket.executor.outbound.queue-capacity:1000}")
+    private int outboundQueueCapacity;
+
+    @Value("${chat.websocket.executor.virtual-concurrency:1000}")
+    private int virtualConcurrency;
+
+    @Value("${chat.websocket.transport.send-time-limit-ms:10000}")
+    private int sendTimeLimitMs;
+
+    @Value("${chat.websocket.transport.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+
+    @Value("${chat.websocket.transport.message-size-limit:65536}")
+    private int messageSizeLimit;
+
+    @Value("${chat.websocket.transport.time-to-first-message-ms:60000}")
+    private int timeToFirstMessageMs;
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
         // 클라이언트가 /sub 경로로 구독할 수 있도록 설정
-        config.enableSimpleBroker("/sub");
+        if (BROKER_MODE_RELAY.equalsIgnoreCase(brokerMode)) {
+            // 외부 STOMP 브로커로 중계하여 여러 인스턴스가 채팅/매칭 구독을 공유
+            var relay = config.enableStompBrokerRelay("/sub")
+                .setRelayHost(relayHost)
+                .setRelayPort(relayPort)
+                .setClientLogin(relayClientLogin)
+                .setClientPasscode(relayClientPasscode)
+                .setSystemLogin(relaySystemLogin)
+                .setSystemPasscode(relaySystemPasscode)
+                .setSystemHeartbeatSendInterval(relayHeartbeatMs)
+                .setSystemHeartbeatReceiveInterval(relayHeartbeatMs);
+            if (!relayVirtualHost.isBlank()) {
+                relay.setVirtualHost(relayVirtualHost);
+            }
+        } else if (BROKER_MODE_SIMPLE.equalsIgnoreCase(brokerMode)) {
+            // 단일 인스턴스용 인메모리 브로커
+            config.enableSimpleBroker("/sub");
+        } else {
+            throw new IllegalArgumentException("Unknown chat broker mode: " + brokerMode);
+        }
         // 클라이언트가 /pub 경로로 메시지를 보내도록 설정
         config.setApplicationDestinationPrefixes("/pub");
     }
@@ -33,5 +123,42 @@ public class ChatConfig implements WebSocketMessageBrokerConfigurer {
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
         registration.interceptors(jwtChannelInterceptor); //인터셉터 추가
+        configureExecutor(registration, "ws-inbound-", inboundCorePoolSize, inboundMaxPoolSize,
+            inboundQueueCapacity);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        configureExecutor(registration, "ws-outbound-", outboundCorePoolSize, outboundMaxPoolSize,
+            outboundQueueCapacity);
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        // 느린 클라이언트 한 명이 다른 세션 전송을 막지 않도록 세션별 전송 시간/버퍼 제한
+        registration.setSendTimeLimit(sendTimeLimitMs)
+            .setSendBufferSizeLimit(sendBufferSizeLimit)
+            .setMessageSizeLimit(messageSizeLimit)
+            .setTimeToFirstMessage(timeToFirstMessageMs);
+    }
+
+    private void configureExecutor(ChannelRegistration registration, String threadNamePrefix,
+        int corePoolSize, int maxPoolSize, int queueCapacity) {
+        if (EXECUTOR_MODE_VIRTUAL.equalsIgnoreCase(executorMode)) {
+            // 가상 스레드로 메시지를 처리하여 블로킹 JPA 작업이 플랫폼 스레드를 점유하지 않도록 함
+            ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+            executor.setThreadFactory(Thread.ofVirtual().name(threadNamePrefix, 0).factory());
+            executor.setCorePoolSize(virtualConcurrency);
+            executor.setMaxPoolSize(virtualConcurrency);
+            executor.setAllowCoreThreadTimeOut(true);
+            registration.taskExecutor(executor);
+        } else if (EXECUTOR_MODE_PLATFORM.equalsIgnoreCase(executorMode)) {
+            registration.taskExecutor()
+                .corePoolSize(corePoolSize)
+                .maxPoolSize(maxPoolSize)
+                .queueCapacity(queueCapacity);
+        } else {
+            throw new IllegalArgumentException("Unknown chat executor mode: " + executorMode);
+        }
     }
 }
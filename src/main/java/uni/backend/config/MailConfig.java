@@ -17,12 +17,22 @@ public class MailConfig {
     @Value("${spring.mail.password}")
     private String password;
 
+    @Value("${spring.mail.host:smtp.zoho.com}")
+    private String host;
+
+    @Value("${spring.mail.port:587}")
+    private int port;
+
+    // SMTP 서버가 응답하지 않을 때 메일 워커가 묶여 있지 않도록 연결/읽기/쓰기 제한 시간 설정
+    @Value("${mail.smtp.timeout-ms:10000}")
+    private int timeoutMs;
+
     @Bean
     public JavaMailSender javaMailSender() {
         JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
 
-        mailSender.setHost("smtp.zoho.com");
-        mailSender.setPort(587);
+        mailSender.setHost(host);
+        mailSender.setPort(port);
         mailSender.setUsername(username);
         mailSender.setPassword(password);
 
@@ -31,6 +41,9 @@ public class MailConfig {
         props.put("mail.smtp.auth", "true");
         props.put("mail.smtp.starttls.enable", "true");
         props.put("mail.debug", "true");
+        props.put("mail.smtp.connectiontimeout", String.valueOf(timeoutMs));
+        props.put("mail.smtp.timeout", String.valueOf(timeoutMs));
+        props.put("mail.smtp.writetimeout", String.valueOf(timeoutMs));
 
         return mailSender;
     }
@@ -1,14 +1,29 @@
 package uni.backend.config;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 
 @Configuration
 public class RestClientConfig {
 
+    @Value("${translation.client.connect-timeout-ms:2000}")
+    private long connectTimeoutMs;
+
+    @Value("${translation.client.response-timeout-ms:5000}")
+    private long responseTimeoutMs;
+
     @Bean
     public RestClient restClient() {
-        return RestClient.create();
+        HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+            .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(responseTimeoutMs));
+        return RestClient.builder().requestFactory(requestFactory).build();
     }
 }
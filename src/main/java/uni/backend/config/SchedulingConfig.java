@@ -0,0 +1,38 @@
+package uni.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+/**
+ * {@code @Scheduled} 작업 전용 스케줄러.
+ * <p>
+ * 웹소켓 브로커가 TaskScheduler 빈을 등록하므로 Spring Boot 의 기본 스케줄러(spring.task.scheduling)는 만들어지지 않고, 모든
+ * 작업이 스레드 하나를 나눠 쓰게 된다. 번역, 메일 발송처럼 네트워크를 기다리는 폴러가 다른 작업을 막지 않도록 작업 수만큼의
+ * 스레드를 가진 스케줄러를 따로 둔다.
+ */
+@Configuration
+public class SchedulingConfig implements SchedulingConfigurer {
+
+    @Value("${scheduling.pool-size:10}")
+    private int poolSize;
+
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolTaskScheduler schedulingTaskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("scheduling-");
+        // 종료 시 실행 중인 작업(메일 발송, 블라인드 청크 등)이 끝날 때까지 잠시 기다림
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(30);
+        return scheduler;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        registrar.setTaskScheduler(schedulingTaskScheduler());
+    }
+}
@@ -19,6 +19,7 @@ import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import uni.backend.security.JwtAuthenticationFilter;
 import uni.backend.service.UserService;
+import uni.backend.util.TranslationResponses;
 
 import java.util.List;
 
@@ -72,6 +73,8 @@ public class SecurityConfig {
         configuration.setAllowedMethods(
             List.of("GET", "POST", "PUT", "DELETE", "OPTIONS", "PATCH"));
         configuration.setAllowedHeaders(List.of("*"));
+        // 부분 번역 여부를 브라우저 클라이언트가 읽을 수 있도록 노출
+        configuration.setExposedHeaders(List.of(TranslationResponses.PARTIAL_TRANSLATION_HEADER));
         configuration.setAllowCredentials(true);
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -8,6 +8,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import uni.backend.domain.User;
 import uni.backend.domain.UserStatus;
+import uni.backend.domain.dto.ProfileStarReconcileResponse;
 import uni.backend.domain.dto.ReportedUserResponse;
 import uni.backend.domain.dto.UserResponse;
 import uni.backend.service.AdminService;
@@ -75,21 +76,51 @@ public class AdminController {
         return ResponseEntity.ok("유저 상태가 성공적으로 업데이트되었습니다.");
     }
 
+    /**
+     * 프로필 별점 집계 정합성 복구
+     *
+     * @return 점검한 프로필 수와 수정한 프로필 수
+     */
+    @PostMapping("/profiles/reconcile-stars")
+    public ResponseEntity<ProfileStarReconcileResponse> reconcileProfileStars() {
+        return ResponseEntity.ok(adminService.reconcileProfileStars());
+    }
+
     /**
      * 신고된 유저 목록 조회
      *
-     * @param pageable 페이징 정보
-     * @return 신고된 유저 리스트 (신고 사유 포함)
+     * @param page 페이지 번호
+     * @param size 페이지 크기
+     * @param sort 정렬 기준 (count: 신고 수 많은 순, recent: 최근 신고 순)
+     * @return 신고된 유저 리스트 (신고 수, 최근 신고 날짜)
      */
     @GetMapping("/reported-users")
     public ResponseEntity<Page<ReportedUserResponse>> getReportedUsers(
         @RequestParam(defaultValue = "0") int page,
-        @RequestParam(defaultValue = "10") int size) {
+        @RequestParam(defaultValue = "10") int size,
+        @RequestParam(defaultValue = "count") String sort) {
 
-        Page<ReportedUserResponse> reportedUsers = adminService.getReportedUsers(page, size);
+        Page<ReportedUserResponse> reportedUsers = adminService.getReportedUsers(page, size, sort);
         return ResponseEntity.ok(reportedUsers);
     }
 
+    /**
+     * 신고된 유저의 신고 내역 조회
+     *
+     * @param userId 신고된 유저 ID
+     * @param page   페이지 번호
+     * @param size   페이지 크기
+     * @return 최신순으로 페이징 처리된 신고 내역
+     */
+    @GetMapping("/reported-users/{userId}/reports")
+    public ResponseEntity<Page<ReportedUserResponse.ReportDetail>> getReportDetails(
+        @PathVariable Integer userId,
+        @RequestParam(defaultValue = "0") int page,
+        @RequestParam(defaultValue = "10") int size) {
+
+        return ResponseEntity.ok(adminService.getReportDetails(userId, page, size));
+    }
+
 
     /**
      * 유저의 모든 콘텐츠 블라인드 처리
@@ -6,6 +6,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
@@ -60,7 +61,7 @@ public class AuthController {
     }
 
     @GetMapping("/loginCheck")
-    public ResponseEntity<?> loginCheck(@AuthenticationPrincipal User user) {
+    public ResponseEntity<?> loginCheck(@AuthenticationPrincipal UserDetails user) {
         try {
             MeResponse meResponse = authService.getLoggedInUserInfo(user);
             return ResponseEntity.ok(meResponse);
@@ -15,6 +15,7 @@ import uni.backend.service.ChatService;
 
 import java.security.Principal;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @RestController
@@ -27,8 +28,8 @@ public class ChatController {
 
     // 채팅방 목록 조회
     @GetMapping("/rooms")
-    public ResponseEntity<List<ChatRoomResponse>> getChatRooms(Principal principal) {
-        List<ChatRoomResponse> chatRooms = chatService.getChatRoomsForUser(principal.getName());
+    public ResponseEntity<List<ChatRoomSummaryResponse>> getChatRooms(Principal principal) {
+        List<ChatRoomSummaryResponse> chatRooms = chatService.getChatRoomsForUser(principal.getName());
         return ResponseEntity.ok(chatRooms);
     }
 
@@ -41,32 +42,51 @@ public class ChatController {
 
     // 채팅방 메시지 조회
     @GetMapping("/room/{roomId}")
-    public ResponseEntity<List<ChatMessageResponse>> getChatRoomMessages(@PathVariable Integer roomId) {
-        List<ChatMessageResponse> chatMessages = chatService.getChatMessages(roomId);
+    public ResponseEntity<ChatMessagePageResponse> getChatRoomMessages(
+            @PathVariable Integer roomId,
+            @RequestParam(required = false) Integer before,
+            @RequestParam(required = false) Integer after,
+            @RequestParam(required = false) Integer size) {
+        ChatMessagePageResponse chatMessages = chatService.getChatMessages(roomId, before, after, size);
         return ResponseEntity.ok(chatMessages);
     }
 
-    // WebSocket으로 메시지 전송 처리
+    // WebSocket으로 메시지 전송 처리 (저장을 기다리지 않고 반환, 저장되면 브로드캐스트)
     @MessageMapping("/message")
     public void sendWebSocketMessage(@Payload ChatMessageRequest messageRequest, Principal principal) {
         if (messageRequest.getContent() == null || messageRequest.getContent().trim().isEmpty()) {
             return;
         }
-        ChatMessageResponse response = chatService.sendMessage(messageRequest, principal.getName(), messageRequest.getRoomId());
+        chatService.sendMessage(messageRequest, principal.getName(), messageRequest.getRoomId())
+                .whenComplete((response, failure) -> {
+                    if (failure != null) {
+                        notifySendFailure(messageRequest, principal, failure);
+                        return;
+                    }
+                    messagingTemplate.convertAndSend("/sub/chat/room/" + response.getRoomId(), response);
+                    messagingTemplate.convertAndSend("/sub/user/" + response.getReceiverId(), response);
+                });
+    }
 
-        messagingTemplate.convertAndSend("/sub/chat/room/" + messageRequest.getRoomId(), response);
-        messagingTemplate.convertAndSend("/sub/user/" + response.getReceiverId(), response);
+    // 저장에 실패한 메시지는 보낸 사람의 세션에만 알림 (클라이언트는 /user/sub/chat/errors 구독)
+    private void notifySendFailure(ChatMessageRequest messageRequest, Principal principal, Throwable failure) {
+        log.warn("Failed to send chat message to room {}: {}", messageRequest.getRoomId(), failure.getMessage());
+        messagingTemplate.convertAndSendToUser(principal.getName(), "/sub/chat/errors",
+                ChatMessageFailureResponse.builder()
+                        .roomId(messageRequest.getRoomId())
+                        .content(messageRequest.getContent())
+                        .error("Failed to save chat message")
+                        .build());
     }
 
-    // RESTful POST 요청으로 메시지 전송 처리
+    // RESTful POST 요청으로 메시지 전송 처리 (저장될 때까지 요청 스레드를 잡지 않고 비동기로 응답)
     @PostMapping("/room/{roomId}/messages")
-    public ResponseEntity<ChatMessageResponse> sendRestMessage(
+    public CompletableFuture<ResponseEntity<ChatMessageResponse>> sendRestMessage(
             @PathVariable Integer roomId,
             @RequestBody ChatMessageRequest messageRequest,
             Principal principal) {
-        ChatMessageResponse response = chatService.sendMessage(messageRequest, principal.getName(), roomId);
-
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        return chatService.sendMessage(messageRequest, principal.getName(), roomId)
+                .thenApply(response -> ResponseEntity.status(HttpStatus.CREATED).body(response));
     }
 
     // 메시지 번역
@@ -88,6 +108,21 @@ public class ChatController {
         chatService.markMessagesAsRead(roomId, principal.getName());
     }
 
+    // 특정 메시지까지 읽음 처리
+    @MessageMapping("/read")
+    public void markMessagesAsReadUpTo(@Payload ReadMessagesRequest request, Principal principal) {
+        chatService.markMessagesAsReadUpTo(request.getRoomId(), request.getLastReadMessageId(), principal.getName());
+    }
+
+    @PostMapping("/room/{roomId}/read")
+    public ResponseEntity<Integer> readChatRoomMessages(
+            @PathVariable Integer roomId,
+            @RequestBody ReadMessagesRequest request,
+            Principal principal) {
+        int readCount = chatService.markMessagesAsReadUpTo(roomId, request.getLastReadMessageId(), principal.getName());
+        return ResponseEntity.ok(readCount);
+    }
+
     @PostMapping("/room/{roomId}/leave")
     public ResponseEntity<String> leaveChatRoom(@PathVariable Integer roomId, Principal principal) {
         try {
@@ -4,6 +4,8 @@ import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestHeader;
@@ -11,6 +13,8 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import uni.backend.domain.dto.HomeProfileResponse;
+import uni.backend.service.HomeResponseCache;
+import uni.backend.service.HomeResponseCache.CachedHomePage;
 import uni.backend.service.HomeService;
 import uni.backend.service.PageTranslationService;
 
@@ -27,13 +31,17 @@ public class HomeController {
     @Autowired
     PageTranslationService pageTranslationService;
 
+    @Autowired
+    HomeResponseCache homeResponseCache;
+
     @GetMapping("/home")
     public ResponseEntity<Page<HomeProfileResponse>> searchByUnivNameAndHashtags(
         @RequestParam(required = false) String univName,
         @RequestParam(required = false) List<String> hashtags,
         @RequestParam(defaultValue = "0") int page,
         @RequestParam(defaultValue = "newest") String sort,
-        @RequestHeader(name = "Accept-Language", required = false) String acceptLanguage) {
+        @RequestHeader(name = "Accept-Language", required = false) String acceptLanguage,
+        @RequestHeader(name = "If-None-Match", required = false) String ifNoneMatch) {
 
         univName = (univName != null) ? univName.trim() : null;
         if (hashtags != null) {
@@ -41,9 +49,26 @@ public class HomeController {
             homeService.changeHashtagsToKorean(hashtags);
         }
 
-        Page<HomeProfileResponse> results = homeService.searchByUnivNameAndHashtags(univName,
-            hashtags, page, sort);
-        pageTranslationService.translateHomeResponse(results, acceptLanguage);
-        return ResponseEntity.ok(results);
+        String finalUnivName = univName;
+        List<String> finalHashtags = hashtags;
+        CachedHomePage cached = homeResponseCache.getOrLoad(
+            homeResponseCache.queryOf(univName, hashtags, page, sort, acceptLanguage), () -> {
+                Page<HomeProfileResponse> results = homeService.searchByUnivNameAndHashtags(
+                    finalUnivName, finalHashtags, page, sort);
+                pageTranslationService.translateHomeResponse(results, acceptLanguage);
+                return results;
+            });
+
+        // 내용이 바뀌지 않았으면 본문 없이 304 응답
+        if (cached.matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(cached.eTag())
+                .cacheControl(CacheControl.noCache())
+                .build();
+        }
+        return ResponseEntity.ok()
+            .eTag(cached.eTag())
+            .cacheControl(CacheControl.noCache())
+            .body(cached.body());
     }
 }
@@ -9,6 +9,7 @@ import uni.backend.domain.dto.MarkerResponse;
 import uni.backend.domain.dto.Response;
 import uni.backend.service.MarkerService;
 import uni.backend.service.PageTranslationService;
+import uni.backend.util.TranslationResponses;
 
 @RestController
 @RequestMapping("/api/markers")
@@ -56,9 +57,10 @@ public class MarkerController {
         @RequestHeader(name = "Accept-Language", required = false) String acceptLanguage) {
         List<MarkerResponse> markers = markerService.getUserMarkers(userId);
 
+        boolean partial = false;
         if (acceptLanguage != null && !acceptLanguage.isEmpty() && !markers.isEmpty()) {
-            pageTranslationService.translateMarkers(markers, acceptLanguage);
+            partial = pageTranslationService.translateMarkers(markers, acceptLanguage);
         }
-        return ResponseEntity.ok(markers);
+        return TranslationResponses.ok(markers, partial);
     }
 }
@@ -0,0 +1,72 @@
+package uni.backend.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import uni.backend.domain.dto.ChatWriteBehindStatsResponse;
+import uni.backend.domain.dto.HomeResponseCacheStatsResponse;
+import uni.backend.domain.dto.TranslationCacheStatsResponse;
+import uni.backend.service.ChatMessageWriteBehindService;
+import uni.backend.service.HomeResponseCache;
+import uni.backend.service.TranslationCacheService;
+
+@RestController
+@RequestMapping("/api/admin/monitoring")
+@RequiredArgsConstructor
+public class MonitoringController {
+
+    private final ChatMessageWriteBehindService chatMessageWriteBehindService;
+    private final TranslationCacheService translationCacheService;
+    private final HomeResponseCache homeResponseCache;
+
+    /**
+     * 채팅 메시지 write-behind 큐 상태 조회
+     *
+     * @return 큐 적재량, 저장/실패 건수, flush 소요 시간
+     */
+    @GetMapping("/chat-write-behind")
+    public ResponseEntity<ChatWriteBehindStatsResponse> getChatWriteBehindStats() {
+        return ResponseEntity.ok(chatMessageWriteBehindService.getStats());
+    }
+
+    /**
+     * 번역 캐시 상태 조회
+     *
+     * @return 힙/DB 캐시 적중 수, DeepL 요청 문장 수, 적중률
+     */
+    @GetMapping("/translation-cache")
+    public ResponseEntity<TranslationCacheStatsResponse> getTranslationCacheStats() {
+        return ResponseEntity.ok(translationCacheService.getStats());
+    }
+
+    /**
+     * 번역 힙 캐시 비우기 (DB 캐시는 유지)
+     */
+    @DeleteMapping("/translation-cache")
+    public ResponseEntity<Void> clearTranslationCache() {
+        translationCacheService.clearHeap();
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * 홈 응답 캐시 상태 조회
+     *
+     * @return 저장된 응답 수, 적중/미스 수, 무효화 횟수
+     */
+    @GetMapping("/home-cache")
+    public ResponseEntity<HomeResponseCacheStatsResponse> getHomeResponseCacheStats() {
+        return ResponseEntity.ok(homeResponseCache.getStats());
+    }
+
+    /**
+     * 홈 응답 캐시 비우기
+     */
+    @DeleteMapping("/home-cache")
+    public ResponseEntity<Void> clearHomeResponseCache() {
+        homeResponseCache.invalidateAll();
+        return ResponseEntity.noContent().build();
+    }
+}
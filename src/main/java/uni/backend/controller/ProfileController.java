@@ -13,6 +13,7 @@ import uni.backend.domain.dto.MeResponse;
 import uni.backend.service.AwsS3Service;
 import uni.backend.service.HashtagService;
 import uni.backend.service.PageTranslationService;
+import uni.backend.util.TranslationResponses;
 import uni.backend.service.ProfileService;
 import uni.backend.service.QnaService;
 import uni.backend.service.ReplyService;
@@ -88,9 +89,10 @@ public class ProfileController {
         }
 
         IndividualProfileResponse profileResponse = profileService.getProfileDTOByUserId(userId);
-        pageTranslationService.translateProfileResponse(profileResponse, acceptLanguage);
+        boolean partial = pageTranslationService.translateProfileResponse(profileResponse,
+            acceptLanguage);
 
-        return ResponseEntity.ok(profileResponse);
+        return TranslationResponses.ok(profileResponse, partial);
     }
 
 
@@ -103,5 +105,4 @@ public class ProfileController {
             profileService.getProfileDTOByUserId(Integer.valueOf(userId));
         return ResponseEntity.ok(individualProfileResponse);
     }
-
 }
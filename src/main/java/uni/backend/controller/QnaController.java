@@ -1,5 +1,6 @@
 package uni.backend.controller;
 
+import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
@@ -13,6 +14,7 @@ import uni.backend.domain.dto.ReplyResponse;
 import uni.backend.domain.dto.Response;
 import uni.backend.repository.UserRepository;
 import uni.backend.service.PageTranslationService;
+import uni.backend.util.TranslationResponses;
 import uni.backend.service.QnaService;
 
 import java.util.List;
@@ -37,18 +39,21 @@ public class QnaController {
         this.pageTranslationService = pageTranslationService;
     }
 
-    // 특정 유저의 Qna 목록 조회
+    // 특정 유저의 Qna 목록 조회 (최신순 페이지)
     @GetMapping("/user/{userId}/qnas")
-    public ResponseEntity<List<QnaResponse>> getUserQnas(@PathVariable Integer userId,
+    public ResponseEntity<Page<QnaResponse>> getUserQnas(@PathVariable Integer userId,
+        @RequestParam(defaultValue = "0") int page,
+        @RequestParam(defaultValue = "10") int size,
         @RequestHeader(name = "Accept-Language", required = false) String acceptLanguage) {
 
-        List<QnaResponse> response = qnaService.getUserQnas(userId);
+        Page<QnaResponse> response = qnaService.getUserQnas(userId, page, size);
 
+        boolean partial = false;
         if (acceptLanguage != null && !acceptLanguage.isEmpty() && !acceptLanguage.equals("ko")) {
-            pageTranslationService.translateQna(response, acceptLanguage);
+            partial = pageTranslationService.translateQna(response.getContent(), acceptLanguage);
         }
 
-        return ResponseEntity.ok(response);
+        return TranslationResponses.ok(response, partial);
     }
 
 
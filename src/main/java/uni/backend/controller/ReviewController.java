@@ -15,6 +15,7 @@ import uni.backend.domain.dto.ReviewCreateResponse;
 import uni.backend.domain.dto.ReviewReplyResponse;
 import uni.backend.domain.dto.ReviewResponse;
 import uni.backend.service.PageTranslationService;
+import uni.backend.util.TranslationResponses;
 import uni.backend.service.ReviewService;
 import java.util.List;
 import uni.backend.service.UserService;
@@ -111,11 +112,12 @@ public class ReviewController {
 
         List<ReviewResponse> response = reviewService.getReviewResponsesByUserId(userId);
 
+        boolean partial = false;
         if (acceptLanguage != null && !acceptLanguage.isEmpty() && !acceptLanguage.equals("ko")) {
-            pageTranslationService.translateReview(response, acceptLanguage);
+            partial = pageTranslationService.translateReview(response, acceptLanguage);
         }
 
-        return ResponseEntity.ok(response);
+        return TranslationResponses.ok(response, partial);
     }
 
 
@@ -152,6 +154,4 @@ public class ReviewController {
         reviewService.deleteReview(reviewId);
         return ResponseEntity.ok(Response.successMessage("Review가 삭제되었습니다."));
     }
-
-
-}
\ No newline at end of file
+}
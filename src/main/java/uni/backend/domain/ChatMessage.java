@@ -6,6 +6,7 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(indexes = @Index(name = "idx_chat_message_room_message", columnList = "chatroom_id, message_id"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -15,6 +16,7 @@ public class ChatMessage {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "message_id")
     private Integer messageId; // message_id 필드
 
     @ManyToOne
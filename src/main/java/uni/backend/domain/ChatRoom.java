@@ -6,6 +6,10 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
+@Table(indexes = {
+    @Index(name = "idx_chat_room_sender_stale", columnList = "receiverLastMessageAt, senderUnreadCount"),
+    @Index(name = "idx_chat_room_receiver_stale", columnList = "senderLastMessageAt, receiverUnreadCount")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,30 @@
+package uni.backend.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 첫 청크에서 끝나지 않은 유저 콘텐츠 블라인드 변경 작업. 유저마다 한 행이며 새 요청이 오면 덮어쓴다.
+ */
+@Entity
+@Table(indexes = @Index(name = "idx_content_blind_task_next_attempt", columnList = "nextAttemptAt"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ContentBlindTask {
+
+    @Id
+    private Integer userId;
+
+    private boolean blind; // 적용할 블라인드 상태
+
+    private long revision; // 요청마다 증가, 처리 중 새 요청이 들어왔는지 확인
+
+    private LocalDateTime nextAttemptAt; // 다음 처리 시각 (처리 중에는 다른 인스턴스가 가져가지 않도록 임대 만료 시각)
+
+    private LocalDateTime requestedAt;
+}
@@ -0,0 +1,73 @@
+package uni.backend.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(
+    uniqueConstraints = @UniqueConstraint(columnNames = {"contentType", "contentId", "language"}),
+    indexes = @Index(columnList = "status, nextAttemptAt")
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ContentTranslation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 32)
+    private TranslatedContentType contentType;
+
+    @Column(nullable = false)
+    private Integer contentId;
+
+    @Column(nullable = false, length = 8)
+    private String language; // en, zh
+
+    @Column(columnDefinition = "TEXT")
+    private String sourceText;
+
+    @Column(length = 64)
+    private String sourceHash; // 원문 SHA-256, 원문이 바뀌면 다시 번역
+
+    @Column(columnDefinition = "TEXT")
+    private String translatedText;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Status status;
+
+    private int attempts;
+
+    private LocalDateTime nextAttemptAt;
+
+    private LocalDateTime updatedAt;
+
+    public enum Status {
+        PENDING, // 번역 대기 (재시도 포함)
+        DONE,
+        FAILED   // 재시도 횟수 초과
+    }
+
+    // 현재 화면에 보이는 원문에 대한 번역인지 확인 (수정/블라인드된 글에는 적용하지 않음)
+    public boolean isTranslationOf(String hash) {
+        return status == Status.DONE && translatedText != null && hash != null
+            && hash.equals(sourceHash);
+    }
+}
@@ -0,0 +1,52 @@
+package uni.backend.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 홈 화면 카드용 읽기 모델. 프로필, 유저, 해시태그를 펼쳐서 한 행으로 저장한다.
+ */
+@Entity
+@Table(indexes = {
+    @Index(name = "idx_home_card_visible_created", columnList = "visible, createdAt"),
+    @Index(name = "idx_home_card_visible_star", columnList = "visible, star"),
+    @Index(name = "idx_home_card_univ_visible_created", columnList = "univName, visible, createdAt"),
+    @Index(name = "idx_home_card_univ_visible_star", columnList = "univName, visible, star")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class HomeCard {
+
+    @Id
+    private Integer profileId;
+
+    @Column(nullable = false, unique = true)
+    private Integer userId;
+
+    private String name;
+
+    private String imgProf;
+
+    private Double star;
+
+    private String univName;
+
+    @Convert(converter = StringListConverter.class)
+    @Column(columnDefinition = "TEXT")
+    private List<String> hashtags;
+
+    private LocalDateTime createdAt;
+
+    private boolean visible; // 한국인 + 프로필 공개 + 제재 아님
+}
@@ -0,0 +1,47 @@
+package uni.backend.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MailDeadLetter {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private String fromAddress;
+    private String toAddress;
+    private String subject;
+
+    @Column(columnDefinition = "TEXT")
+    private String body;
+
+    private int attempts;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    private LocalDateTime createdAt; // 처음 큐에 들어간 시각
+    private LocalDateTime failedAt; // 재시도를 포기한 시각
+
+    public static MailDeadLetter from(MailOutbox mail) {
+        return MailDeadLetter.builder()
+            .fromAddress(mail.getFromAddress())
+            .toAddress(mail.getToAddress())
+            .subject(mail.getSubject())
+            .body(mail.getBody())
+            .attempts(mail.getAttempts())
+            .lastError(mail.getLastError())
+            .createdAt(mail.getCreatedAt())
+            .failedAt(LocalDateTime.now())
+            .build();
+    }
+}
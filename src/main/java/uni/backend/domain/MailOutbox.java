@@ -0,0 +1,48 @@
+package uni.backend.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(indexes = @Index(name = "idx_mail_outbox_next_attempt", columnList = "nextAttemptAt"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MailOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String fromAddress;
+
+    @Column(nullable = false)
+    private String toAddress; // 수신자 한 명당 한 행
+
+    private String subject;
+
+    @Column(columnDefinition = "TEXT")
+    private String body;
+
+    private int attempts; // 실패한 발송 시도 횟수
+
+    private LocalDateTime nextAttemptAt; // 다음 발송 시각 (발송 중에는 다른 워커가 가져가지 않도록 임대 만료 시각)
+
+    @Column(length = 1000)
+    private String lastError;
+
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    public void prePersist() {
+        this.createdAt = LocalDateTime.now();
+        if (this.nextAttemptAt == null) {
+            this.nextAttemptAt = this.createdAt;
+        }
+    }
+}
@@ -55,6 +55,13 @@ public class Profile {
     @Column(nullable = true) // null 허용
     private Double star;
 
+    // 삭제되지 않은 리뷰 수와 별점 합계 (null 이면 아직 집계 전)
+    @Column(nullable = true)
+    private Integer reviewCount;
+
+    @Column(nullable = true)
+    private Long starSum;
+
     @Column(nullable = true) // null 허용
     private String time;
 
@@ -79,6 +86,8 @@ public class Profile {
         this.createdAt = LocalDateTime.now();
         this.numEmployment = 0;
         this.star = 0.0;
+        this.reviewCount = 0;
+        this.starSum = 0L;
         if (this.imgProf == null) {
             this.imgProf = "/profile-image.png";
         }
@@ -92,6 +101,25 @@ public class Profile {
         this.updatedAt = LocalDateTime.now();
     }
 
+    // 리뷰 작성/수정/삭제에 따른 증감만 반영하고 평균 별점을 다시 계산
+    public void applyReviewDelta(int countDelta, long starDelta) {
+        resetReviewStats(this.reviewCount + countDelta, this.starSum + starDelta);
+    }
+
+    public void resetReviewStats(int reviewCount, long starSum) {
+        this.reviewCount = Math.max(reviewCount, 0);
+        this.starSum = this.reviewCount == 0 ? 0L : starSum;
+        this.star = averageStar(this.reviewCount, this.starSum);
+    }
+
+    // 소수점 둘째 자리로 반올림한 평균 별점
+    public static double averageStar(int reviewCount, long starSum) {
+        if (reviewCount <= 0) {
+            return 0.0;
+        }
+        return Math.round((double) starSum / reviewCount * 100.0) / 100.0;
+    }
+
     public void hideProfile() {
         this.isVisible = false;
     }
@@ -0,0 +1,10 @@
+package uni.backend.domain;
+
+/**
+ * 홈 화면에 보이는 프로필 정보(해시태그, 별점, 공개 여부, 제재 상태 등)가 바뀌었음을 알리는 이벤트.
+ *
+ * @param userId 프로필 주인 ID
+ */
+public record ProfileChangedEvent(Integer userId) {
+
+}
@@ -8,10 +8,13 @@ import lombok.Setter;
 import java.util.List;
 
 @Entity
+@Table(indexes = @Index(name = "idx_qna_commenter_blind", columnList = "commenter_id, isBlind"))
 @Getter
 @Setter
 public class Qna {
 
+    public static final String BLIND_MESSAGE = "이 QnA는 블라인드 처리되었습니다.";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Integer qnaId;
@@ -41,7 +44,7 @@ public class Qna {
     private boolean isBlind = false; // 블라인드 여부
 
     public String getBlindQna() {
-        return isBlind ? "이 QnA는 블라인드 처리되었습니다." : content;
+        return isBlind ? BLIND_MESSAGE : content;
     }
 
     public void blindQna() {
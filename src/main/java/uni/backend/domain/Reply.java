@@ -6,10 +6,13 @@ import lombok.Getter;
 import lombok.Setter;
 
 @Entity
+@Table(indexes = @Index(name = "idx_reply_commenter_blind", columnList = "user_id, isBlind"))
 @Getter
 @Setter
 public class Reply {
 
+    public static final String BLIND_MESSAGE = "이 대댓글은 블라인드 처리되었습니다.";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Integer replyId;
@@ -77,7 +80,7 @@ public class Reply {
     }
 
     public String getBlindReply() {
-        return isBlind ? "이 대댓글은 블라인드 처리되었습니다." : content;
+        return isBlind ? BLIND_MESSAGE : content;
     }
 
     public Reply() {
@@ -0,0 +1,26 @@
+package uni.backend.domain;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import java.util.Arrays;
+import java.util.List;
+
+// 문자열 목록을 구분자로 이어 한 컬럼에 저장
+@Converter
+public class StringListConverter implements AttributeConverter<List<String>, String> {
+
+    private static final String DELIMITER = "\u001F";
+
+    @Override
+    public String convertToDatabaseColumn(List<String> values) {
+        return values == null ? null : String.join(DELIMITER, values);
+    }
+
+    @Override
+    public List<String> convertToEntityAttribute(String column) {
+        if (column == null || column.isEmpty()) {
+            return List.of();
+        }
+        return Arrays.asList(column.split(DELIMITER));
+    }
+}
@@ -0,0 +1,11 @@
+package uni.backend.domain;
+
+
+public enum TranslatedContentType {
+    PROFILE_DESCRIPTION, // 프로필 소개글 (contentId = userId)
+    PROFILE_REGION,      // 프로필 지역 (contentId = userId)
+    QNA,
+    REPLY,
+    REVIEW,
+    REVIEW_REPLY
+}
@@ -0,0 +1,35 @@
+package uni.backend.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TranslationCacheEntry {
+
+    @Id
+    @Column(length = 64)
+    private String cacheKey; // (원문, 출발 언어, 도착 언어, 용어집) SHA-256 해시
+
+    @Column(length = 8)
+    private String sourceLang;
+
+    @Column(length = 8)
+    private String targetLang;
+
+    @Column(columnDefinition = "TEXT")
+    private String translatedText;
+
+    @Column(length = 8)
+    private String detectedSourceLanguage;
+
+    private LocalDateTime createdAt;
+}
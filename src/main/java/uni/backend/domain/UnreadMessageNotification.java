@@ -0,0 +1,36 @@
+package uni.backend.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_unread_notification_user_date",
+    columnNames = {"user_id", "notified_on"}))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UnreadMessageNotification {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Integer userId; // 알림을 받은 유저 ID
+
+    @Column(nullable = false)
+    private String email;
+
+    private int roomCount; // 안 읽은 메시지가 쌓여 있던 채팅방 수
+    private long unreadCount; // 안 읽은 메시지 수 합계
+
+    @Column(name = "notified_on", nullable = false)
+    private LocalDate notifiedOn; // 알림 기준 날짜 (같은 날 한 번만 발송)
+
+    private LocalDateTime sentAt;
+}
@@ -0,0 +1,15 @@
+package uni.backend.domain;
+
+/**
+ * 유저 상태(활성/제재 등)가 바뀌었음을 알리는 이벤트. 커밋된 뒤에 제재 유저 목록과 인증 캐시에 반영한다.
+ *
+ * @param userId 유저 ID
+ * @param email  인증 캐시에서 제거할 유저 이메일
+ * @param status 바뀐 상태
+ */
+public record UserStatusChangedEvent(Integer userId, String email, UserStatus status) {
+
+    public static UserStatusChangedEvent of(User user) {
+        return new UserStatusChangedEvent(user.getUserId(), user.getEmail(), user.getStatus());
+    }
+}
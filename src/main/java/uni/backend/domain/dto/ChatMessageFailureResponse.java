@@ -0,0 +1,16 @@
+package uni.backend.domain.dto;
+
+import lombok.*;
+
+// 저장에 실패해 브로드캐스트되지 않은 메시지 (보낸 사람이 다시 보낼 수 있도록 내용을 돌려줌)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChatMessageFailureResponse {
+
+    private Integer roomId;
+    private String content;
+    private String error;
+}
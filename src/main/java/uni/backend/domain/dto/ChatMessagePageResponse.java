@@ -0,0 +1,18 @@
+package uni.backend.domain.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChatMessagePageResponse {
+
+    private List<ChatMessageResponse> messages; // 오래된 순으로 정렬된 메시지
+    private Integer beforeCursor; // 더 이전 메시지 조회 시 before 값으로 사용
+    private Integer afterCursor; // 새 메시지 조회 시 after 값으로 사용
+    private boolean hasMore; // 조회 방향으로 남은 메시지가 있는지 여부
+}
@@ -0,0 +1,21 @@
+package uni.backend.domain.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChatRoomSummaryResponse {
+
+    private Integer chatRoomId;
+    private Integer otherId;
+    private String otherName;
+    private String otherImgProf;
+    private String lastMessage; // 마지막 메시지 내용
+    private LocalDateTime lastMessageAt; // 마지막 메시지 전송 시간
+    private Long unreadCount;
+}
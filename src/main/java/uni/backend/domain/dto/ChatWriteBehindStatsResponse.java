@@ -0,0 +1,23 @@
+package uni.backend.domain.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChatWriteBehindStatsResponse {
+
+    private boolean enabled;
+    private int queueDepth; // 저장 대기 중인 메시지 수
+    private int queueCapacity;
+    private long enqueuedCount;
+    private long persistedCount;
+    private long rejectedCount; // 큐가 가득 차 거절된 메시지 수
+    private long failedCount; // 재시도 후에도 저장에 실패한 메시지 수
+    private long flushCount;
+    private long lastFlushMillis;
+    private long maxFlushMillis;
+    private double averageFlushMillis;
+}
@@ -0,0 +1,19 @@
+package uni.backend.domain.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class HomeResponseCacheStatsResponse {
+
+    private boolean enabled;
+    private int size;
+    private int maxEntries;
+    private long hits;
+    private long misses;
+    private long invalidations; // 프로필 변경으로 전체를 비운 횟수
+    private double hitRatio;
+}
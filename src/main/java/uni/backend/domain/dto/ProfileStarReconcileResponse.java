@@ -0,0 +1,14 @@
+package uni.backend.domain.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProfileStarReconcileResponse {
+
+    private int profilesChecked;
+    private int profilesCorrected; // 저장된 집계 값이 실제 리뷰와 달라 다시 쓴 프로필 수
+}
@@ -0,0 +1,22 @@
+package uni.backend.domain.dto;
+
+import lombok.*;
+
+/**
+ * Q&A 목록 조회용 프로젝션. 작성자와 작성자 프로필 이미지를 조인해 한 번에 조회한다.
+ */
+@Getter
+@AllArgsConstructor
+public class QnaRow {
+
+    private Integer qnaId;
+    private Integer profileOwnerId;
+    private String profileOwnerName;
+    private Integer commenterId;
+    private String commenterName;
+    private String commenterImgProf;
+    private String content;
+    private Boolean isBlind;
+    private Boolean deleted;
+    private Long likes;
+}
@@ -12,5 +12,6 @@ import java.util.List;
 public class ReadMessagesRequest {
     private Integer roomId;
     private List<Integer> messageIds;
+    private Integer lastReadMessageId; // 이 메시지까지 읽음 처리
 }
 
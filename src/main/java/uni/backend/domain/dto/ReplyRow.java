@@ -0,0 +1,21 @@
+package uni.backend.domain.dto;
+
+import lombok.*;
+
+/**
+ * Q&A 대댓글 목록 조회용 프로젝션.
+ */
+@Getter
+@AllArgsConstructor
+public class ReplyRow {
+
+    private Integer replyId;
+    private Integer qnaId;
+    private Integer commenterId;
+    private String commenterName;
+    private String commenterImgProf;
+    private String content;
+    private Boolean isBlind;
+    private Boolean deleted;
+    private Long likes;
+}
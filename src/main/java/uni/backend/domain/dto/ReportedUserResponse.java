@@ -17,7 +17,8 @@ public class ReportedUserResponse {
     private Integer userId;
     private String email;
     private Long reportCount;
-    private List<ReportDetail> reports; // 신고 세부 정보 리스트
+    private LocalDateTime latestReportedAt; // 가장 최근 신고 날짜
+    private List<ReportDetail> reports; // 신고 세부 정보 리스트 (목록 조회에서는 비어 있음, 유저별 신고 내역 API 로 조회)
 
     @Getter
     @Setter
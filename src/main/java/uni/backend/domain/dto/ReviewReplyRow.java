@@ -0,0 +1,42 @@
+package uni.backend.domain.dto;
+
+import java.time.LocalDateTime;
+import lombok.*;
+import uni.backend.domain.Profile;
+import uni.backend.domain.ReviewReply;
+
+/**
+ * 리뷰 대댓글 목록 조회용 프로젝션.
+ */
+@Getter
+@AllArgsConstructor
+public class ReviewReplyRow {
+
+    private Integer replyId;
+    private Integer reviewId;
+    private Integer commenterId;
+    private String commenterName;
+    private String commenterImgProf;
+    private String content;
+    private Long likes;
+    private Boolean deleted;
+    private Boolean isBlind;
+    private LocalDateTime deletedTime;
+    private LocalDateTime updatedTime;
+
+    public static ReviewReplyRow from(ReviewReply reply) {
+        Profile commenterProfile = reply.getCommenter().getProfile();
+        return new ReviewReplyRow(
+            reply.getReplyId(),
+            reply.getReview().getReviewId(),
+            reply.getCommenter().getUserId(),
+            reply.getCommenter().getName(),
+            commenterProfile != null ? commenterProfile.getImgProf() : null,
+            reply.getContent(),
+            reply.getLikes(),
+            reply.getDeleted(),
+            reply.getIsBlind(),
+            reply.getDeletedTime(),
+            reply.getUpdatedTime());
+    }
+}
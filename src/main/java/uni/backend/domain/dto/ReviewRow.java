@@ -0,0 +1,46 @@
+package uni.backend.domain.dto;
+
+import java.time.LocalDateTime;
+import lombok.*;
+import uni.backend.domain.Profile;
+import uni.backend.domain.Review;
+
+/**
+ * 리뷰 목록 조회용 프로젝션. 연관 엔티티를 로딩하지 않고 응답에 필요한 컬럼만 한 번에 조회한다.
+ */
+@Getter
+@AllArgsConstructor
+public class ReviewRow {
+
+    private Integer reviewId;
+    private Integer profileOwnerId;
+    private String profileOwnerName;
+    private Integer commenterId;
+    private String commenterName;
+    private String commenterImgProf;
+    private String content;
+    private Integer star;
+    private Long likes;
+    private Boolean deleted;
+    private Boolean isBlind;
+    private LocalDateTime deletedTime;
+    private LocalDateTime updatedTime;
+
+    public static ReviewRow from(Review review) {
+        Profile commenterProfile = review.getCommenter().getProfile();
+        return new ReviewRow(
+            review.getReviewId(),
+            review.getProfileOwner().getUserId(),
+            review.getProfileOwner().getName(),
+            review.getCommenter().getUserId(),
+            review.getCommenter().getName(),
+            commenterProfile != null ? commenterProfile.getImgProf() : null,
+            review.getContent(),
+            review.getStar(),
+            review.getLikes(),
+            review.getDeleted(),
+            review.getIsBlind(),
+            review.getDeletedTime(),
+            review.getUpdatedTime());
+    }
+}
@@ -0,0 +1,19 @@
+package uni.backend.domain.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TranslationCacheStatsResponse {
+
+    private int heapSize;
+    private int heapCapacity;
+    private long heapHits;
+    private long databaseHits;
+    private long misses; // DeepL 로 요청한 문장 수
+    private long storedCount;
+    private double hitRatio;
+}
@@ -1,12 +1,38 @@
 package uni.backend.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import uni.backend.domain.ChatMessage;
-import uni.backend.domain.ChatRoom;
 
 import java.util.List;
 
 public interface ChatMessageRepository extends JpaRepository<ChatMessage, Integer> {
 
-    List<ChatMessage> findByChatRoom(ChatRoom chatRoom);
+    // 가장 최근 메시지부터 조회
+    List<ChatMessage> findByChatRoom_ChatRoomIdOrderByMessageIdDesc(Integer roomId, Pageable pageable);
+
+    // 커서(messageId) 이전의 메시지를 최신순으로 조회
+    List<ChatMessage> findByChatRoom_ChatRoomIdAndMessageIdLessThanOrderByMessageIdDesc(
+        Integer roomId, Integer messageId, Pageable pageable);
+
+    // 커서(messageId) 이후의 메시지를 오래된 순으로 조회
+    List<ChatMessage> findByChatRoom_ChatRoomIdAndMessageIdGreaterThanOrderByMessageIdAsc(
+        Integer roomId, Integer messageId, Pageable pageable);
+
+    // 채팅방에서 특정 사용자가 받은 안 읽은 메시지를 모두 읽음 처리
+    @Modifying
+    @Query("UPDATE ChatMessage m SET m.isRead = true " +
+        "WHERE m.chatRoom.chatRoomId = :roomId AND m.receiver.userId = :receiverId AND m.isRead = false")
+    int markAllAsRead(@Param("roomId") Integer roomId, @Param("receiverId") Integer receiverId);
+
+    // 채팅방에서 특정 사용자가 받은 메시지를 messageId 까지 읽음 처리
+    @Modifying
+    @Query("UPDATE ChatMessage m SET m.isRead = true " +
+        "WHERE m.chatRoom.chatRoomId = :roomId AND m.receiver.userId = :receiverId " +
+        "AND m.isRead = false AND m.messageId <= :messageId")
+    int markAsReadUpTo(@Param("roomId") Integer roomId, @Param("receiverId") Integer receiverId,
+        @Param("messageId") Integer messageId);
 }
@@ -1,9 +1,14 @@
 package uni.backend.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import uni.backend.domain.ChatRoom;
 import uni.backend.domain.User;
+import uni.backend.domain.dto.ChatRoomSummaryResponse;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,4 +18,69 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Integer> {
 
     List<ChatRoom> findBySenderOrReceiver(User sender,
         User receiver); // 사용자(sender 또는 receiver)에 관련된 채팅방 모두 조회
+
+    // 사용자의 채팅방 목록을 마지막 메시지, 상대방 프로필 이미지와 함께 최근 활동순으로 조회
+    @Query("SELECT new uni.backend.domain.dto.ChatRoomSummaryResponse(" +
+        "r.chatRoomId, o.userId, o.name, p.imgProf, m.content, m.sendAt, " +
+        "CASE WHEN r.sender.userId = :userId THEN r.senderUnreadCount ELSE r.receiverUnreadCount END) " +
+        "FROM ChatRoom r " +
+        "JOIN User o ON o.userId = " +
+        "CASE WHEN r.sender.userId = :userId THEN r.receiver.userId ELSE r.sender.userId END " +
+        "LEFT JOIN Profile p ON p.user = o " +
+        "LEFT JOIN ChatMessage m ON m.chatRoom = r AND m.messageId = " +
+        "(SELECT MAX(m2.messageId) FROM ChatMessage m2 WHERE m2.chatRoom = r) " +
+        "WHERE r.sender.userId = :userId OR r.receiver.userId = :userId " +
+        "ORDER BY COALESCE(m.sendAt, r.createdAt) DESC")
+    List<ChatRoomSummaryResponse> findRoomSummariesByUserId(@Param("userId") Integer userId);
+
+    // 채팅방에서 해당 사용자 쪽의 안 읽은 메시지 수를 0으로 초기화
+    @Modifying
+    @Query("UPDATE ChatRoom r SET " +
+        "r.senderUnreadCount = CASE WHEN r.sender.userId = :userId THEN 0 ELSE r.senderUnreadCount END, " +
+        "r.receiverUnreadCount = CASE WHEN r.receiver.userId = :userId THEN 0 ELSE r.receiverUnreadCount END " +
+        "WHERE r.chatRoomId = :roomId")
+    int resetUnreadCount(@Param("roomId") Integer roomId, @Param("userId") Integer userId);
+
+    // 채팅방에서 해당 사용자 쪽의 안 읽은 메시지 수를 readCount 만큼 감소 (0 미만으로 내려가지 않음)
+    @Modifying
+    @Query("UPDATE ChatRoom r SET " +
+        "r.senderUnreadCount = CASE WHEN r.sender.userId = :userId " +
+        "THEN (CASE WHEN r.senderUnreadCount > :readCount THEN r.senderUnreadCount - :readCount ELSE 0 END) " +
+        "ELSE r.senderUnreadCount END, " +
+        "r.receiverUnreadCount = CASE WHEN r.receiver.userId = :userId " +
+        "THEN (CASE WHEN r.receiverUnreadCount > :readCount THEN r.receiverUnreadCount - :readCount ELSE 0 END) " +
+        "ELSE r.receiverUnreadCount END " +
+        "WHERE r.chatRoomId = :roomId")
+    int decreaseUnreadCount(@Param("roomId") Integer roomId, @Param("userId") Integer userId,
+        @Param("readCount") long readCount);
+
+    // 채팅방 sender 가 메시지를 보낸 경우: 마지막 전송 시간 갱신 및 receiver 의 안 읽은 메시지 수 증가
+    @Modifying
+    @Query("UPDATE ChatRoom r SET r.senderLastMessageAt = :sentAt, " +
+        "r.receiverUnreadCount = r.receiverUnreadCount + :count WHERE r.chatRoomId = :roomId")
+    int increaseReceiverUnreadCount(@Param("roomId") Integer roomId, @Param("sentAt") LocalDateTime sentAt,
+        @Param("count") long count);
+
+    // 채팅방 receiver 가 메시지를 보낸 경우: 마지막 전송 시간 갱신 및 sender 의 안 읽은 메시지 수 증가
+    @Modifying
+    @Query("UPDATE ChatRoom r SET r.receiverLastMessageAt = :sentAt, " +
+        "r.senderUnreadCount = r.senderUnreadCount + :count WHERE r.chatRoomId = :roomId")
+    int increaseSenderUnreadCount(@Param("roomId") Integer roomId, @Param("sentAt") LocalDateTime sentAt,
+        @Param("count") long count);
+
+    // 상대가 마지막으로 보낸 메시지가 cutoff 이전인데 아직 안 읽은 메시지가 있는 유저를 userId 순으로 조회
+    // (userId, email, 채팅방 수, 안 읽은 메시지 수 합계), afterUserId 이후부터 limit 명씩 키셋 페이지네이션
+    @Query(value = "SELECT s.user_id, u.email, COUNT(*), SUM(s.unread_count) FROM (" +
+        "SELECT r.sender_id AS user_id, r.sender_unread_count AS unread_count FROM chat_room r " +
+        "WHERE r.sender_unread_count > 0 AND r.receiver_last_message_at < :cutoff " +
+        "UNION ALL " +
+        "SELECT r.receiver_id, r.receiver_unread_count FROM chat_room r " +
+        "WHERE r.receiver_unread_count > 0 AND r.sender_last_message_at < :cutoff" +
+        ") s JOIN user u ON u.user_id = s.user_id " +
+        "WHERE s.user_id > :afterUserId " +
+        "GROUP BY s.user_id, u.email " +
+        "ORDER BY s.user_id " +
+        "LIMIT :limit", nativeQuery = true)
+    List<Object[]> findStaleUnreadRecipients(@Param("cutoff") LocalDateTime cutoff,
+        @Param("afterUserId") Integer afterUserId, @Param("limit") int limit);
 }
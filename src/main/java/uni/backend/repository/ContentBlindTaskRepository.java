@@ -0,0 +1,29 @@
+package uni.backend.repository;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import uni.backend.domain.ContentBlindTask;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface ContentBlindTaskRepository extends JpaRepository<ContentBlindTask, Integer> {
+
+    // 처리할 때가 된 작업을 행 잠금으로 조회, 다른 인스턴스가 잠근 행은 건너뜀 (lock.timeout -2 = SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT t FROM ContentBlindTask t WHERE t.nextAttemptAt <= :now ORDER BY t.nextAttemptAt, t.userId")
+    List<ContentBlindTask> findDueForUpdate(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 청크를 처리하는 동안 같은 유저의 새 요청이 끼어들지 않도록 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM ContentBlindTask t WHERE t.userId = :userId")
+    Optional<ContentBlindTask> findByIdForUpdate(@Param("userId") Integer userId);
+}
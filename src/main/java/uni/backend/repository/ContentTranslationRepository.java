@@ -0,0 +1,61 @@
+package uni.backend.repository;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import uni.backend.domain.ContentTranslation;
+import uni.backend.domain.TranslatedContentType;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface ContentTranslationRepository extends JpaRepository<ContentTranslation, Long> {
+
+    List<ContentTranslation> findByContentTypeAndContentId(TranslatedContentType contentType,
+        Integer contentId);
+
+    List<ContentTranslation> findByContentTypeAndLanguageAndStatusAndContentIdIn(
+        TranslatedContentType contentType, String language, ContentTranslation.Status status,
+        Collection<Integer> contentIds);
+
+    // 번역할 때가 된 행을 행 잠금으로 조회, 다른 인스턴스가 잠근 행은 건너뜀 (lock.timeout -2 = SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT t FROM ContentTranslation t " +
+        "WHERE t.status = uni.backend.domain.ContentTranslation.Status.PENDING " +
+        "AND t.nextAttemptAt <= :now ORDER BY t.nextAttemptAt, t.id")
+    List<ContentTranslation> findDueForUpdate(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 원문 글이 삭제되면 번역도 함께 삭제
+    @Modifying
+    @Query("DELETE FROM ContentTranslation t " +
+        "WHERE t.contentType = :contentType AND t.contentId = :contentId")
+    int deleteByContent(@Param("contentType") TranslatedContentType contentType,
+        @Param("contentId") Integer contentId);
+
+    // 번역 도중 원문이 수정되었으면(sourceHash 변경) 갱신하지 않음
+    @Transactional
+    @Modifying
+    @Query("UPDATE ContentTranslation t SET t.translatedText = :translatedText, " +
+        "t.status = uni.backend.domain.ContentTranslation.Status.DONE, t.updatedAt = :now " +
+        "WHERE t.id = :id AND t.sourceHash = :sourceHash")
+    int complete(@Param("id") Long id, @Param("sourceHash") String sourceHash,
+        @Param("translatedText") String translatedText, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE ContentTranslation t SET t.attempts = :attempts, t.status = :status, " +
+        "t.nextAttemptAt = :nextAttemptAt, t.updatedAt = :now " +
+        "WHERE t.id = :id AND t.sourceHash = :sourceHash")
+    int reschedule(@Param("id") Long id, @Param("sourceHash") String sourceHash,
+        @Param("attempts") int attempts, @Param("status") ContentTranslation.Status status,
+        @Param("nextAttemptAt") LocalDateTime nextAttemptAt, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,29 @@
+package uni.backend.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import uni.backend.domain.HomeCard;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface HomeCardRepository extends JpaRepository<HomeCard, Integer> {
+
+    List<HomeCard> findByProfileIdIn(Collection<Integer> profileIds);
+
+    // (visible, createdAt/star), (univName, visible, createdAt/star) 인덱스 범위 스캔
+    Page<HomeCard> findByVisibleTrue(Pageable pageable);
+
+    Page<HomeCard> findByUnivNameAndVisibleTrue(String univName, Pageable pageable);
+
+    @Query("SELECT c.userId FROM HomeCard c")
+    List<Integer> findAllUserIds();
+
+    @Modifying
+    @Query("DELETE FROM HomeCard c WHERE c.userId = :userId")
+    void deleteByUserId(@Param("userId") Integer userId);
+}
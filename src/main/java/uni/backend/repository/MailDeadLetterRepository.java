@@ -0,0 +1,8 @@
+package uni.backend.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import uni.backend.domain.MailDeadLetter;
+
+public interface MailDeadLetterRepository extends JpaRepository<MailDeadLetter, Long> {
+
+}
@@ -7,6 +7,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -28,6 +29,10 @@ public interface ProfileRepository extends JpaRepository<Profile, Integer> { //
     @EntityGraph(attributePaths = {"mainCategories.hashtag"})
     List<Profile> findByUser_Role(Role role);
 
+    // 홈 카드 대상(역할별) 유저 ID
+    @Query("SELECT p.user.userId FROM Profile p WHERE p.user.role = :role")
+    List<Integer> findUserIdsByRole(@Param("role") Role role);
+
     Optional<Profile> findByUser(User user); // User 객체를 통해 Profile 조회
 
     @Query("SELECT DISTINCT p FROM Profile p " +
@@ -47,5 +52,30 @@ public interface ProfileRepository extends JpaRepository<Profile, Integer> { //
         @Param("hashtags") List<String> hashtags,
         @Param("hashtagsSize") int hashtagsSize,
         Pageable pageable);
-}
 
+    // 검색 인덱스용: 노출 가능한 한국인 프로필 (profileId, userId, univName, star, createdAt)
+    @Query("SELECT p.profileId, u.userId, u.univName, p.star, p.createdAt FROM Profile p " +
+        "JOIN p.user u " +
+        "WHERE u.role = 'KOREAN' AND u.status <> 'BANNED' AND p.isVisible = true " +
+        "AND (:userId IS NULL OR u.userId = :userId)")
+    List<Object[]> findSearchIndexRows(@Param("userId") Integer userId);
+
+    // 검색 인덱스용: 프로필별 해시태그 (profileId, hashtagId, hashtagName)
+    @Query("SELECT p.profileId, h.hashtagId, h.hashtagName FROM MainCategory mc " +
+        "JOIN mc.profile p " +
+        "JOIN mc.hashtag h " +
+        "WHERE (:userId IS NULL OR p.user.userId = :userId)")
+    List<Object[]> findSearchIndexHashtags(@Param("userId") Integer userId);
+
+    // 별점 정합성 점검용: 저장된 집계 값 (userId, reviewCount, starSum, star)
+    @Query("SELECT p.user.userId, p.reviewCount, p.starSum, p.star FROM Profile p " +
+        "WHERE p.user IS NOT NULL")
+    List<Object[]> findReviewStats();
+
+    @Modifying
+    @Query("UPDATE Profile p SET p.reviewCount = :reviewCount, p.starSum = :starSum, " +
+        "p.star = :star WHERE p.user.userId = :userId")
+    int updateReviewStats(@Param("userId") Integer userId,
+        @Param("reviewCount") Integer reviewCount, @Param("starSum") Long starSum,
+        @Param("star") Double star);
+}
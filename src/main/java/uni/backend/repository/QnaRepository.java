@@ -1,13 +1,17 @@
 package uni.backend.repository;
 
 import java.util.List;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import uni.backend.domain.Profile;
 import uni.backend.domain.Qna;
+import uni.backend.domain.dto.QnaRow;
 
 @Repository
 public interface QnaRepository extends JpaRepository<Qna, Integer> {
@@ -15,6 +19,19 @@ public interface QnaRepository extends JpaRepository<Qna, Integer> {
     // 특정 유저의 QnA 조회
     List<Qna> findByProfileOwnerUserId(Integer userId);
 
+    // Q&A 목록 조회용: 최신순 페이지를 작성자 정보와 함께 조회
+    @Query(value = "SELECT new uni.backend.domain.dto.QnaRow(" +
+        "q.qnaId, o.userId, o.name, c.userId, c.name, cp.imgProf, " +
+        "q.content, q.isBlind, q.deleted, q.likes) " +
+        "FROM Qna q " +
+        "JOIN q.profileOwner o " +
+        "JOIN q.commenter c " +
+        "LEFT JOIN c.profile cp " +
+        "WHERE o.userId = :userId " +
+        "ORDER BY q.qnaId DESC",
+        countQuery = "SELECT COUNT(q) FROM Qna q WHERE q.profileOwner.userId = :userId")
+    Page<QnaRow> findQnaRowsByProfileOwner(@Param("userId") Integer userId, Pageable pageable);
+
     // 특정 유저의 블라인드 처리된 QnA 조회
     List<Qna> findByCommenter_UserId(Integer userId);
 
@@ -22,4 +39,12 @@ public interface QnaRepository extends JpaRepository<Qna, Integer> {
     @Modifying
     @Query("UPDATE Qna q SET q.isBlind = :isBlind WHERE q.profileOwner.userId = :userId")
     void setBlindStatusByUserId(@Param("userId") Integer userId, @Param("isBlind") boolean isBlind);
+
+    // 작성자의 블라인드 상태를 청크 단위로 일괄 변경 (이미 같은 상태인 행은 건너뜀), 변경된 행 수 반환
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE qna SET is_blind = :isBlind " +
+        "WHERE commenter_id = :userId AND is_blind <> :isBlind LIMIT :limit", nativeQuery = true)
+    int updateBlindByCommenter(@Param("userId") Integer userId, @Param("isBlind") boolean isBlind,
+        @Param("limit") int limit);
 }
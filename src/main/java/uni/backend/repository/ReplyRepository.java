@@ -1,10 +1,16 @@
 package uni.backend.repository;
 
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import uni.backend.domain.Qna;
 import uni.backend.domain.Reply;
+import uni.backend.domain.dto.ReplyRow;
 
 @Repository
 public interface ReplyRepository extends JpaRepository<Reply, Integer> {
@@ -12,4 +18,23 @@ public interface ReplyRepository extends JpaRepository<Reply, Integer> {
     List<Reply> findByCommenter_UserId(Integer userId); // 작성자 ID로 답글 조회
 
     List<Reply> findByQna_QnaId(Integer qnaId);
-}
\ No newline at end of file
+
+    // Q&A 목록 조회용: 여러 Q&A 의 대댓글을 작성자 정보와 함께 쿼리 한 번으로 조회
+    @Query("SELECT new uni.backend.domain.dto.ReplyRow(" +
+        "r.replyId, r.qna.qnaId, c.userId, c.name, cp.imgProf, " +
+        "r.content, r.isBlind, r.deleted, r.likes) " +
+        "FROM Reply r " +
+        "JOIN r.commenter c " +
+        "LEFT JOIN c.profile cp " +
+        "WHERE r.qna.qnaId IN :qnaIds " +
+        "ORDER BY r.replyId")
+    List<ReplyRow> findReplyRowsByQnaIds(@Param("qnaIds") Collection<Integer> qnaIds);
+
+    // 작성자의 블라인드 상태를 청크 단위로 일괄 변경 (이미 같은 상태인 행은 건너뜀), 변경된 행 수 반환
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE reply SET is_blind = :isBlind " +
+        "WHERE user_id = :userId AND is_blind <> :isBlind LIMIT :limit", nativeQuery = true)
+    int updateBlindByCommenter(@Param("userId") Integer userId, @Param("isBlind") boolean isBlind,
+        @Param("limit") int limit);
+}
@@ -1,6 +1,10 @@
 package uni.backend.repository;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import uni.backend.domain.Report;
 
@@ -15,4 +19,32 @@ public interface ReportRepository extends JpaRepository<Report, Integer> {
 
     Report findFirstByReporterUserAndReportedUserOrderByReportedAtDesc(User reporter,
         User reported);
+
+    // 신고된 유저별 집계 (userId, email, 신고 수, 최근 신고 날짜) - 신고 수 많은 순
+    @Query(value = "SELECT u.userId, u.email, COUNT(r), MAX(r.reportedAt) FROM Report r " +
+        "JOIN r.reportedUser u " +
+        "GROUP BY u.userId, u.email " +
+        "ORDER BY COUNT(r) DESC, MAX(r.reportedAt) DESC",
+        countQuery = "SELECT COUNT(DISTINCT r.reportedUser.userId) FROM Report r")
+    Page<Object[]> findReportedUserSummariesByCount(Pageable pageable);
+
+    // 신고된 유저별 집계 - 최근 신고 순
+    @Query(value = "SELECT u.userId, u.email, COUNT(r), MAX(r.reportedAt) FROM Report r " +
+        "JOIN r.reportedUser u " +
+        "GROUP BY u.userId, u.email " +
+        "ORDER BY MAX(r.reportedAt) DESC, COUNT(r) DESC",
+        countQuery = "SELECT COUNT(DISTINCT r.reportedUser.userId) FROM Report r")
+    Page<Object[]> findReportedUserSummariesByRecency(Pageable pageable);
+
+    // 특정 유저의 신고 내역 최신순
+    // (id, title, category, reason, detailedReason, reportedAt, 신고한 사람 이름, 신고당한 사람 이름)
+    @Query(value = "SELECT r.id, r.title, r.category, r.reason, r.detailedReason, r.reportedAt, " +
+        "reporter.name, reported.name FROM Report r " +
+        "JOIN r.reporterUser reporter " +
+        "JOIN r.reportedUser reported " +
+        "WHERE reported.userId = :userId " +
+        "ORDER BY r.reportedAt DESC, r.id DESC",
+        countQuery = "SELECT COUNT(r) FROM Report r WHERE r.reportedUser.userId = :userId")
+    Page<Object[]> findReportDetailsByReportedUser(@Param("userId") Integer userId,
+        Pageable pageable);
 }
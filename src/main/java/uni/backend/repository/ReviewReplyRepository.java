@@ -1,7 +1,13 @@
 package uni.backend.repository;
 
+import java.util.Collection;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import uni.backend.domain.ReviewReply;
+import uni.backend.domain.dto.ReviewReplyRow;
 
 import java.util.List;
 
@@ -11,4 +17,23 @@ public interface ReviewReplyRepository extends JpaRepository<ReviewReply, Intege
     
 
     List<ReviewReply> findByReview_ReviewId(Integer reviewId);
-}
\ No newline at end of file
+
+    // 리뷰 목록 조회용: 여러 리뷰의 대댓글을 작성자 정보와 함께 쿼리 한 번으로 조회
+    @Query("SELECT new uni.backend.domain.dto.ReviewReplyRow(" +
+        "rr.replyId, rr.review.reviewId, c.userId, c.name, cp.imgProf, " +
+        "rr.content, rr.likes, rr.deleted, rr.isBlind, rr.deletedTime, rr.updatedTime) " +
+        "FROM ReviewReply rr " +
+        "JOIN rr.commenter c " +
+        "LEFT JOIN c.profile cp " +
+        "WHERE rr.review.reviewId IN :reviewIds " +
+        "ORDER BY rr.replyId")
+    List<ReviewReplyRow> findReplyRowsByReviewIds(@Param("reviewIds") Collection<Integer> reviewIds);
+
+    // 작성자의 블라인드 상태를 청크 단위로 일괄 변경 (이미 같은 상태인 행은 건너뜀), 변경된 행 수 반환
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE review_reply SET is_blind = :isBlind " +
+        "WHERE user_id = :userId AND is_blind <> :isBlind LIMIT :limit", nativeQuery = true)
+    int updateBlindByCommenter(@Param("userId") Integer userId, @Param("isBlind") boolean isBlind,
+        @Param("limit") int limit);
+}
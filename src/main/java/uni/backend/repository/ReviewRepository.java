@@ -2,16 +2,46 @@ package uni.backend.repository;
 
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import uni.backend.domain.Qna;
 import uni.backend.domain.Review;
+import uni.backend.domain.dto.ReviewRow;
 
 public interface ReviewRepository extends JpaRepository<Review, Integer> {
 
     // 특정 유저의 모든 리뷰 조회
     List<Review> findByProfileOwnerUserId(Integer userId);
 
+    // 리뷰 목록 조회용: 작성자와 작성자 프로필 이미지를 조인해 쿼리 한 번으로 조회
+    @Query("SELECT new uni.backend.domain.dto.ReviewRow(" +
+        "r.reviewId, o.userId, o.name, c.userId, c.name, cp.imgProf, " +
+        "r.content, r.star, r.likes, r.deleted, r.isBlind, r.deletedTime, r.updatedTime) " +
+        "FROM Review r " +
+        "JOIN r.profileOwner o " +
+        "JOIN r.commenter c " +
+        "LEFT JOIN c.profile cp " +
+        "WHERE o.userId = :userId " +
+        "ORDER BY r.reviewId")
+    List<ReviewRow> findReviewRowsByProfileOwner(@Param("userId") Integer userId);
+
     // 특정 유저의 블라인드 리뷰 조회
     List<Review> findByCommenter_UserId(Integer userId);
 
+    // 삭제되지 않은 리뷰의 프로필 주인별 개수와 별점 합계 (userId, count, sum), userId 가 null 이면 전체
+    @Query("SELECT r.profileOwner.userId, COUNT(r), COALESCE(SUM(r.star), 0) FROM Review r " +
+        "WHERE (r.deleted IS NULL OR r.deleted = false) " +
+        "AND (:userId IS NULL OR r.profileOwner.userId = :userId) " +
+        "GROUP BY r.profileOwner.userId")
+    List<Object[]> aggregateStarsByProfileOwner(@Param("userId") Integer userId);
 
+    // 작성자의 블라인드 상태를 청크 단위로 일괄 변경 (이미 같은 상태인 행은 건너뜀), 변경된 행 수 반환
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE review SET is_blind = :isBlind " +
+        "WHERE commenter_id = :userId AND is_blind <> :isBlind LIMIT :limit", nativeQuery = true)
+    int updateBlindByCommenter(@Param("userId") Integer userId, @Param("isBlind") boolean isBlind,
+        @Param("limit") int limit);
 }
@@ -0,0 +1,12 @@
+package uni.backend.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import uni.backend.domain.TranslationCacheEntry;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface TranslationCacheEntryRepository extends JpaRepository<TranslationCacheEntry, String> {
+
+    List<TranslationCacheEntry> findByCacheKeyIn(Collection<String> cacheKeys);
+}
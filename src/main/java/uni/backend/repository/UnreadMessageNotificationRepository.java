@@ -0,0 +1,20 @@
+package uni.backend.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import uni.backend.domain.UnreadMessageNotification;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+public interface UnreadMessageNotificationRepository extends
+    JpaRepository<UnreadMessageNotification, Long> {
+
+    // 주어진 유저 중 해당 날짜에 이미 알림을 받은 유저 ID
+    @Query("SELECT n.userId FROM UnreadMessageNotification n " +
+        "WHERE n.notifiedOn = :notifiedOn AND n.userId IN :userIds")
+    List<Integer> findNotifiedUserIds(@Param("notifiedOn") LocalDate notifiedOn,
+        @Param("userIds") Collection<Integer> userIds);
+}
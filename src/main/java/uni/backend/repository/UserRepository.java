@@ -5,6 +5,8 @@ import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import uni.backend.domain.Role;
 import uni.backend.domain.User;
 
@@ -25,4 +27,8 @@ public interface UserRepository extends JpaRepository<User, Integer> {
 
     List<User> findByStatusAndEndBanDateBefore(UserStatus status, LocalDateTime endBanDate);
 
+    // 특정 상태인 유저 ID 목록만 조회
+    @Query("SELECT u.userId FROM User u WHERE u.status = :status")
+    List<Integer> findUserIdsByStatus(@Param("status") UserStatus status);
+
 }
\ No newline at end of file
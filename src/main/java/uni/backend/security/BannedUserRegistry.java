@@ -0,0 +1,61 @@
+package uni.backend.security;
+
+import jakarta.annotation.PostConstruct;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import uni.backend.domain.UserStatus;
+import uni.backend.domain.UserStatusChangedEvent;
+import uni.backend.repository.UserRepository;
+
+/**
+ * 제재(BANNED) 상태인 유저 ID 를 메모리에 보관한다.
+ * <p>
+ * 상태를 바꾸는 서비스가 발행한 {@link UserStatusChangedEvent} 를 커밋 후에 반영하고(롤백되면 반영하지 않음), 다른 인스턴스에서
+ * 바뀐 상태는 주기적으로 DB 에서 다시 읽어온다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BannedUserRegistry {
+
+    private final UserRepository userRepository;
+    private final JwtAuthenticationCache jwtAuthenticationCache;
+
+    private final Set<Integer> bannedUserIds = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    public void reload() {
+        Set<Integer> latest = new HashSet<>(userRepository.findUserIdsByStatus(UserStatus.BANNED));
+        bannedUserIds.retainAll(latest);
+        bannedUserIds.addAll(latest);
+        log.debug("제재 유저 목록을 갱신했습니다. ({}명)", latest.size());
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.banned-user-refresh-ms:60000}",
+        initialDelayString = "${jwt.banned-user-refresh-ms:60000}")
+    public void refresh() {
+        reload();
+    }
+
+    public boolean isBanned(Integer userId) {
+        return userId != null && bannedUserIds.contains(userId);
+    }
+
+    // 커밋 후(트랜잭션 밖이면 바로) 유저 상태 변경을 반영하고 캐시된 인증을 제거
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserStatusChanged(UserStatusChangedEvent event) {
+        if (event.status() == UserStatus.BANNED) {
+            bannedUserIds.add(event.userId());
+        } else {
+            bannedUserIds.remove(event.userId());
+        }
+        jwtAuthenticationCache.evictUser(event.email());
+    }
+}
@@ -0,0 +1,91 @@
+package uni.backend.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검증이 끝난 JWT 의 인증 주체를 토큰이 만료될 때까지 보관하는 캐시.
+ * <p>
+ * 엔티티 대신 변하지 않는 {@link JwtPrincipal}(ID, 이메일, 권한)만 보관하므로 캐시된 동안 바뀐 이름이나 프로필이 노출되지 않는다.
+ * <p>
+ * 토큰 원문 대신 SHA-256 해시를 키로 사용하고, 최대 개수를 넘으면 가장 오래 사용되지 않은 항목부터 제거한다.
+ */
+@Component
+public class JwtAuthenticationCache {
+
+    private final int maxEntries;
+    private final long maxTtlMs;
+    private final Map<String, CachedAuthentication> cache;
+
+    public JwtAuthenticationCache(@Value("${jwt.cache.max-entries:10000}") int maxEntries,
+        @Value("${jwt.cache.max-ttl-ms:300000}") long maxTtlMs) {
+        this.maxEntries = maxEntries;
+        this.maxTtlMs = maxTtlMs;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedAuthentication> eldest) {
+                return size() > JwtAuthenticationCache.this.maxEntries;
+            }
+        };
+    }
+
+    // 캐시된 인증 주체 조회 (없거나 만료되었으면 null)
+    public JwtPrincipal get(String token) {
+        String key = hash(token);
+        synchronized (cache) {
+            CachedAuthentication cached = cache.get(key);
+            if (cached == null) {
+                return null;
+            }
+            if (cached.expiresAt() <= System.currentTimeMillis()) {
+                cache.remove(key);
+                return null;
+            }
+            return cached.principal();
+        }
+    }
+
+    // 토큰 만료 시각과 최대 TTL 중 더 이른 시각까지 보관
+    public void put(String token, JwtPrincipal principal, Date tokenExpiration) {
+        long expiresAt = System.currentTimeMillis() + maxTtlMs;
+        if (tokenExpiration != null) {
+            expiresAt = Math.min(expiresAt, tokenExpiration.getTime());
+        }
+        synchronized (cache) {
+            cache.put(hash(token), new CachedAuthentication(principal, expiresAt));
+        }
+    }
+
+    // 특정 사용자의 캐시된 인증을 모두 제거 (상태 변경 시 사용)
+    public void evictUser(String username) {
+        synchronized (cache) {
+            cache.values().removeIf(cached -> cached.principal().getUsername().equals(username));
+        }
+    }
+
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    private String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private record CachedAuthentication(JwtPrincipal principal, long expiresAt) {
+
+    }
+}
@@ -1,18 +1,21 @@
 package uni.backend.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
+import uni.backend.domain.Role;
+import uni.backend.exception.UserStatusException;
 
 import java.io.IOException;
 
@@ -22,6 +25,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtils jwtUtils;
     private final UserDetailsService userDetailsService;
+    private final JwtAuthenticationCache jwtAuthenticationCache;
+    private final BannedUserRegistry bannedUserRegistry;
+
+    // true 이면 DB 조회 없이 JWT 클레임으로 인증 주체를 생성
+    @Value("${jwt.stateless-principal:false}")
+    private boolean statelessPrincipal;
 
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request,
@@ -30,17 +39,54 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             throws ServletException, IOException {
         String jwt = jwtUtils.getJwtFromRequest(request);
 
-        if (StringUtils.hasText(jwt) && jwtUtils.validateJwtToken(jwt)) {
-            String email = jwtUtils.getEmailFromJwtToken(jwt);
-
-            UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+        if (StringUtils.hasText(jwt)) {
+            JwtPrincipal principal = resolveUserDetails(jwt);
+            if (principal != null) {
+                checkNotBanned(principal);
 
-            UsernamePasswordAuthenticationToken authenticationToken =
-                    new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+                UsernamePasswordAuthenticationToken authenticationToken =
+                        new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
 
-            SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+                SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+            }
         }
 
         filterChain.doFilter(request, response);
     }
-}
\ No newline at end of file
+
+    // 이미 검증한 토큰이면 캐시에서 바로 꺼내고, 아니면 한 번만 파싱하여 인증 주체를 캐시에 저장
+    // (User 엔티티는 이름/프로필이 바뀌어도 갱신되지 않으므로 변하지 않는 JwtPrincipal 로 바꿔서 보관)
+    private JwtPrincipal resolveUserDetails(String jwt) {
+        JwtPrincipal principal = jwtAuthenticationCache.get(jwt);
+        if (principal != null) {
+            return principal;
+        }
+
+        Claims claims = jwtUtils.parseClaims(jwt);
+        if (claims == null) {
+            return null;
+        }
+        principal = statelessPrincipal ? toJwtPrincipal(claims) : null;
+        if (principal == null) {
+            principal = JwtPrincipal.from(userDetailsService.loadUserByUsername(claims.getSubject()));
+        }
+        jwtAuthenticationCache.put(jwt, principal, claims.getExpiration());
+        return principal;
+    }
+
+    // userId/role 클레임이 없는 예전 토큰이면 null 을 반환하여 DB 조회로 대체
+    private JwtPrincipal toJwtPrincipal(Claims claims) {
+        Integer userId = claims.get("userId", Integer.class);
+        String role = claims.get("role", String.class);
+        if (userId == null || role == null) {
+            return null;
+        }
+        return new JwtPrincipal(userId, claims.getSubject(), Role.valueOf(role));
+    }
+
+    private void checkNotBanned(JwtPrincipal principal) {
+        if (bannedUserRegistry.isBanned(principal.getUserId())) {
+            throw new UserStatusException("이 계정은 제재 되었습니다.");
+        }
+    }
+}
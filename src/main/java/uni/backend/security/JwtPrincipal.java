@@ -0,0 +1,68 @@
+package uni.backend.security;
+
+import java.util.Collection;
+import java.util.Collections;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import uni.backend.domain.Role;
+import uni.backend.domain.User;
+
+/**
+ * JWT 클레임(userId, role)이나 로그인한 User 로 만든 변하지 않는 인증 주체. 요청마다 User 엔티티를 조회하지 않기 위해
+ * 사용하며, 인증 캐시에는 이 객체만 보관한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class JwtPrincipal implements UserDetails {
+
+    private final Integer userId;
+    private final String email;
+    private final Role role;
+
+    // UserDetailsService 가 조회한 유저에서 ID, 이메일, 권한만 복사
+    public static JwtPrincipal from(UserDetails userDetails) {
+        if (!(userDetails instanceof User user)) {
+            throw new IllegalArgumentException(
+                "Unsupported principal type: " + userDetails.getClass().getName());
+        }
+        return new JwtPrincipal(user.getUserId(), user.getEmail(), user.getRole());
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+}
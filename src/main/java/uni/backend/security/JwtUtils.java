@@ -25,11 +25,19 @@ public class JwtUtils {
 
     private Key key;
 
+    // 서명 키가 고정이므로 파서를 한 번만 만들어 재사용
+    private JwtParser jwtParser;
+
     @PostConstruct
     private void initializeKey() {
         if (key == null) {
             this.key = new SecretKeySpec(jwtSecret.getBytes(), SignatureAlgorithm.HS256.getJcaName());
         }
+        if (jwtParser == null) {
+            this.jwtParser = Jwts.parserBuilder()
+                    .setSigningKey(key)
+                    .build();
+        }
     }
 
     public String generateJwtToken(String email) {
@@ -55,16 +63,40 @@ public class JwtUtils {
         return builder.compact();
     }
 
+    // 상태 없는 인증을 위해 userId 와 role 을 함께 담은 토큰 생성
+    public String generateJwtToken(String email, Integer userId, Role role) {
+        initializeKey();
+        JwtBuilder builder = Jwts.builder()
+                .setSubject(email)
+                .setIssuedAt(new Date())
+                .setExpiration(new Date((new Date()).getTime() + jwtExpirationMs))
+                .signWith(key, SignatureAlgorithm.HS256);
+        if (userId != null) {
+            builder.claim("userId", userId);
+        }
+        if (role != null) {
+            builder.claim("role", role.name());
+        }
+        return builder.compact();
+    }
+
     public String getEmailFromJwtToken(String token) {
         initializeKey();
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
+        return jwtParser.parseClaimsJws(token)
                 .getBody()
                 .getSubject();
     }
 
+    // 서명 검증과 클레임 추출을 한 번에 수행 (유효하지 않으면 null)
+    public Claims parseClaims(String token) {
+        try {
+            initializeKey();
+            return jwtParser.parseClaimsJws(token).getBody();
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
     public String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
@@ -74,15 +106,6 @@ public class JwtUtils {
     }
 
     public boolean validateJwtToken(String token) {
-        try {
-            initializeKey();
-            Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            return false;
-        }
+        return parseClaims(token) != null;
     }
 }
\ No newline at end of file
@@ -1,34 +1,30 @@
 package uni.backend.service;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import uni.backend.domain.Qna;
-import uni.backend.domain.Reply;
-import uni.backend.domain.Report;
-import uni.backend.domain.Review;
-import uni.backend.domain.ReviewReply;
+import uni.backend.domain.Profile;
+import uni.backend.domain.ProfileChangedEvent;
 import uni.backend.domain.User;
 import uni.backend.domain.UserStatus;
+import uni.backend.domain.UserStatusChangedEvent;
+import uni.backend.domain.dto.ProfileStarReconcileResponse;
 import uni.backend.domain.dto.ReportedUserResponse;
 import uni.backend.domain.dto.UserResponse;
 import uni.backend.util.AdminAccountUtil;
 import uni.backend.repository.ProfileRepository;
-import uni.backend.repository.QnaRepository;
-import uni.backend.repository.ReplyRepository;
 import uni.backend.repository.ReportRepository;
-import uni.backend.repository.ReviewReplyRepository;
 import uni.backend.repository.ReviewRepository;
 import uni.backend.repository.UserRepository;
 
@@ -42,15 +38,14 @@ import java.time.LocalDateTime;
 @RequiredArgsConstructor
 public class AdminService {
 
-    private final JavaMailSender javaMailSender;
+    private final MailQueue mailQueue;
     private final UserRepository userRepository;
     private final ReportRepository reportRepository;
     private final AdminAccountUtil adminAccountUtil;
-    private final QnaRepository qnaRepository;
     private final ReviewRepository reviewRepository;
     private final ProfileRepository profileRepository;
-    private final ReviewReplyRepository reviewReplyRepository;
-    private final ReplyRepository replyRepository;
+    private final ContentBlindService contentBlindService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 관리자 계정 생성 관리자 계정을 생성하고, 생성된 계정 정보를 로그로 기록, 및 팀원에게 이메일 전송
@@ -65,10 +60,10 @@ public class AdminService {
             SimpleMailMessage message = AdminAccountUtil.createEmailForm(
                 recipientEmail, admin.getEmail(), rawPassword);
             message.setFrom("jdragon@uni-ajou.site");
-            javaMailSender.send(message);
+            mailQueue.enqueue(message);
         });
 
-        log.info("관리자 계정이 생성되었으며, 이메일이 발송되었습니다.");
+        log.info("관리자 계정이 생성되었으며, 이메일 발송을 예약했습니다.");
     }
 
     /**
@@ -127,123 +122,128 @@ public class AdminService {
         user.setStatus(status);
         user.setEndBanDate(banEndDate);
         userRepository.save(user);
+        eventPublisher.publishEvent(UserStatusChangedEvent.of(user));
 
         UserStatus finalStatus = status;
         profileRepository.findByUser_UserId(userId)
             .ifPresent(profile -> profile.setVisible(finalStatus != UserStatus.BANNED));
+        eventPublisher.publishEvent(new ProfileChangedEvent(userId));
 
         log.info("유저 ID={}의 상태가 {}로 변경되었습니다. 제재 해제일: {}", userId, finalStatus, banEndDate);
     }
 
     /**
-     * 신고된 유저 리스트 조회 신고 데이터를 기반으로 신고된 유저 리스트를 페이징 처리하여 반환합니다.
+     * 프로필 별점 집계 정합성 복구 리뷰 테이블을 한 번의 GROUP BY 로 집계해 저장된 리뷰 수/별점 합계/평균과 비교하고, 다른 프로필만
+     * 다시 씁니다.
+     *
+     * @return 점검한 프로필 수와 수정한 프로필 수
+     */
+    @Transactional
+    public ProfileStarReconcileResponse reconcileProfileStars() {
+        Map<Integer, long[]> actual = new HashMap<>();
+        for (Object[] row : reviewRepository.aggregateStarsByProfileOwner(null)) {
+            actual.put((Integer) row[0],
+                new long[]{((Number) row[1]).longValue(), ((Number) row[2]).longValue()});
+        }
+
+        List<Object[]> stored = profileRepository.findReviewStats();
+        int corrected = 0;
+        for (Object[] row : stored) {
+            Integer userId = (Integer) row[0];
+            long[] stats = actual.getOrDefault(userId, new long[]{0, 0});
+            int reviewCount = (int) stats[0];
+            long starSum = stats[1];
+            double star = Profile.averageStar(reviewCount, starSum);
+
+            if (!Objects.equals(row[1], reviewCount) || !Objects.equals(row[2], starSum)
+                || !Objects.equals(row[3], star)) {
+                profileRepository.updateReviewStats(userId, reviewCount, starSum, star);
+                eventPublisher.publishEvent(new ProfileChangedEvent(userId));
+                corrected++;
+            }
+        }
+
+        log.info("프로필 별점 집계 점검: 대상={}, 수정={}", stored.size(), corrected);
+        return ProfileStarReconcileResponse.builder()
+            .profilesChecked(stored.size())
+            .profilesCorrected(corrected)
+            .build();
+    }
+
+    /**
+     * 신고된 유저 리스트 조회 신고 테이블을 DB 에서 유저별로 집계해 요청한 페이지만 반환합니다. 신고 세부 내역은
+     * {@link #getReportDetails(Integer, int, int)} 로 따로 조회합니다.
      *
      * @param page 조회할 페이지 번호
      * @param size 페이지 크기
+     * @param sort 정렬 기준 (count: 신고 수 많은 순, recent: 최근 신고 순)
      * @return 페이징 처리된 신고된 유저 리스트
      */
     @Transactional(readOnly = true)
-    public Page<ReportedUserResponse> getReportedUsers(int page, int size) {
+    public Page<ReportedUserResponse> getReportedUsers(int page, int size, String sort) {
         Pageable pageable = PageRequest.of(page, size);
-        List<Report> allReports = reportRepository.findAll();
-
-        Map<Integer, List<Report>> groupedReports = allReports.stream()
-            .collect(Collectors.groupingBy(report -> report.getReportedUser().getUserId()));
-
-        List<ReportedUserResponse> reportedUserResponses = groupedReports.entrySet().stream()
-            .map(entry -> {
-                Integer userId = entry.getKey();
-                List<Report> reports = entry.getValue();
-
-                return new ReportedUserResponse(
-                    userId,
-                    reports.get(0).getReportedUser().getEmail(),
-                    (long) reports.size(),
-                    reports.stream()
-                        .map(report -> new ReportedUserResponse.ReportDetail(
-                            report.getId(),                                      // 신고 ID
-                            report.getTitle(),                                   // 신고 제목
-                            report.getCategory().name(),                         // 신고 카테고리
-                            report.getReason().name(),                           // 신고 사유
-                            report.getDetailedReason(),                          // 상세 신고 사유
-                            report.getReportedAt(),                              // 신고 날짜
-                            report.getReporterUser().getName(),                  // 신고한 사람 이름
-                            report.getReportedUser().getName()                   // 신고당한 사람 이름
-                        ))
-                        .collect(Collectors.toList())
-                );
-            })
-            .collect(Collectors.toList());
-
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), reportedUserResponses.size());
-        List<ReportedUserResponse> pagedReports = reportedUserResponses.subList(start, end);
-
-        return new PageImpl<>(pagedReports, pageable, reportedUserResponses.size());
+        Page<Object[]> summaries = "recent".equals(sort)
+            ? reportRepository.findReportedUserSummariesByRecency(pageable)
+            : reportRepository.findReportedUserSummariesByCount(pageable);
+
+        return summaries.map(row -> new ReportedUserResponse(
+            (Integer) row[0],                  // 신고된 유저 ID
+            (String) row[1],                   // 이메일
+            ((Number) row[2]).longValue(),     // 신고 수
+            (LocalDateTime) row[3],            // 최근 신고 날짜
+            List.of()
+        ));
+    }
+
+    /**
+     * 특정 유저의 신고 내역 조회 최신순으로 요청한 페이지만 조회합니다.
+     *
+     * @param userId 신고된 유저 ID
+     * @param page   조회할 페이지 번호
+     * @param size   페이지 크기
+     * @return 페이징 처리된 신고 내역
+     */
+    @Transactional(readOnly = true)
+    public Page<ReportedUserResponse.ReportDetail> getReportDetails(Integer userId, int page,
+        int size) {
+        return reportRepository.findReportDetailsByReportedUser(userId, PageRequest.of(page, size))
+            .map(row -> new ReportedUserResponse.ReportDetail(
+                (Integer) row[0],                      // 신고 ID
+                (String) row[1],                       // 신고 제목
+                enumName(row[2]),                      // 신고 카테고리
+                enumName(row[3]),                      // 신고 사유
+                (String) row[4],                       // 상세 신고 사유
+                (LocalDateTime) row[5],                // 신고 날짜
+                (String) row[6],                       // 신고한 사람 이름
+                (String) row[7]                        // 신고당한 사람 이름
+            ));
+    }
+
+    private static String enumName(Object value) {
+        return value != null ? ((Enum<?>) value).name() : null;
     }
 
 
     /**
-     * 유저의 모든 콘텐츠 블라인드 처리 특정 유저의 QnA, 리뷰, 답글 등을 블라인드 처리합니다.
+     * 유저의 모든 콘텐츠 블라인드 처리 특정 유저의 QnA, 리뷰, 답글 등을 작성자 기준 일괄 UPDATE 로 블라인드 처리합니다. 글이 많은
+     * 유저는 남은 행을 커밋 후 백그라운드에서 청크 단위로 처리합니다.
      *
      * @param userId 블라인드 처리할 유저 ID
      */
     @Transactional
     public void blindAllContentByUser(Integer userId) {
-        // QnA 블라인드 처리
-        List<Qna> qnas = qnaRepository.findByCommenter_UserId(userId);
-        qnas.forEach(Qna::blindQna);
-        qnaRepository.saveAll(qnas);
-        log.info("유저 ID={}의 모든 QnA를 블라인드 처리했습니다.", userId);
-
-        // QnA 답글 블라인드 처리
-        List<Reply> replies = replyRepository.findByCommenter_UserId(userId);
-        replies.forEach(reply -> reply.setIsBlind(true));
-        replyRepository.saveAll(replies);
-        log.info("유저 ID={}의 모든 QnA 답글을 블라인드 처리했습니다.", userId);
-
-        // 리뷰 블라인드 처리
-        List<Review> reviews = reviewRepository.findByCommenter_UserId(userId);
-        reviews.forEach(Review::blindReview);
-        reviewRepository.saveAll(reviews);
-        log.info("유저 ID={}의 모든 리뷰를 블라인드 처리했습니다.", userId);
-
-        // 리뷰 리플라이 블라인드 처리
-        List<ReviewReply> reviewReplies = reviewReplyRepository.findByCommenter_UserId(userId);
-        reviewReplies.forEach(reply -> reply.setIsBlind(true));
-        reviewReplyRepository.saveAll(reviewReplies);
-        log.info("유저 ID={}의 모든 리뷰 리플라이를 블라인드 처리했습니다.", userId);
+        contentBlindService.setBlind(userId, true);
+        log.info("유저 ID={}의 모든 콘텐츠를 블라인드 처리했습니다.", userId);
     }
 
     /**
-     * 유저의 모든 콘텐츠 블라인드 해제 특정 유저의 QnA, 리뷰, 답글 등을 블라인드 해제합니다.
+     * 유저의 모든 콘텐츠 블라인드 해제 특정 유저의 QnA, 리뷰, 답글 등을 작성자 기준 일괄 UPDATE 로 블라인드 해제합니다.
      *
      * @param userId 블라인드 해제할 유저 ID
      */
     @Transactional
     public void unblindAllContentByUser(Integer userId) {
-        // QnA 블라인드 해제
-        List<Qna> qnas = qnaRepository.findByCommenter_UserId(userId);
-        qnas.forEach(Qna::unblindQna);
-        qnaRepository.saveAll(qnas);
-        log.info("유저 ID={}의 모든 QnA 블라인드 상태를 해제했습니다.", userId);
-
-        // QnA 답글 블라인드 해제
-        List<Reply> replies = replyRepository.findByCommenter_UserId(userId);
-        replies.forEach(reply -> reply.setIsBlind(false));
-        replyRepository.saveAll(replies);
-        log.info("유저 ID={}의 모든 QnA 답글 블라인드 상태를 해제했습니다.", userId);
-
-        // 리뷰 블라인드 해제
-        List<Review> reviews = reviewRepository.findByCommenter_UserId(userId);
-        reviews.forEach(Review::unblindReview);
-        reviewRepository.saveAll(reviews);
-        log.info("유저 ID={}의 블라인드 리뷰 상태를 해제했습니다.", userId);
-
-        // 리뷰 리플라이 블라인드 해제
-        List<ReviewReply> reviewReplies = reviewReplyRepository.findByCommenter_UserId(userId);
-        reviewReplies.forEach(reply -> reply.setIsBlind(false));
-        reviewReplyRepository.saveAll(reviewReplies);
-        log.info("유저 ID={}의 모든 리뷰 리플라이 블라인드 상태를 해제했습니다.", userId);
+        contentBlindService.setBlind(userId, false);
+        log.info("유저 ID={}의 모든 콘텐츠 블라인드 상태를 해제했습니다.", userId);
     }
 }
@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import uni.backend.domain.RefreshToken;
 import uni.backend.domain.Role;
@@ -11,6 +12,7 @@ import uni.backend.domain.User;
 import uni.backend.domain.dto.LoginRequest;
 import uni.backend.domain.dto.LoginResponse;
 import uni.backend.domain.dto.MeResponse;
+import uni.backend.repository.UserRepository;
 import uni.backend.security.JwtUtils;
 
 import java.util.Map;
@@ -22,6 +24,7 @@ public class AuthService {
     private final AuthenticationManager authenticationManager;
     private final JwtUtils jwtUtils;
     private final RefreshTokenService refreshTokenService;
+    private final UserRepository userRepository;
 
     public LoginResponse login(LoginRequest loginRequest) {
         Authentication authentication = authenticationManager.authenticate(
@@ -29,7 +32,8 @@ public class AuthService {
                 loginRequest.getPassword())
         );
         User user = (User) authentication.getPrincipal();
-        String accessToken = jwtUtils.generateJwtToken(user.getEmail(), user.getRole());
+        String accessToken = jwtUtils.generateJwtToken(user.getEmail(), user.getUserId(),
+            user.getRole());
         String refreshToken = refreshTokenService.createRefreshToken(user.getUserId()).getToken();
         return new LoginResponse(
             "success", "logged in successfully", user.getName(),
@@ -44,7 +48,9 @@ public class AuthService {
         RefreshToken token = refreshTokenService.verifyRefreshToken(refreshToken);
 
         // 새 AccessToken 생성
-        String newAccessToken = jwtUtils.generateJwtToken(token.getUser().getEmail());
+        User user = token.getUser();
+        String newAccessToken = jwtUtils.generateJwtToken(user.getEmail(), user.getUserId(),
+            user.getRole());
 
         // 응답 데이터 반환
         return Map.of(
@@ -59,10 +65,13 @@ public class AuthService {
         }
     }
 
-    public MeResponse getLoggedInUserInfo(User user) {
-        if (user == null) {
+    public MeResponse getLoggedInUserInfo(UserDetails principal) {
+        if (principal == null) {
             throw new IllegalStateException("User is not logged in.");
         }
+        // 인증 주체는 ID/권한만 담고 있으므로 최신 이름과 프로필 사진은 DB 에서 조회
+        User user = userRepository.findByEmail(principal.getUsername())
+            .orElseThrow(() -> new IllegalStateException("User is not logged in."));
 
         return MeResponse.builder()
             .userId(user.getUserId())
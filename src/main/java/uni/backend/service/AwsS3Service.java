@@ -1,12 +1,12 @@
 package uni.backend.service;
 
+import com.amazonaws.AmazonClientException;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.CannedAccessControlList;
 import com.amazonaws.services.s3.model.DeleteObjectRequest;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
-import com.amazonaws.util.IOUtils;
-import java.io.ByteArrayInputStream;
+import com.amazonaws.services.s3.transfer.TransferManager;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
@@ -31,6 +31,7 @@ import uni.backend.exception.AwsS3Exception;
 public class AwsS3Service {
 
     private final AmazonS3 amazonS3;
+    private final TransferManager transferManager;
 
     @Value("${cloud.aws.s3.bucketName}")
     private String bucketName;
@@ -113,29 +114,40 @@ public class AwsS3Service {
             s3Folder + "user_" + userId + "_" + UUID.randomUUID().toString().substring(0, 10)
                 + extension;
 
-        InputStream is = image.getInputStream();
-        byte[] bytes = IOUtils.toByteArray(is);
+        putImage(image, s3FileName, extension);
 
+        // 업로드된 이미지의 URL 반환
+        return getImageUrl(s3FileName);  // getImageUrl 메서드가 경로에 맞는 URL 반환
+    }
+
+    /**
+     * 업로드된 파일을 메모리에 읽어 들이지 않고 multipart 스트림에서 바로 S3 로 전송. 크기를 미리 알려주므로 SDK 가 내용을 버퍼링하지
+     * 않으며, 큰 파일은 TransferManager 가 멀티파트 업로드로 나눠 보낸다. 실제 전송은 업로드 전용 스레드 풀에서 수행한다.
+     */
+    private void putImage(MultipartFile image, String s3FileName, String extension)
+        throws IOException {
         ObjectMetadata metadata = new ObjectMetadata();
-        metadata.setContentType("image/" + extension);  // MIME 타입 설정
-        metadata.setContentLength(bytes.length);  // 파일 크기 설정
-        ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(bytes);
+        metadata.setContentType(contentTypeOf(extension));  // MIME 타입 설정
+        metadata.setContentLength(image.getSize());  // 파일 크기 설정
 
-        try {
+        try (InputStream is = image.getInputStream()) {
             // S3에 이미지 업로드
-            PutObjectRequest putObjectRequest = new PutObjectRequest(bucketName, s3FileName,
-                byteArrayInputStream, metadata)
+            PutObjectRequest putObjectRequest = new PutObjectRequest(bucketName, s3FileName, is,
+                metadata)
                 .withCannedAcl(CannedAccessControlList.PublicRead);  // 공개 읽기 권한 설정
-            amazonS3.putObject(putObjectRequest);  // 이미지 S3에 업로드
-        } catch (Exception e) {
+            transferManager.upload(putObjectRequest).waitForUploadResult();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AwsS3Exception(AwsS3ErrorCode.PUT_OBJECT_EXCEPTION);
+        } catch (AmazonClientException e) {
             throw new AwsS3Exception(AwsS3ErrorCode.PUT_OBJECT_EXCEPTION);
-        } finally {
-            byteArrayInputStream.close();
-            is.close();
         }
+    }
 
-        // 업로드된 이미지의 URL 반환
-        return getImageUrl(s3FileName);  // getImageUrl 메서드가 경로에 맞는 URL 반환
+    // ".jpg" → image/jpeg, ".png" → image/png
+    private static String contentTypeOf(String extension) {
+        String type = extension.substring(1).toLowerCase();
+        return "image/" + ("jpg".equals(type) ? "jpeg" : type);
     }
 
     public void deleteImageFromS3(String imageAddress) {
@@ -181,26 +193,7 @@ public class AwsS3Service {
 
         String s3FileName = s3Folder + UUID.randomUUID().toString().substring(0, 10) + extension;
 
-        InputStream is = image.getInputStream();
-        byte[] bytes = IOUtils.toByteArray(is);
-
-        ObjectMetadata metadata = new ObjectMetadata();
-        metadata.setContentType("image/" + extension);  // MIME 타입 설정
-        metadata.setContentLength(bytes.length);  // 파일 크기 설정
-        ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(bytes);
-
-        try {
-            // S3에 이미지 업로드
-            PutObjectRequest putObjectRequest = new PutObjectRequest(bucketName, s3FileName,
-                byteArrayInputStream, metadata)
-                .withCannedAcl(CannedAccessControlList.PublicRead);  // 공개 읽기 권한 설정
-            amazonS3.putObject(putObjectRequest);  // 이미지 S3에 업로드
-        } catch (Exception e) {
-            throw new AwsS3Exception(AwsS3ErrorCode.PUT_OBJECT_EXCEPTION);
-        } finally {
-            byteArrayInputStream.close();
-            is.close();
-        }
+        putImage(image, s3FileName, extension);
 
         // 업로드된 이미지의 URL 반환
         return getImageUrl(s3FileName);  // getImageUrl 메서드가 경로에 맞는 URL 반환
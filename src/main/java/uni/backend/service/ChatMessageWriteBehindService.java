@@ -0,0 +1,385 @@
+package uni.backend.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import uni.backend.domain.dto.ChatMessageResponse;
+import uni.backend.domain.dto.ChatWriteBehindStatsResponse;
+import uni.backend.repository.ChatRoomRepository;
+
+/**
+ * 채팅 메시지 write-behind 저장소.
+ * <p>
+ * 활성화되면 요청 스레드가 메시지를 큐에 넣고, 플러시 스레드가 모인 메시지를 JDBC 배치 하나로 저장한다(group commit).
+ * 메시지 ID 는 INSERT 시 DB 의 AUTO_INCREMENT 로 할당되므로 여러 인스턴스가 함께 써도 전송 순서를 따른다.
+ * <p>
+ * 요청 스레드는 트랜잭션 없이 채팅방과 보낸 사람만 조회해 큐에 넣고 바로 반환하므로, 저장을 기다리는 동안 DB 커넥션이나
+ * STOMP inbound 스레드를 잡지 않는다. 커밋되면 플러시 스레드가 배치 순서대로 future 를 완료해 브로드캐스트하고, 저장에
+ * 실패하면 future 를 예외로 완료해 보낸 사람에게 알린다.
+ */
+@Slf4j
+@Service
+public class ChatMessageWriteBehindService {
+
+    private static final int MAX_FLUSH_ATTEMPTS = 3;
+    private static final long RETRY_BACKOFF_MS = 200;
+    // 보낸 사람 ID 는 없으면 null, 채팅방이 없으면 결과 행 없음
+    private static final String ROUTE_SQL =
+        "SELECT r.sender_id, r.receiver_id, (SELECT u.user_id FROM user u WHERE u.email = ?) "
+            + "FROM chat_room r WHERE r.chat_room_id = ?";
+    private static final String INSERT_SQL =
+        "INSERT INTO chat_message (chatroom_id, sender_id, receiver_id, content, send_at, is_read) "
+            + "VALUES (?, ?, ?, ?, ?, false)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ChatRoomRepository chatRoomRepository;
+    private final TransactionTemplate flushTransaction;
+
+    private final boolean enabled;
+    private final int queueCapacity;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final long offerTimeoutMs;
+    private final long shutdownTimeoutMs;
+    private final BlockingQueue<PendingChatMessage> queue;
+
+    // accepting 확인과 큐 삽입을 종료 처리와 원자적으로 묶기 위한 잠금 (삽입은 read, 종료는 write)
+    private final ReadWriteLock acceptLock = new ReentrantReadWriteLock();
+    private volatile boolean accepting = true;
+    private Thread flusher;
+
+    // 지표
+    private final AtomicLong enqueuedCount = new AtomicLong();
+    private final AtomicLong persistedCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong flushCount = new AtomicLong();
+    private final AtomicLong totalFlushMillis = new AtomicLong();
+    private final AtomicLong lastFlushMillis = new AtomicLong();
+    private final AtomicLong maxFlushMillis = new AtomicLong();
+
+    public ChatMessageWriteBehindService(JdbcTemplate jdbcTemplate,
+        ChatRoomRepository chatRoomRepository,
+        PlatformTransactionManager transactionManager,
+        @Value("${chat.persistence.mode:sync}") String mode,
+        @Value("${chat.persistence.write-behind.queue-capacity:10000}") int queueCapacity,
+        @Value("${chat.persistence.write-behind.batch-size:200}") int batchSize,
+        @Value("${chat.persistence.write-behind.flush-interval-ms:50}") long flushIntervalMs,
+        @Value("${chat.persistence.write-behind.offer-timeout-ms:100}") long offerTimeoutMs,
+        @Value("${chat.persistence.write-behind.shutdown-timeout-ms:30000}") long shutdownTimeoutMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.chatRoomRepository = chatRoomRepository;
+        this.flushTransaction = new TransactionTemplate(transactionManager);
+
+        if (!"sync".equalsIgnoreCase(mode) && !"write-behind".equalsIgnoreCase(mode)) {
+            throw new IllegalArgumentException("Unknown chat persistence mode: " + mode);
+        }
+        this.enabled = "write-behind".equalsIgnoreCase(mode);
+        this.queueCapacity = queueCapacity;
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.offerTimeoutMs = offerTimeoutMs;
+        this.shutdownTimeoutMs = shutdownTimeoutMs;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        flusher = Thread.ofPlatform().name("chat-write-behind").start(this::runFlushLoop);
+        log.info("Chat write-behind enabled (capacity={}, batchSize={})", queueCapacity, batchSize);
+    }
+
+    // 종료 시 새 메시지를 막고 큐에 남은 메시지를 모두 저장
+    @PreDestroy
+    public void shutdown() {
+        if (!enabled) {
+            return;
+        }
+        // 진행 중인 삽입이 끝난 뒤에 플래그를 내리므로 이후로는 큐에 새 메시지가 들어오지 않음
+        acceptLock.writeLock().lock();
+        try {
+            accepting = false;
+        } finally {
+            acceptLock.writeLock().unlock();
+        }
+        if (flusher != null) {
+            try {
+                flusher.join(shutdownTimeoutMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        // 플러시 스레드가 먼저 끝났거나 시간 안에 끝나지 않았을 때 남은 메시지를 현재 스레드에서 저장
+        flushPending();
+        log.info("Chat write-behind stopped (persisted={}, failed={})", persistedCount.get(),
+            failedCount.get());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 메시지를 저장 큐에 넣고 바로 반환. 반환된 future 는 배치가 커밋되면 DB 가 할당한 ID 로 완료된다.
+     * <p>
+     * 채팅방 조회는 JPA 영속성 컨텍스트를 거치지 않는 짧은 쿼리 하나이므로 OSIV 로 EntityManager 가 열려 있어도 커넥션을
+     * 바로 반환한다. 트랜잭션 안에서 호출하면 안 된다.
+     */
+    public CompletableFuture<ChatMessageResponse> enqueue(Integer roomId, String senderEmail,
+        String content, LocalDateTime sendAt) {
+        PendingChatMessage message = resolve(roomId, senderEmail, content, sendAt);
+        offer(message);
+        enqueuedCount.incrementAndGet();
+        return message.persisted();
+    }
+
+    private PendingChatMessage resolve(Integer roomId, String senderEmail, String content,
+        LocalDateTime sendAt) {
+        List<PendingChatMessage> found = jdbcTemplate.query(ROUTE_SQL, (rs, rowNum) -> {
+            int roomSenderId = rs.getInt(1);
+            int roomReceiverId = rs.getInt(2);
+            int senderId = rs.getInt(3);
+            if (rs.wasNull()) {
+                throw new IllegalArgumentException("User not found with email: " + senderEmail);
+            }
+            boolean fromRoomSender = senderId == roomSenderId;
+            return new PendingChatMessage(roomId, senderId,
+                fromRoomSender ? roomReceiverId : roomSenderId, fromRoomSender, content, sendAt,
+                new CompletableFuture<>());
+        }, senderEmail, roomId);
+        if (found.isEmpty()) {
+            throw new IllegalArgumentException("Chat room not found with ID: " + roomId);
+        }
+        return found.getFirst();
+    }
+
+    private void offer(PendingChatMessage message) {
+        acceptLock.readLock().lock();
+        try {
+            if (!accepting) {
+                throw new IllegalStateException("Chat message queue is shutting down");
+            }
+            // 큐가 가득 차면 잠시 대기하고, 그래도 자리가 없으면 거절 (backpressure)
+            if (!queue.offer(message, offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+                rejectedCount.incrementAndGet();
+                throw new IllegalStateException("Chat message queue is full");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            rejectedCount.incrementAndGet();
+            throw new IllegalStateException("Interrupted while queueing chat message", e);
+        } finally {
+            acceptLock.readLock().unlock();
+        }
+    }
+
+    public ChatWriteBehindStatsResponse getStats() {
+        long flushes = flushCount.get();
+        return ChatWriteBehindStatsResponse.builder()
+            .enabled(enabled)
+            .queueDepth(queue.size())
+            .queueCapacity(queueCapacity)
+            .enqueuedCount(enqueuedCount.get())
+            .persistedCount(persistedCount.get())
+            .rejectedCount(rejectedCount.get())
+            .failedCount(failedCount.get())
+            .flushCount(flushes)
+            .lastFlushMillis(lastFlushMillis.get())
+            .maxFlushMillis(maxFlushMillis.get())
+            .averageFlushMillis(flushes == 0 ? 0 : (double) totalFlushMillis.get() / flushes)
+            .build();
+    }
+
+    private void runFlushLoop() {
+        while (accepting || !queue.isEmpty()) {
+            try {
+                PendingChatMessage first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                List<PendingChatMessage> drained = new ArrayList<>(batchSize);
+                drained.add(first);
+                queue.drainTo(drained, batchSize - 1);
+                flush(drained);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    // 큐에 남은 메시지를 배치 크기 단위로 모두 저장
+    void flushPending() {
+        List<PendingChatMessage> drained = new ArrayList<>(batchSize);
+        while (queue.drainTo(drained, batchSize) > 0) {
+            flush(drained);
+            drained = new ArrayList<>(batchSize);
+        }
+    }
+
+    private void flush(List<PendingChatMessage> batch) {
+        long start = System.nanoTime();
+        RuntimeException lastFailure = null;
+        for (int attempt = 1; attempt <= MAX_FLUSH_ATTEMPTS; attempt++) {
+            try {
+                List<Integer> messageIds = flushTransaction.execute(status -> {
+                    List<Integer> ids = insertMessages(batch);
+                    updateChatRooms(batch);
+                    return ids;
+                });
+                persistedCount.addAndGet(batch.size());
+                recordFlushTime(start);
+                // 커밋된 뒤에 ID 순서대로 완료하여 브로드캐스트 순서도 전송 순서를 따름
+                for (int i = 0; i < batch.size(); i++) {
+                    batch.get(i).persisted().complete(batch.get(i).toResponse(messageIds.get(i)));
+                }
+                return;
+            } catch (RuntimeException e) {
+                lastFailure = e;
+                log.warn("Failed to persist {} chat messages (attempt {}/{})", batch.size(), attempt,
+                    MAX_FLUSH_ATTEMPTS, e);
+                if (attempt < MAX_FLUSH_ATTEMPTS && !sleepBeforeRetry(attempt)) {
+                    break;
+                }
+            }
+        }
+        // 아직 브로드캐스트되지 않았으므로 보낸 사람에게 실패를 알려 다시 보내도록 함
+        failedCount.addAndGet(batch.size());
+        recordFlushTime(start);
+        IllegalStateException failure = new IllegalStateException("Failed to save chat message",
+            lastFailure);
+        batch.forEach(message -> message.persisted().completeExceptionally(failure));
+    }
+
+    // 메시지를 배치로 INSERT 하고 DB 가 할당한 ID 를 같은 순서로 반환
+    private List<Integer> insertMessages(List<PendingChatMessage> batch) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+            connection -> connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+            new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    PendingChatMessage message = batch.get(i);
+                    ps.setInt(1, message.roomId());
+                    ps.setInt(2, message.senderId());
+                    ps.setInt(3, message.receiverId());
+                    ps.setString(4, message.content());
+                    ps.setTimestamp(5, Timestamp.valueOf(message.sendAt()));
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return batch.size();
+                }
+            },
+            keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (keys.size() != batch.size()) {
+            throw new IllegalStateException(
+                "Expected " + batch.size() + " generated message IDs but got " + keys.size());
+        }
+        return keys.stream()
+            .map(key -> ((Number) key.values().iterator().next()).intValue())
+            .toList();
+    }
+
+    // 같은 채팅방/방향의 메시지는 묶어서 안 읽은 수와 마지막 전송 시간을 한 번에 갱신
+    private void updateChatRooms(List<PendingChatMessage> batch) {
+        Map<RoomDirection, RoomDelta> deltas = new LinkedHashMap<>();
+        for (PendingChatMessage message : batch) {
+            deltas.computeIfAbsent(new RoomDirection(message.roomId(), message.fromRoomSender()),
+                    key -> new RoomDelta())
+                .add(message.sendAt());
+        }
+        deltas.forEach((direction, delta) -> {
+            if (direction.fromRoomSender()) {
+                chatRoomRepository.increaseReceiverUnreadCount(direction.roomId(), delta.lastSentAt,
+                    delta.count);
+            } else {
+                chatRoomRepository.increaseSenderUnreadCount(direction.roomId(), delta.lastSentAt,
+                    delta.count);
+            }
+        });
+    }
+
+    private boolean sleepBeforeRetry(int attempt) {
+        try {
+            Thread.sleep(RETRY_BACKOFF_MS * attempt);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void recordFlushTime(long startNanos) {
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        flushCount.incrementAndGet();
+        totalFlushMillis.addAndGet(elapsed);
+        lastFlushMillis.set(elapsed);
+        maxFlushMillis.accumulateAndGet(elapsed, Math::max);
+    }
+
+    // persisted: 저장 후 할당된 ID 를 담은 응답으로 완료
+    private record PendingChatMessage(int roomId, int senderId, int receiverId,
+                                      boolean fromRoomSender, String content,
+                                      LocalDateTime sendAt,
+                                      CompletableFuture<ChatMessageResponse> persisted) {
+
+        ChatMessageResponse toResponse(int messageId) {
+            return ChatMessageResponse.builder()
+                .messageId(messageId)
+                .roomId(roomId)
+                .content(content)
+                .senderId(senderId)
+                .receiverId(receiverId)
+                .sendAt(sendAt)
+                .build();
+        }
+    }
+
+    private record RoomDirection(int roomId, boolean fromRoomSender) {
+
+    }
+
+    private static class RoomDelta {
+
+        long count;
+        LocalDateTime lastSentAt;
+
+        void add(LocalDateTime sentAt) {
+            count++;
+            if (lastSentAt == null || sentAt.isAfter(lastSentAt)) {
+                lastSentAt = sentAt;
+            }
+        }
+    }
+}
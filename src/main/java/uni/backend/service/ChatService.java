@@ -1,9 +1,11 @@
 package uni.backend.service;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import uni.backend.domain.ChatMessage;
 import uni.backend.domain.ChatRoom;
 import uni.backend.domain.User;
@@ -14,18 +16,24 @@ import uni.backend.repository.UserRepository;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ChatService {
 
+    private static final int DEFAULT_MESSAGE_PAGE_SIZE = 50;
+    private static final int MAX_MESSAGE_PAGE_SIZE = 100;
+
     private final ChatRoomRepository chatRoomRepository;
     private final ChatMessageRepository chatMessageRepository;
     private final UserRepository userRepository;
     private final TranslationService translationService;
-    private final UserStatusScheduler userStatusScheduler;
+    private final ChatMessageWriteBehindService chatMessageWriteBehindService;
+    private final TransactionTemplate transactionTemplate;
 
     // 채팅방 생성
     @Transactional
@@ -44,14 +52,27 @@ public class ChatService {
         return toChatRoomResponse(chatRoom, sender);
     }
 
-    // 메시지 전송
-    @Transactional
-    public ChatMessageResponse sendMessage(ChatMessageRequest request, String senderEmail, Integer roomId) {
+    // 메시지 전송. 반환된 future 는 메시지가 저장되면 완료됨
+    public CompletableFuture<ChatMessageResponse> sendMessage(ChatMessageRequest request, String senderEmail,
+                                                              Integer roomId) {
         if (request.getContent() == null || request.getContent().isEmpty()) {
             throw new IllegalArgumentException("Message content cannot be null or empty");
         }
+        Integer targetRoomId = roomId != null ? roomId : request.getRoomId();
+        LocalDateTime now = LocalDateTime.now();
+
+        if (chatMessageWriteBehindService.isEnabled()) {
+            // write-behind 모드: 트랜잭션 밖에서 큐에 넣고 바로 반환, 배치로 저장되면 DB 가 할당한 ID 로 완료
+            return chatMessageWriteBehindService.enqueue(targetRoomId, senderEmail, request.getContent(), now);
+        }
+        return CompletableFuture.completedFuture(transactionTemplate.execute(
+                status -> saveMessage(targetRoomId, senderEmail, request.getContent(), now)));
+    }
+
+    // sync 모드: 메시지를 바로 저장
+    private ChatMessageResponse saveMessage(Integer roomId, String senderEmail, String content, LocalDateTime now) {
         User sender = findUserByEmail(senderEmail);
-        ChatRoom chatRoom = findChatRoomById(roomId != null ? roomId : request.getRoomId());
+        ChatRoom chatRoom = findChatRoomById(roomId);
         User receiver = findReceiver(chatRoom, sender);
 
         ChatMessage message = chatMessageRepository.save(
@@ -59,21 +80,18 @@ public class ChatService {
                         .chatRoom(chatRoom)
                         .sender(sender)
                         .receiver(receiver)
-                        .content(request.getContent())
-                        .sendAt(LocalDateTime.now())
+                        .content(content)
+                        .sendAt(now)
                         .isRead(false)
                         .build()
         );
 
-        // 마지막 메시지 시간 갱신
+        // 마지막 메시지 시간 및 안 읽은 메시지 수를 DB 에서 원자적으로 갱신
         if (chatRoom.getSender().equals(sender)) {
-            chatRoom.setSenderLastMessageAt(LocalDateTime.now());
-            chatRoom.setReceiverUnreadCount(chatRoom.getReceiverUnreadCount() + 1);
+            chatRoomRepository.increaseReceiverUnreadCount(chatRoom.getChatRoomId(), now, 1);
         } else {
-            chatRoom.setReceiverLastMessageAt(LocalDateTime.now());
-            chatRoom.setSenderUnreadCount(chatRoom.getSenderUnreadCount() + 1);
+            chatRoomRepository.increaseSenderUnreadCount(chatRoom.getChatRoomId(), now, 1);
         }
-        chatRoomRepository.save(chatRoom);
 
         return toChatMessageResponse(message);
     }
@@ -81,48 +99,81 @@ public class ChatService {
     //특정 채팅방 메시지 읽음 처리
     @Transactional
     public void markMessagesAsRead(Integer roomId, String username) {
-        ChatRoom chatRoom = findChatRoomById(roomId);
         User receiver = findUserByEmail(username);
+        validateChatRoomExists(roomId);
 
-        List<ChatMessage> unreadMessages = chatRoom.getChatMessages().stream()
-                .filter(msg -> !msg.isRead() && msg.getReceiver().equals(receiver))
-                .collect(Collectors.toList());
+        chatMessageRepository.markAllAsRead(roomId, receiver.getUserId());
+        chatRoomRepository.resetUnreadCount(roomId, receiver.getUserId());
+    }
 
-        // 빈 리스트일 경우 saveAll 호출 생략
-        if (!unreadMessages.isEmpty()) {
-            unreadMessages.forEach(msg -> msg.setRead(true));
-            chatMessageRepository.saveAll(unreadMessages);
+    // 특정 메시지까지 읽음 처리 후 새로 읽은 메시지 수 반환
+    @Transactional
+    public int markMessagesAsReadUpTo(Integer roomId, Integer lastReadMessageId, String username) {
+        if (lastReadMessageId == null) {
+            throw new IllegalArgumentException("Last read message ID cannot be null");
         }
+        User receiver = findUserByEmail(username);
+        validateChatRoomExists(roomId);
 
-        unreadMessages.forEach(msg -> msg.setRead(true));
-
-        if (chatRoom.getSender().equals(receiver)) {
-            chatRoom.setSenderUnreadCount(0);
-        } else if (chatRoom.getReceiver().equals(receiver)) {
-            chatRoom.setReceiverUnreadCount(0);
+        int readCount = chatMessageRepository.markAsReadUpTo(roomId, receiver.getUserId(), lastReadMessageId);
+        if (readCount > 0) {
+            chatRoomRepository.decreaseUnreadCount(roomId, receiver.getUserId(), readCount);
         }
-
-        chatRoomRepository.save(chatRoom);
+        return readCount;
     }
 
     // 채팅방 조회
     @Transactional(readOnly = true)
-    public List<ChatRoomResponse> getChatRoomsForUser(String email) {
+    public List<ChatRoomSummaryResponse> getChatRoomsForUser(String email) {
         User user = findUserByEmail(email);
-        List<ChatRoom> chatRooms = chatRoomRepository.findBySenderOrReceiver(user, user);
-
-        return chatRooms.stream()
-                .map(room -> toChatRoomResponse(room, user))
-                .collect(Collectors.toList());
+        return chatRoomRepository.findRoomSummariesByUserId(user.getUserId());
     }
 
-    // 메시지 조회
+    // 최근 메시지 조회
     @Transactional(readOnly = true)
     public List<ChatMessageResponse> getChatMessages(Integer roomId) {
-        ChatRoom chatRoom = findChatRoomById(roomId);
-        return chatMessageRepository.findByChatRoom(chatRoom).stream()
+        return getChatMessages(roomId, null, null, null).getMessages();
+    }
+
+    // 메시지 조회 (messageId 커서 기반 페이지네이션)
+    @Transactional(readOnly = true)
+    public ChatMessagePageResponse getChatMessages(Integer roomId, Integer before, Integer after, Integer size) {
+        if (before != null && after != null) {
+            throw new IllegalArgumentException("Only one of 'before' or 'after' can be specified");
+        }
+        validateChatRoomExists(roomId);
+
+        int pageSize = resolvePageSize(size);
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<ChatMessage> messages;
+        if (after != null) {
+            messages = chatMessageRepository
+                    .findByChatRoom_ChatRoomIdAndMessageIdGreaterThanOrderByMessageIdAsc(roomId, after, limit);
+        } else if (before != null) {
+            messages = chatMessageRepository
+                    .findByChatRoom_ChatRoomIdAndMessageIdLessThanOrderByMessageIdDesc(roomId, before, limit);
+        } else {
+            messages = chatMessageRepository.findByChatRoom_ChatRoomIdOrderByMessageIdDesc(roomId, limit);
+        }
+
+        boolean hasMore = messages.size() > pageSize;
+        List<ChatMessage> page = new ArrayList<>(hasMore ? messages.subList(0, pageSize) : messages);
+        if (after == null) {
+            Collections.reverse(page); // 오래된 메시지부터 반환
+        }
+
+        List<ChatMessageResponse> responses = page.stream()
                 .map(this::toChatMessageResponse)
                 .collect(Collectors.toList());
+
+        return ChatMessagePageResponse.builder()
+                .messages(responses)
+                .beforeCursor(responses.isEmpty() ? before : responses.getFirst().getMessageId())
+                .afterCursor(responses.isEmpty() ? after : responses.getLast().getMessageId())
+                .hasMore(hasMore)
+                .build();
     }
 
     // 메시지 번역
@@ -162,12 +213,25 @@ public class ChatService {
                 .orElseThrow(() -> new IllegalArgumentException("Chat room not found with ID: " + roomId));
     }
 
+    private void validateChatRoomExists(Integer roomId) {
+        if (!chatRoomRepository.existsById(roomId)) {
+            throw new IllegalArgumentException("Chat room not found with ID: " + roomId);
+        }
+    }
+
     public String getMessageById(Integer messageId) {
         ChatMessage chatMessage = chatMessageRepository.findById(messageId)
                 .orElseThrow(() -> new IllegalArgumentException("Message with ID " + messageId + " not found"));
         return chatMessage.getContent();
     }
 
+    private int resolvePageSize(Integer size) {
+        if (size == null || size <= 0) {
+            return DEFAULT_MESSAGE_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_MESSAGE_PAGE_SIZE);
+    }
+
     private User findReceiver(ChatRoom chatRoom, User sender) {
         return chatRoom.getSender().equals(sender) ? chatRoom.getReceiver() : chatRoom.getSender();
     }
@@ -175,19 +239,9 @@ public class ChatService {
     private ChatRoomResponse toChatRoomResponse(ChatRoom chatRoom, User currentUser) {
         User otherUser = findReceiver(chatRoom, currentUser);
 
-        List<ChatMessage> messages = chatRoom.getChatMessages() != null
-                ? chatRoom.getChatMessages()
-                : new ArrayList<>();
-
-        long unreadCount = messages.stream()
-                .filter(msg -> !msg.isRead() && msg.getReceiver().equals(currentUser))
-                .count();
-
-        if (chatRoom.getSender().equals(currentUser)) {
-            chatRoom.setSenderUnreadCount(unreadCount);
-        } else if (chatRoom.getReceiver().equals(currentUser)) {
-            chatRoom.setReceiverUnreadCount(unreadCount);
-        }
+        long unreadCount = chatRoom.getSender().equals(currentUser)
+                ? chatRoom.getSenderUnreadCount()
+                : chatRoom.getReceiverUnreadCount();
 
         return ChatRoomResponse.builder()
                 .chatRoomId(chatRoom.getChatRoomId())
@@ -212,31 +266,4 @@ public class ChatService {
                 .sendAt(message.getSendAt())
                 .build();
     }
-
-    @Scheduled(cron = "0 0 0 * * *")
-    public void notifyUnreadMessages() {
-        List<ChatRoom> chatRooms = chatRoomRepository.findAll();
-
-        for (ChatRoom chatRoom : chatRooms) {
-            LocalDateTime now = LocalDateTime.now();
-
-            // Sender 가 읽지 않은 메시지가 있고, 마지막 메시지가 1일 이상 지난 경우
-            if (chatRoom.getSenderUnreadCount() > 0 &&
-                    chatRoom.getReceiverLastMessageAt() != null &&
-                    chatRoom.getReceiverLastMessageAt().isBefore(now.minusDays(1))) {
-                sendUnreadMessageNotification(chatRoom.getSender().getEmail());
-            }
-            // Receiver 가 읽지 않은 메시지가 있고, 마지막 메시지가 1일 이상 지난 경우
-            if (chatRoom.getReceiverUnreadCount() > 0 &&
-                    chatRoom.getSenderLastMessageAt() != null &&
-                    chatRoom.getSenderLastMessageAt().isBefore(now.minusDays(1))) {
-                sendUnreadMessageNotification(chatRoom.getReceiver().getEmail());
-            }
-        }
-    }
-
-    private void sendUnreadMessageNotification(String email) {
-        userStatusScheduler.sendEmailNotification(email, "읽지 않은 메시지가 있습니다.");
-    }
-
 }
\ No newline at end of file
@@ -0,0 +1,141 @@
+package uni.backend.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import uni.backend.domain.ContentBlindTask;
+import uni.backend.repository.ContentBlindTaskRepository;
+import uni.backend.repository.QnaRepository;
+import uni.backend.repository.ReplyRepository;
+import uni.backend.repository.ReviewReplyRepository;
+import uni.backend.repository.ReviewRepository;
+
+/**
+ * 유저가 작성한 QnA, 답글, 리뷰, 리뷰 답글의 블라인드 상태 일괄 변경.
+ * <p>
+ * 작성자 기준 UPDATE 문으로 상태가 다른 행만 바꾼다. 첫 청크는 호출한 트랜잭션 안에서 처리하고, 글이 많아 남은 행이 있으면 같은
+ * 트랜잭션에서 {@link ContentBlindTask} 행으로 저장해 두므로 재시작하거나 다른 인스턴스에서도 이어서 처리한다. 스케줄러는 작업을
+ * 잠가 임대 시각을 기록한 뒤, 청크마다 작업 행을 잠그고 네 테이블 UPDATE 를 한 트랜잭션으로 실행한다. 같은 유저에 대한 요청이
+ * 쌓이면 마지막 상태만 적용한다.
+ */
+@Slf4j
+@Service
+public class ContentBlindService {
+
+    private final QnaRepository qnaRepository;
+    private final ReplyRepository replyRepository;
+    private final ReviewRepository reviewRepository;
+    private final ReviewReplyRepository reviewReplyRepository;
+    private final ContentBlindTaskRepository contentBlindTaskRepository;
+    private final TransactionTemplate transaction;
+    private final int chunkSize;
+    private final long leaseMs;
+
+    public ContentBlindService(QnaRepository qnaRepository, ReplyRepository replyRepository,
+        ReviewRepository reviewRepository, ReviewReplyRepository reviewReplyRepository,
+        ContentBlindTaskRepository contentBlindTaskRepository,
+        PlatformTransactionManager transactionManager,
+        @Value("${moderation.blind.chunk-size:500}") int chunkSize,
+        @Value("${moderation.blind.lease-ms:60000}") long leaseMs) {
+        this.qnaRepository = qnaRepository;
+        this.replyRepository = replyRepository;
+        this.reviewRepository = reviewRepository;
+        this.reviewReplyRepository = reviewReplyRepository;
+        this.contentBlindTaskRepository = contentBlindTaskRepository;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.leaseMs = leaseMs;
+    }
+
+    /**
+     * 블라인드 상태 변경
+     *
+     * @return 첫 청크에서 모두 처리했으면 true, 남은 행을 백그라운드 작업으로 저장했으면 false
+     */
+    @Transactional
+    public boolean setBlind(Integer userId, boolean blind) {
+        // 처리 중인 청크가 끝날 때까지 기다린 뒤 이전 요청의 남은 작업을 이번 상태로 덮어씀
+        Optional<ContentBlindTask> previous = contentBlindTaskRepository.findByIdForUpdate(userId);
+        if (updateChunk(userId, blind)) {
+            previous.ifPresent(contentBlindTaskRepository::delete);
+            return true;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        ContentBlindTask task = previous.orElseGet(
+            () -> ContentBlindTask.builder().userId(userId).build());
+        task.setBlind(blind);
+        task.setRevision(task.getRevision() + 1);
+        task.setNextAttemptAt(now);
+        task.setRequestedAt(now);
+        contentBlindTaskRepository.save(task);
+        log.info("유저 ID={}의 남은 블라인드 처리(상태={})를 백그라운드로 진행합니다.", userId, blind);
+        return false;
+    }
+
+    // 처리할 작업이 없을 때까지 하나씩 가져와 처리
+    @Scheduled(fixedDelayString = "${moderation.blind.poll-interval-ms:1000}")
+    public void processPending() {
+        ContentBlindTask task;
+        while ((task = transaction.execute(status -> claim(LocalDateTime.now()))) != null) {
+            process(task.getUserId(), task.isBlind(), task.getRevision());
+        }
+    }
+
+    // 작업 하나를 잠그고 임대 시각까지 다른 인스턴스가 가져가지 않도록 nextAttemptAt 을 미룸
+    private ContentBlindTask claim(LocalDateTime now) {
+        List<ContentBlindTask> due = contentBlindTaskRepository.findDueForUpdate(now,
+            PageRequest.of(0, 1));
+        if (due.isEmpty()) {
+            return null;
+        }
+        ContentBlindTask task = due.getFirst();
+        task.setNextAttemptAt(now.plusNanos(TimeUnit.MILLISECONDS.toNanos(leaseMs)));
+        contentBlindTaskRepository.save(task);
+        return task;
+    }
+
+    private void process(Integer userId, boolean blind, long revision) {
+        try {
+            while (Boolean.TRUE.equals(
+                transaction.execute(status -> processChunk(userId, blind, revision)))) {
+                // 남은 행이 있으면 다음 청크 처리
+            }
+            log.info("유저 ID={}의 블라인드 처리(상태={})를 마쳤습니다.", userId, blind);
+        } catch (RuntimeException e) {
+            log.warn("유저 ID={}의 블라인드 처리 실패, 임대가 끝난 뒤 다시 시도합니다: {}", userId,
+                e.getMessage());
+        }
+    }
+
+    // 작업 행을 잠근 채 청크 하나를 처리하고, 남은 행이 있으면 true
+    private boolean processChunk(Integer userId, boolean blind, long revision) {
+        Optional<ContentBlindTask> current = contentBlindTaskRepository.findByIdForUpdate(userId);
+        if (current.isEmpty() || current.get().getRevision() != revision) {
+            return false; // 이미 끝났거나 새 요청이 들어옴 (새 요청은 다음 작업으로 처리)
+        }
+        if (updateChunk(userId, blind)) {
+            contentBlindTaskRepository.delete(current.get());
+            return false;
+        }
+        return true;
+    }
+
+    // 네 테이블에 대해 청크 하나씩 변경, 모든 테이블이 청크보다 적게 바뀌었으면(남은 행 없음) true
+    private boolean updateChunk(Integer userId, boolean blind) {
+        boolean done = qnaRepository.updateBlindByCommenter(userId, blind, chunkSize) < chunkSize;
+        done &= replyRepository.updateBlindByCommenter(userId, blind, chunkSize) < chunkSize;
+        done &= reviewRepository.updateBlindByCommenter(userId, blind, chunkSize) < chunkSize;
+        done &= reviewReplyRepository.updateBlindByCommenter(userId, blind, chunkSize) < chunkSize;
+        return done;
+    }
+}
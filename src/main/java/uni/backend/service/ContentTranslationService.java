@@ -0,0 +1,222 @@
+package uni.backend.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import uni.backend.domain.ContentTranslation;
+import uni.backend.domain.TranslatedContentType;
+import uni.backend.domain.dto.IndividualTranslationResponse;
+import uni.backend.domain.dto.TranslationRequest;
+import uni.backend.repository.ContentTranslationRepository;
+
+/**
+ * 사용자가 작성한 글(프로필, Q&A, 리뷰, 답글)의 번역을 미리 만들어 두는 서비스.
+ * <p>
+ * 글을 쓰거나 수정하는 트랜잭션 안에서 번역 대기 행을 저장하고, 커밋된 행을 스케줄러가 잠가 임대 시각을 기록한 뒤 en/zh 로
+ * 번역한다. 여러 인스턴스가 같은 행을 동시에 번역하지 않으며, 번역 도중 인스턴스가 죽으면 임대가 끝난 뒤 다시 가져간다. 실패하면
+ * 지수 백오프로 재시도한다. 조회 시에는 저장된 번역 중 현재 원문과 해시가 같은 것만 사용하고, 원문 글이 삭제되면 번역도 지운다.
+ */
+@Slf4j
+@Service
+public class ContentTranslationService {
+
+    public static final List<String> TARGET_LANGUAGES = List.of("en", "zh");
+
+    private final ContentTranslationRepository contentTranslationRepository;
+    private final TranslationService translationService;
+    private final TransactionTemplate transaction;
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long retryBackoffMs;
+    private final long maxBackoffMs;
+    private final long leaseMs;
+
+    public ContentTranslationService(ContentTranslationRepository contentTranslationRepository,
+        TranslationService translationService,
+        PlatformTransactionManager transactionManager,
+        @Value("${translation.precompute.enabled:true}") boolean enabled,
+        @Value("${translation.precompute.batch-size:50}") int batchSize,
+        @Value("${translation.precompute.max-attempts:5}") int maxAttempts,
+        @Value("${translation.precompute.retry-backoff-ms:5000}") long retryBackoffMs,
+        @Value("${translation.precompute.max-backoff-ms:600000}") long maxBackoffMs,
+        @Value("${translation.precompute.lease-ms:60000}") long leaseMs) {
+        this.contentTranslationRepository = contentTranslationRepository;
+        this.translationService = translationService;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMs = retryBackoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+        this.leaseMs = leaseMs;
+    }
+
+    public static String sourceHash(String text) {
+        if (text == null) {
+            return null;
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(text.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    // 글 작성/수정 트랜잭션 안에서 호출: 원문이 바뀐 언어만 번역 대기 상태로 저장
+    @Transactional
+    public void requestTranslation(TranslatedContentType contentType, Integer contentId,
+        String text) {
+        if (!enabled || contentId == null) {
+            return;
+        }
+        List<ContentTranslation> existing = contentTranslationRepository.findByContentTypeAndContentId(
+            contentType, contentId);
+        if (text == null || text.isBlank()) {
+            contentTranslationRepository.deleteAll(existing);
+            return;
+        }
+
+        String hash = sourceHash(text);
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, ContentTranslation> byLanguage = existing.stream()
+            .collect(Collectors.toMap(ContentTranslation::getLanguage, Function.identity()));
+
+        List<ContentTranslation> changed = new ArrayList<>();
+        for (String language : TARGET_LANGUAGES) {
+            ContentTranslation translation = byLanguage.get(language);
+            if (translation != null && hash.equals(translation.getSourceHash())) {
+                continue; // 원문이 그대로면 다시 번역하지 않음
+            }
+            if (translation == null) {
+                translation = ContentTranslation.builder()
+                    .contentType(contentType)
+                    .contentId(contentId)
+                    .language(language)
+                    .build();
+            }
+            translation.setSourceText(text);
+            translation.setSourceHash(hash);
+            translation.setTranslatedText(null);
+            translation.setStatus(ContentTranslation.Status.PENDING);
+            translation.setAttempts(0);
+            translation.setNextAttemptAt(now);
+            translation.setUpdatedAt(now);
+            changed.add(translation);
+        }
+        contentTranslationRepository.saveAll(changed);
+    }
+
+    // 글 삭제 트랜잭션 안에서 호출: 저장된 번역과 번역 대기 행을 모두 삭제
+    @Transactional
+    public void deleteTranslations(TranslatedContentType contentType, Integer contentId) {
+        if (contentId == null) {
+            return;
+        }
+        contentTranslationRepository.deleteByContent(contentType, contentId);
+    }
+
+    // 번역이 끝난 글만 contentId 별로 반환
+    @Transactional(readOnly = true)
+    public Map<Integer, ContentTranslation> findTranslations(TranslatedContentType contentType,
+        Collection<Integer> contentIds, String language) {
+        if (!TARGET_LANGUAGES.contains(language) || contentIds.isEmpty()) {
+            return Map.of();
+        }
+        return contentTranslationRepository.findByContentTypeAndLanguageAndStatusAndContentIdIn(
+                contentType, language, ContentTranslation.Status.DONE, contentIds).stream()
+            .collect(Collectors.toMap(ContentTranslation::getContentId, Function.identity(),
+                (first, second) -> first));
+    }
+
+    // 커밋된 번역 대기 행을 가져가 언어별로 묶어 번역
+    @Scheduled(fixedDelayString = "${translation.precompute.poll-interval-ms:2000}")
+    public void translatePending() {
+        if (!enabled) {
+            return;
+        }
+        List<ContentTranslation> due = transaction.execute(status -> claim(LocalDateTime.now()));
+        if (due == null || due.isEmpty()) {
+            return;
+        }
+
+        Map<String, List<ContentTranslation>> byLanguage = due.stream()
+            .collect(Collectors.groupingBy(ContentTranslation::getLanguage, LinkedHashMap::new,
+                Collectors.toList()));
+        byLanguage.forEach(this::translateGroup);
+    }
+
+    // 번역할 행을 잠그고 임대 시각까지 다른 인스턴스가 가져가지 않도록 nextAttemptAt 을 미룸
+    private List<ContentTranslation> claim(LocalDateTime now) {
+        List<ContentTranslation> due = contentTranslationRepository.findDueForUpdate(now,
+            PageRequest.of(0, batchSize));
+        LocalDateTime leaseUntil = now.plusNanos(TimeUnit.MILLISECONDS.toNanos(leaseMs));
+        due.forEach(translation -> translation.setNextAttemptAt(leaseUntil));
+        contentTranslationRepository.saveAll(due);
+        return due;
+    }
+
+    private void translateGroup(String language, List<ContentTranslation> translations) {
+        TranslationRequest request = new TranslationRequest();
+        request.setText(new ArrayList<>(
+            translations.stream().map(ContentTranslation::getSourceText).toList()));
+        request.setTarget_lang(language);
+
+        List<IndividualTranslationResponse> results;
+        try {
+            results = translationService.translate(request).getTranslations();
+        } catch (RuntimeException e) {
+            log.warn("Failed to translate {} contents into {}: {}", translations.size(), language,
+                e.getMessage());
+            translations.forEach(this::scheduleRetry);
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < translations.size(); i++) {
+            ContentTranslation translation = translations.get(i);
+            if (i < results.size() && results.get(i).getText() != null) {
+                contentTranslationRepository.complete(translation.getId(),
+                    translation.getSourceHash(), results.get(i).getText(), now);
+            } else {
+                scheduleRetry(translation);
+            }
+        }
+    }
+
+    private void scheduleRetry(ContentTranslation translation) {
+        int attempts = translation.getAttempts() + 1;
+        LocalDateTime now = LocalDateTime.now();
+        if (attempts >= maxAttempts) {
+            log.warn("Giving up translating {} {} into {} after {} attempts",
+                translation.getContentType(), translation.getContentId(),
+                translation.getLanguage(), attempts);
+            contentTranslationRepository.reschedule(translation.getId(),
+                translation.getSourceHash(), attempts, ContentTranslation.Status.FAILED, null, now);
+            return;
+        }
+        long backoffMs = Math.min(maxBackoffMs, retryBackoffMs << Math.min(attempts - 1, 20));
+        contentTranslationRepository.reschedule(translation.getId(), translation.getSourceHash(),
+            attempts, ContentTranslation.Status.PENDING, now.plusNanos(backoffMs * 1_000_000),
+            now);
+    }
+}
@@ -0,0 +1,105 @@
+package uni.backend.service;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import uni.backend.domain.HomeCard;
+import uni.backend.domain.Profile;
+import uni.backend.domain.ProfileChangedEvent;
+import uni.backend.domain.Role;
+import uni.backend.domain.User;
+import uni.backend.domain.UserStatus;
+import uni.backend.repository.HomeCardRepository;
+import uni.backend.repository.ProfileRepository;
+
+/**
+ * 홈 카드 읽기 모델 유지.
+ * <p>
+ * {@link ProfileChangedEvent} 를 발행한 트랜잭션 안에서 해당 유저의 카드를 다시 만들어, 프로필 변경과 카드 갱신이 함께 커밋되도록
+ * 한다. 테이블이 비어 있으면 기동 시 전체 프로필로 채우고, 이벤트 없이 바뀐 행(직접 INSERT, 누락된 이벤트 등)은 주기적으로
+ * 카드가 빠졌거나 남은 유저만 찾아 맞춘다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HomeCardService {
+
+    private final HomeCardRepository homeCardRepository;
+    private final ProfileRepository profileRepository;
+
+    @EventListener
+    @Transactional
+    public void onProfileChanged(ProfileChangedEvent event) {
+        refresh(event.userId());
+    }
+
+    @Transactional
+    public void refresh(Integer userId) {
+        if (userId == null) {
+            return;
+        }
+        profileRepository.findByUser_UserId(userId).ifPresentOrElse(
+            profile -> {
+                if (profile.getUser().getRole() == Role.KOREAN) {
+                    homeCardRepository.save(toCard(profile));
+                } else {
+                    homeCardRepository.deleteByUserId(userId);
+                }
+            },
+            () -> homeCardRepository.deleteByUserId(userId));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillIfEmpty() {
+        if (homeCardRepository.count() > 0) {
+            return;
+        }
+        List<HomeCard> cards = profileRepository.findByUser_Role(Role.KOREAN).stream()
+            .map(HomeCardService::toCard)
+            .toList();
+        homeCardRepository.saveAll(cards);
+        log.info("홈 카드 {}개를 생성했습니다.", cards.size());
+    }
+
+    // 카드가 있어야 하는데 없는 유저와, 없어야 하는데 남은 유저만 다시 만들거나 삭제
+    @Scheduled(fixedDelayString = "${home.card.reconcile-ms:600000}",
+        initialDelayString = "${home.card.reconcile-ms:600000}")
+    @Transactional
+    public void reconcile() {
+        Set<Integer> expected = new HashSet<>(profileRepository.findUserIdsByRole(Role.KOREAN));
+        Set<Integer> actual = new HashSet<>(homeCardRepository.findAllUserIds());
+
+        Set<Integer> mismatched = new HashSet<>(expected);
+        mismatched.removeAll(actual);
+        actual.removeAll(expected);
+        mismatched.addAll(actual);
+        if (mismatched.isEmpty()) {
+            return;
+        }
+        mismatched.forEach(this::refresh);
+        log.info("홈 카드 {}개를 다시 맞췄습니다.", mismatched.size());
+    }
+
+    static HomeCard toCard(Profile profile) {
+        User user = profile.getUser();
+        return HomeCard.builder()
+            .profileId(profile.getProfileId())
+            .userId(user.getUserId())
+            .name(user.getName())
+            .imgProf(profile.getImgProf())
+            .star(profile.getStar())
+            .univName(user.getUnivName())
+            .hashtags(profile.getHashtagStringList())
+            .createdAt(profile.getCreatedAt())
+            .visible(profile.isVisible() && user.getStatus() != UserStatus.BANNED)
+            .build();
+    }
+}
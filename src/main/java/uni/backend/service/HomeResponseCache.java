@@ -0,0 +1,181 @@
+package uni.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import uni.backend.domain.ProfileChangedEvent;
+import uni.backend.domain.dto.HomeProfileResponse;
+import uni.backend.domain.dto.HomeResponseCacheStatsResponse;
+
+/**
+ * 비로그인으로도 호출되는 /api/home 응답 캐시.
+ * <p>
+ * 결과는 (대학, 해시태그, 페이지, 정렬, 응답 언어) 에만 의존하므로 정규화한 조회 조건을 키로 번역까지 끝난 페이지와 ETag 를
+ * 보관한다. 프로필/별점/정지 상태가 바뀌면({@link ProfileChangedEvent}) 커밋 후 전체를 비우고, 다른 인스턴스의 변경은 TTL 로
+ * 맞춘다.
+ */
+@Service
+public class HomeResponseCache {
+
+    private final ObjectMapper objectMapper;
+    private final TranslationService translationService;
+    private final boolean enabled;
+    private final int maxEntries;
+    private final long ttlMs;
+    private final Map<HomeQuery, CachedHomePage> cache;
+
+    // 조회 중 무효화가 일어나면 그 결과는 저장하지 않기 위한 세대 번호
+    private final AtomicLong generation = new AtomicLong();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public HomeResponseCache(ObjectMapper objectMapper, TranslationService translationService,
+        @Value("${home.response-cache.enabled:true}") boolean enabled,
+        @Value("${home.response-cache.max-entries:2000}") int maxEntries,
+        @Value("${home.response-cache.ttl-ms:60000}") long ttlMs) {
+        this.objectMapper = objectMapper;
+        this.translationService = translationService;
+        this.enabled = enabled;
+        this.maxEntries = maxEntries;
+        this.ttlMs = ttlMs;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<HomeQuery, CachedHomePage> eldest) {
+                return size() > HomeResponseCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * 캐시 키 생성. 해시태그는 한국어로 바꾼 뒤 넘겨야 하며, 순서와 무관하게 같은 키가 되도록 정렬한다.
+     */
+    public HomeQuery queryOf(String univName, List<String> hashtags, int page, String sort,
+        String acceptLanguage) {
+        List<String> normalizedHashtags = hashtags == null || hashtags.isEmpty() ? List.of()
+            : hashtags.stream().sorted().toList();
+        String normalizedSort = switch (sort == null ? "" : sort) {
+            case "highest_rating", "lowest_rating" -> sort;
+            default -> "newest";
+        };
+        // Accept-Language 가 없으면 번역하지 않은 원문 응답이므로 별도 키로 구분
+        String language = acceptLanguage == null || acceptLanguage.isEmpty() ? ""
+            : translationService.determineTargetLanguage(acceptLanguage);
+        return new HomeQuery(univName, normalizedHashtags, page, normalizedSort, language);
+    }
+
+    // 캐시된 응답 반환, 없거나 만료되었으면 loader 로 만들어 저장
+    public CachedHomePage getOrLoad(HomeQuery query, Supplier<Page<HomeProfileResponse>> loader) {
+        if (enabled) {
+            synchronized (cache) {
+                CachedHomePage cached = cache.get(query);
+                if (cached != null && cached.expiresAt() > System.currentTimeMillis()) {
+                    hits.incrementAndGet();
+                    return cached;
+                }
+                if (cached != null) {
+                    cache.remove(query);
+                }
+            }
+        }
+        misses.incrementAndGet();
+
+        long loadedGeneration = generation.get();
+        Page<HomeProfileResponse> body = loader.get();
+        CachedHomePage loaded = new CachedHomePage(body, eTagOf(body),
+            System.currentTimeMillis() + ttlMs);
+        if (enabled) {
+            synchronized (cache) {
+                if (generation.get() == loadedGeneration) {
+                    cache.put(query, loaded);
+                }
+            }
+        }
+        return loaded;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProfileChanged(ProfileChangedEvent event) {
+        invalidateAll();
+    }
+
+    public void invalidateAll() {
+        synchronized (cache) {
+            generation.incrementAndGet();
+            cache.clear();
+        }
+        invalidations.incrementAndGet();
+    }
+
+    public HomeResponseCacheStatsResponse getStats() {
+        long total = hits.get() + misses.get();
+        int size;
+        synchronized (cache) {
+            size = cache.size();
+        }
+        return HomeResponseCacheStatsResponse.builder()
+            .enabled(enabled)
+            .size(size)
+            .maxEntries(maxEntries)
+            .hits(hits.get())
+            .misses(misses.get())
+            .invalidations(invalidations.get())
+            .hitRatio(total == 0 ? 0 : (double) hits.get() / total)
+            .build();
+    }
+
+    // 직렬화한 응답 본문의 해시로 강한 ETag 생성
+    private String eTagOf(Page<HomeProfileResponse> body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(objectMapper.writeValueAsBytes(body));
+            return "\"" + HexFormat.of().formatHex(Arrays.copyOf(hash, 16)) + "\"";
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize home response", e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    public record HomeQuery(String univName, List<String> hashtags, int page, String sort,
+                            String language) {
+
+    }
+
+    public record CachedHomePage(Page<HomeProfileResponse> body, String eTag, long expiresAt) {
+
+        // If-None-Match 헤더에 현재 ETag 가 포함되어 있는지 확인 (약한 비교)
+        public boolean matches(String ifNoneMatch) {
+            if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+                return false;
+            }
+            for (String candidate : ifNoneMatch.split(",")) {
+                String tag = candidate.trim();
+                if (tag.equals("*")) {
+                    return true;
+                }
+                if (tag.startsWith("W/")) {
+                    tag = tag.substring(2);
+                }
+                if (tag.equals(eTag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
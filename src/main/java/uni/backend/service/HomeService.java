@@ -1,28 +1,41 @@
 package uni.backend.service;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import uni.backend.domain.HomeCard;
 import uni.backend.domain.Profile;
 import uni.backend.domain.Role;
 import uni.backend.domain.dto.HomeDataResponse;
 import uni.backend.domain.dto.HomeProfileResponse;
+import uni.backend.repository.HomeCardRepository;
 import uni.backend.repository.ProfileRepository;
 import uni.backend.util.MainCategoryMap;
 
 @Service
 public class HomeService {
 
+    private static final int PAGE_SIZE = 10;
+
     private final ProfileRepository profileRepository;
+    private final ProfileSearchIndex profileSearchIndex;
+    private final HomeCardRepository homeCardRepository;
 
-    public HomeService(ProfileRepository profileRepository) {
+    public HomeService(ProfileRepository profileRepository,
+        ProfileSearchIndex profileSearchIndex, HomeCardRepository homeCardRepository) {
         this.profileRepository = profileRepository;
+        this.profileSearchIndex = profileSearchIndex;
+        this.homeCardRepository = homeCardRepository;
     }
 
     public HomeProfileResponse profileToHomeProfileResponse(Profile profile) {
@@ -37,9 +50,25 @@ public class HomeService {
         return homeProfileResponse;
     }
 
+    public HomeProfileResponse homeCardToHomeProfileResponse(HomeCard card) {
+        HomeProfileResponse homeProfileResponse = new HomeProfileResponse();
+        homeProfileResponse.setUsername(card.getName());
+        homeProfileResponse.setImgProf(card.getImgProf());
+        homeProfileResponse.setStar(card.getStar());
+        homeProfileResponse.setUnivName(card.getUnivName());
+        homeProfileResponse.setHashtags(new ArrayList<>(card.getHashtags()));
+        homeProfileResponse.setUserId(card.getUserId());
+
+        return homeProfileResponse;
+    }
+
     public Page<HomeProfileResponse> searchByUnivNameAndHashtags(
         String univName, List<String> hashtags, int page, String sortCriteria) {
 
+        if (profileSearchIndex.isReady()) {
+            return searchWithIndex(univName, hashtags, page, sortCriteria);
+        }
+
         Sort sort;
         switch (sortCriteria) {
             case "highest_rating":
@@ -54,7 +83,15 @@ public class HomeService {
                 break;
         }
 
-        Pageable pageable = PageRequest.of(page, 10, sort);
+        Pageable pageable = PageRequest.of(page, PAGE_SIZE, sort);
+
+        // 해시태그 조건이 없으면 홈 카드 테이블 인덱스 범위 스캔 한 번으로 조회
+        if (hashtags == null || hashtags.isEmpty()) {
+            Page<HomeCard> cards = univName == null
+                ? homeCardRepository.findByVisibleTrue(pageable)
+                : homeCardRepository.findByUnivNameAndVisibleTrue(univName, pageable);
+            return cards.map(this::homeCardToHomeProfileResponse);
+        }
 
         // hashtags가 null이 아니면 size 전달
         int hashtagsSize = hashtags != null ? hashtags.size() : 0;
@@ -64,6 +101,32 @@ public class HomeService {
         return profiles.map(this::profileToHomeProfileResponse);
     }
 
+    // 역색인에서 정렬된 프로필 ID 페이지를 구한 뒤 해당 홈 카드만 한 번에 조회
+    private Page<HomeProfileResponse> searchWithIndex(String univName, List<String> hashtags,
+        int page, String sortCriteria) {
+        ProfileSearchIndex.SortOrder order = switch (sortCriteria) {
+            case "highest_rating" -> ProfileSearchIndex.SortOrder.HIGHEST_RATING;
+            case "lowest_rating" -> ProfileSearchIndex.SortOrder.LOWEST_RATING;
+            default -> ProfileSearchIndex.SortOrder.NEWEST;
+        };
+        Page<Integer> profileIds = profileSearchIndex.search(univName, hashtags, order, page,
+            PAGE_SIZE);
+        if (profileIds.isEmpty()) {
+            return new PageImpl<>(List.of(), profileIds.getPageable(),
+                profileIds.getTotalElements());
+        }
+
+        Map<Integer, HomeCard> cards = homeCardRepository.findByProfileIdIn(
+                profileIds.getContent()).stream()
+            .collect(Collectors.toMap(HomeCard::getProfileId, Function.identity()));
+        List<HomeProfileResponse> content = profileIds.getContent().stream()
+            .map(cards::get)
+            .filter(Objects::nonNull)
+            .map(this::homeCardToHomeProfileResponse)
+            .toList();
+        return new PageImpl<>(content, profileIds.getPageable(), profileIds.getTotalElements());
+    }
+
     public void changeHashtagsToKorean(List<String> hashtags) {
         for (int i = 0; i < hashtags.size(); i++) {
             String originalTag = hashtags.get(i);
@@ -0,0 +1,120 @@
+package uni.backend.service;
+
+import jakarta.annotation.PostConstruct;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import uni.backend.domain.University;
+import uni.backend.repository.UniversityRepository;
+import uni.backend.util.MainCategoryMap;
+
+/**
+ * 대학 이름과 해시태그의 다국어 사전.
+ * <p>
+ * 대학 테이블 전체를 불변 스냅샷으로 메모리에 올려 두고 조회마다 DB 를 타지 않는다. 주기적으로 다시 읽어 내용이 바뀐 경우에만
+ * 스냅샷을 교체한다. 해시태그는 {@link MainCategoryMap} 의 고정 데이터를 사용한다.
+ */
+@Slf4j
+@Service
+public class LocalizationDictionary {
+
+    private final UniversityRepository universityRepository;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    public LocalizationDictionary(UniversityRepository universityRepository) {
+        this.universityRepository = universityRepository;
+    }
+
+    @PostConstruct
+    public void reload() {
+        List<University> universities = universityRepository.findAll();
+        Snapshot latest = Snapshot.of(universities);
+        if (!latest.equals(snapshot)) { // 바뀐 경우에만 교체
+            snapshot = latest;
+            log.debug("대학 사전을 갱신했습니다. ({}개)", universities.size());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${dictionary.refresh-ms:300000}",
+        initialDelayString = "${dictionary.refresh-ms:300000}")
+    public void refresh() {
+        reload();
+    }
+
+    // 한국어 대학 이름을 요청 언어로 변환 (없으면 원래 이름)
+    public String localizeUniversityName(String univName, String language) {
+        UniversityNames names = univName == null ? null : snapshot.byKoreanName().get(univName);
+        if (names == null) {
+            return univName;
+        }
+        return switch (language) {
+            case "zh" -> names.zhName();
+            case "en" -> names.enName();
+            default -> names.koName();
+        };
+    }
+
+    // 영어 대학 이름으로 한국어 이름 조회 (대소문자, 앞뒤 공백 무시)
+    public Optional<String> findKoreanUniversityName(String enUnivName) {
+        if (enUnivName == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(snapshot.byEnglishName().get(normalize(enUnivName)))
+            .map(UniversityNames::koName);
+    }
+
+    // 영어/중국어 해시태그나 동의어를 한국어 해시태그로 변환 (없으면 입력값)
+    public String toKoreanHashtag(String hashtag) {
+        return MainCategoryMap.HASHTAG_TRANSLATION_MAP.getOrDefault(
+            hashtag.toLowerCase(Locale.ROOT), hashtag);
+    }
+
+    // 해시태그를 요청 언어로 변환 (없으면 입력값)
+    public String toForeignHashtag(String hashtag, String language) {
+        String korean = "대학생활".equals(hashtag) ? "대학 생활" : hashtag;
+        Map<String, String> localized = MainCategoryMap.KOREAN_HASHTAG_MAP.get(korean);
+        if (localized == null) {
+            localized = MainCategoryMap.KOREAN_HASHTAG_MAP.get(toKoreanHashtag(hashtag));
+        }
+        if (localized == null || !localized.containsKey(language)) {
+            return hashtag;
+        }
+        return localized.get(language);
+    }
+
+    private static String normalize(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record UniversityNames(String koName, String enName, String zhName) {
+
+    }
+
+    private record Snapshot(Map<String, UniversityNames> byKoreanName,
+                            Map<String, UniversityNames> byEnglishName) {
+
+        static final Snapshot EMPTY = new Snapshot(Map.of(), Map.of());
+
+        static Snapshot of(List<University> universities) {
+            Map<String, UniversityNames> byKoreanName = new HashMap<>();
+            Map<String, UniversityNames> byEnglishName = new HashMap<>();
+            for (University university : universities) {
+                UniversityNames names = new UniversityNames(university.getUniName(),
+                    university.getEnUniName(), university.getZhUniName());
+                if (names.koName() != null) {
+                    byKoreanName.putIfAbsent(names.koName(), names);
+                }
+                if (names.enName() != null) {
+                    byEnglishName.putIfAbsent(normalize(names.enName()), names);
+                }
+            }
+            return new Snapshot(Map.copyOf(byKoreanName), Map.copyOf(byEnglishName));
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package uni.backend.service;
+
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import uni.backend.domain.MailDeadLetter;
+import uni.backend.domain.MailOutbox;
+import uni.backend.repository.MailDeadLetterRepository;
+import uni.backend.repository.MailOutboxRepository;
+
+/**
+ * outbox 테이블에 쌓인 메일 발송 워커.
+ * <p>
+ * 발송할 때가 된 메일을 배치 단위로 잠가 임대 시각을 기록한 뒤, 워커 스레드마다 배치 일부를 한 번의
+ * {@code JavaMailSender.send(...)} 로 보내 SMTP 연결 하나를 재사용한다. 보낸 메일은 outbox 에서 지우고, 실패한 메일은
+ * 지수 백오프로 다시 예약하며, 최대 횟수를 넘기면 dead letter 테이블로 옮긴다. 발송 도중 인스턴스가 죽으면 임대가 끝난 뒤
+ * 다시 보내므로 같은 메일이 두 번 나갈 수는 있어도 빠지지는 않는다.
+ * <p>
+ * 한 번의 실행에서는 정해진 배치 수까지만 보내고 나머지는 다음 주기로 넘겨, 밀린 메일이 많거나 SMTP 서버가 느려도 스케줄러
+ * 스레드를 계속 잡고 있지 않는다.
+ */
+@Slf4j
+@Service
+public class MailDispatcher {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final MailOutboxRepository mailOutboxRepository;
+    private final MailDeadLetterRepository mailDeadLetterRepository;
+    private final JavaMailSender mailSender;
+    private final TransactionTemplate transaction;
+    private final ExecutorService workers;
+
+    private final int batchSize;
+    private final int workerThreads;
+    private final int maxAttempts;
+    private final long initialBackoffMs;
+    private final long maxBackoffMs;
+    private final long leaseMs;
+    private final int maxBatchesPerPoll;
+
+    public MailDispatcher(MailOutboxRepository mailOutboxRepository,
+        MailDeadLetterRepository mailDeadLetterRepository,
+        JavaMailSender mailSender,
+        PlatformTransactionManager transactionManager,
+        @Value("${mail.outbox.batch-size:50}") int batchSize,
+        @Value("${mail.outbox.worker-threads:2}") int workerThreads,
+        @Value("${mail.outbox.max-attempts:6}") int maxAttempts,
+        @Value("${mail.outbox.initial-backoff-ms:30000}") long initialBackoffMs,
+        @Value("${mail.outbox.max-backoff-ms:3600000}") long maxBackoffMs,
+        @Value("${mail.outbox.lease-ms:300000}") long leaseMs,
+        @Value("${mail.outbox.max-batches-per-poll:10}") int maxBatchesPerPoll) {
+        if (batchSize <= 0 || workerThreads <= 0 || maxAttempts <= 0 || maxBatchesPerPoll <= 0) {
+            throw new IllegalArgumentException(
+                "Mail outbox batch size, worker threads, max attempts and batches per poll must be positive");
+        }
+        this.mailOutboxRepository = mailOutboxRepository;
+        this.mailDeadLetterRepository = mailDeadLetterRepository;
+        this.mailSender = mailSender;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.workers = Executors.newFixedThreadPool(workerThreads,
+            Thread.ofPlatform().name("mail-worker-", 0).factory());
+        this.batchSize = batchSize;
+        this.workerThreads = workerThreads;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMs = initialBackoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+        this.leaseMs = leaseMs;
+        this.maxBatchesPerPoll = maxBatchesPerPoll;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(30, TimeUnit.SECONDS)) {
+                log.warn("Mail workers did not finish in time, remaining mails will be retried after lease");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // 배치 단위로 발송하되 한 번에 maxBatchesPerPoll 배치까지만 보내고 남은 메일은 다음 주기에 처리
+    @Scheduled(fixedDelayString = "${mail.outbox.poll-interval-ms:1000}")
+    public void dispatch() {
+        try {
+            int batches = 0;
+            while (batches++ < maxBatchesPerPoll && dispatchBatch(LocalDateTime.now()) == batchSize) {
+                // 가득 찬 배치였으면 바로 다음 배치 처리
+            }
+        } catch (RuntimeException e) {
+            log.error("Mail outbox dispatch failed, will retry on next poll", e);
+        }
+    }
+
+    /**
+     * now 기준으로 발송할 때가 된 메일 한 배치 발송
+     *
+     * @return 이번 배치에서 가져온 메일 수
+     */
+    public int dispatchBatch(LocalDateTime now) {
+        List<MailOutbox> claimed = transaction.execute(status -> claim(now));
+        if (claimed == null || claimed.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, String> failures = new HashMap<>();
+        Set<Long> unknown = new HashSet<>();
+        for (Map.Entry<List<MailOutbox>, Future<Map<Long, String>>> slice : sendInSlices(claimed)) {
+            try {
+                failures.putAll(slice.getValue().get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Mail dispatch interrupted", e);
+            } catch (ExecutionException e) {
+                // 발송 결과를 모르는 메일은 건드리지 않고 임대가 끝난 뒤 다시 보냄
+                log.error("Mail worker failed", e.getCause());
+                slice.getKey().forEach(mail -> unknown.add(mail.getId()));
+            }
+        }
+
+        List<MailOutbox> finished = claimed.stream()
+            .filter(mail -> !unknown.contains(mail.getId()))
+            .toList();
+        transaction.executeWithoutResult(status -> complete(finished, failures));
+        return claimed.size();
+    }
+
+    // 발송 대상을 잠그고 임대 시각까지 다른 워커가 가져가지 않도록 nextAttemptAt 을 미룸
+    private List<MailOutbox> claim(LocalDateTime now) {
+        List<MailOutbox> due = mailOutboxRepository.findDueForUpdate(now,
+            PageRequest.of(0, batchSize));
+        LocalDateTime leaseUntil = now.plusNanos(TimeUnit.MILLISECONDS.toNanos(leaseMs));
+        due.forEach(mail -> mail.setNextAttemptAt(leaseUntil));
+        mailOutboxRepository.saveAll(due);
+        return due;
+    }
+
+    // 워커 수만큼 나눠 각 워커가 SMTP 연결 하나로 자기 몫을 모두 보냄
+    private List<Map.Entry<List<MailOutbox>, Future<Map<Long, String>>>> sendInSlices(
+        List<MailOutbox> mails) {
+        int sliceSize = (mails.size() + workerThreads - 1) / workerThreads;
+        List<Map.Entry<List<MailOutbox>, Future<Map<Long, String>>>> slices = new ArrayList<>();
+        for (int from = 0; from < mails.size(); from += sliceSize) {
+            List<MailOutbox> slice = mails.subList(from, Math.min(from + sliceSize, mails.size()));
+            slices.add(Map.entry(slice, workers.submit(() -> send(slice))));
+        }
+        return slices;
+    }
+
+    // 메일 여러 통을 한 번에 보내고 실패한 메일의 ID 와 사유 반환
+    private Map<Long, String> send(List<MailOutbox> mails) {
+        Map<SimpleMailMessage, MailOutbox> byMessage = new IdentityHashMap<>();
+        for (MailOutbox mail : mails) {
+            SimpleMailMessage message = new SimpleMailMessage();
+            message.setFrom(mail.getFromAddress());
+            message.setTo(mail.getToAddress());
+            message.setSubject(mail.getSubject());
+            message.setText(mail.getBody());
+            byMessage.put(message, mail);
+        }
+
+        Map<Long, String> failures = new HashMap<>();
+        try {
+            mailSender.send(byMessage.keySet().toArray(new SimpleMailMessage[0]));
+        } catch (MailSendException e) {
+            if (e.getFailedMessages().isEmpty()) {
+                mails.forEach(mail -> failures.put(mail.getId(), e.getMessage()));
+            }
+            e.getFailedMessages().forEach((message, cause) -> {
+                MailOutbox mail = byMessage.get(message);
+                if (mail != null) {
+                    failures.put(mail.getId(), cause.getMessage());
+                }
+            });
+        } catch (MailException e) {
+            mails.forEach(mail -> failures.put(mail.getId(), e.getMessage()));
+        }
+        return failures;
+    }
+
+    // 보낸 메일은 삭제, 실패한 메일은 재예약하거나 dead letter 로 이동
+    private void complete(List<MailOutbox> claimed, Map<Long, String> failures) {
+        List<Long> sentIds = claimed.stream()
+            .map(MailOutbox::getId)
+            .filter(id -> !failures.containsKey(id))
+            .toList();
+        if (!sentIds.isEmpty()) {
+            mailOutboxRepository.deleteAllByIdInBatch(sentIds);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        for (MailOutbox mail : claimed) {
+            if (!failures.containsKey(mail.getId())) {
+                continue;
+            }
+            mail.setAttempts(mail.getAttempts() + 1);
+            mail.setLastError(truncate(failures.get(mail.getId())));
+
+            if (mail.getAttempts() >= maxAttempts) {
+                log.warn("Giving up mail {} to {} after {} attempts: {}", mail.getId(),
+                    mail.getToAddress(), mail.getAttempts(), mail.getLastError());
+                mailDeadLetterRepository.save(MailDeadLetter.from(mail));
+                mailOutboxRepository.delete(mail);
+            } else {
+                mail.setNextAttemptAt(now.plusNanos(
+                    TimeUnit.MILLISECONDS.toNanos(backoffMs(mail.getAttempts()))));
+                mailOutboxRepository.save(mail);
+            }
+        }
+        log.info("Mail outbox batch: sent={}, failed={}", sentIds.size(), failures.size());
+    }
+
+    // 실패 횟수마다 두 배씩 늘어나는 재시도 간격 (maxBackoffMs 이하)
+    long backoffMs(int attempts) {
+        int shift = Math.min(attempts - 1, 30);
+        return Math.min(maxBackoffMs, initialBackoffMs << shift);
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
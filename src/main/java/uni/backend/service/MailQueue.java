@@ -0,0 +1,42 @@
+package uni.backend.service;
+
+import java.util.Arrays;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import uni.backend.domain.MailOutbox;
+import uni.backend.repository.MailOutboxRepository;
+
+/**
+ * 메일 발송 요청을 outbox 테이블에 저장. 실제 발송은 {@link MailDispatcher} 가 백그라운드에서 처리하므로 요청 스레드는
+ * SMTP 응답을 기다리지 않는다. 호출한 트랜잭션에 참여하므로 롤백되면 메일도 나가지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class MailQueue {
+
+    static final String DEFAULT_FROM = "UNI <jdragon@uni-ajou.site>";
+
+    private final MailOutboxRepository mailOutboxRepository;
+
+    @Transactional
+    public void enqueue(SimpleMailMessage message) {
+        String[] recipients = message.getTo();
+        if (recipients == null || recipients.length == 0) {
+            throw new IllegalArgumentException("Mail recipient cannot be empty");
+        }
+        String from = message.getFrom() != null ? message.getFrom() : DEFAULT_FROM;
+
+        List<MailOutbox> mails = Arrays.stream(recipients)
+            .map(to -> MailOutbox.builder()
+                .fromAddress(from)
+                .toAddress(to)
+                .subject(message.getSubject())
+                .body(message.getText())
+                .build())
+            .toList();
+        mailOutboxRepository.saveAll(mails);
+    }
+}
@@ -1,18 +1,27 @@
 package uni.backend.service;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
+import uni.backend.domain.ContentTranslation;
 import uni.backend.domain.Hashtag;
-import uni.backend.domain.University;
+import uni.backend.domain.TranslatedContentType;
 import uni.backend.domain.dto.HomeProfileResponse;
 import uni.backend.domain.dto.IndividualProfileResponse;
 import uni.backend.domain.dto.IndividualTranslationResponse;
@@ -24,18 +33,26 @@ import uni.backend.domain.dto.ReviewResponse;
 import uni.backend.domain.dto.TranslationRequest;
 import uni.backend.domain.dto.TranslationResponse;
 import uni.backend.repository.HashtagRepository;
-import uni.backend.repository.UniversityRepository;
-import uni.backend.util.MainCategoryMap;
 
 @Service
 public class PageTranslationService {
 
     private static final Logger log = LoggerFactory.getLogger(PageTranslationService.class);
+    // DeepL 한 요청당 최대 문장 수와 요청 본문 크기(128KiB) 제한
+    private static final int MAX_TEXTS_PER_REQUEST = 50;
+    private static final int MAX_REQUEST_BYTES = 120 * 1024;
+
     @Autowired
     private TranslationService translationService;
 
     @Autowired
-    private UniversityRepository universityRepository;
+    private LocalizationDictionary localizationDictionary;
+
+    @Autowired
+    private ContentTranslationService contentTranslationService;
+
+    @Value("${translation.deadline-ms:3000}")
+    private long deadlineMs;
 
     private List<String> translateHashtag(List<String> hashtags, String acceptLanguage) {
         if (hashtags == null || hashtags.isEmpty()) {
@@ -54,104 +71,87 @@ public class PageTranslationService {
     }
 
     private String getUnivNameByLanguage(String univName, String acceptLanguage) {
-        Optional<University> universityOpt = universityRepository.findByUniName(univName);
-        University university = universityOpt.orElse(null);
-        String translatedUnivName;
-        if (university != null) {
-            translatedUnivName = switch (acceptLanguage) {
-                case "zh" -> university.getZhUniName();
-                case "en" -> university.getEnUniName();
-                default -> university.getUniName();
-            };
-        } else {
-            translatedUnivName = univName;
-        }
-        return translatedUnivName;
+        return localizationDictionary.localizeUniversityName(univName, acceptLanguage);
     }
 
-    private String translateOneText(String text, String acceptLanguage) {
-        if (text == null || text.isEmpty()) {
-            return null;
-        }
-        List<String> oneList = new ArrayList<>(List.of());
-        oneList.add(text);
-        TranslationRequest translationRequest = new TranslationRequest();
-        translationRequest.setText(oneList);
-        translationRequest.setSource_lang("ko");
-        translationRequest.setTarget_lang(acceptLanguage);
-        TranslationResponse translationResponse = translationService.translate(translationRequest);
-        return translationResponse.getTranslations().getFirst().getText();
-    }
-
-    public void translateProfileResponse(IndividualProfileResponse individualProfileResponse,
+    /**
+     * @return 제한 시간 안에 번역하지 못해 원문이 남은 항목이 있으면 true
+     */
+    public boolean translateProfileResponse(IndividualProfileResponse individualProfileResponse,
         String acceptLanguage) {
         if (individualProfileResponse == null || acceptLanguage == null) {
-            return;
+            return false;
         }
         acceptLanguage = translationService.determineTargetLanguage(acceptLanguage);
 
-        individualProfileResponse.setDescription(translateOneText(
-            individualProfileResponse.getDescription(), acceptLanguage));
         individualProfileResponse.setUniv(
             getUnivNameByLanguage(individualProfileResponse.getUniv(), acceptLanguage));
         List<String> hashtags = translateHashtag(individualProfileResponse.getHashtags(),
             acceptLanguage);
         individualProfileResponse.setHashtags(hashtags);
 
-        String region = individualProfileResponse.getRegion();
-        if (region != null && !region.isEmpty()) {
-            String translatedRegion = translateOneText(region, acceptLanguage);
-            individualProfileResponse.setRegion(translatedRegion);
-        }
+        // 미리 번역해 둔 소개글과 지역이 없으면 한 번의 요청으로 번역
+        List<Integer> userIds = Collections.singletonList(individualProfileResponse.getUserId());
+        TranslationBatch batch = new TranslationBatch("ko", acceptLanguage);
+        batch.add(individualProfileResponse.getDescription(),
+            individualProfileResponse::setDescription, individualProfileResponse.getUserId(),
+            storedTranslations(TranslatedContentType.PROFILE_DESCRIPTION, userIds, acceptLanguage));
+        batch.add(individualProfileResponse.getRegion(), individualProfileResponse::setRegion,
+            individualProfileResponse.getUserId(),
+            storedTranslations(TranslatedContentType.PROFILE_REGION, userIds, acceptLanguage));
+        return batch.execute();
     }
 
-    public void translateQna(List<QnaResponse> response, String acceptLanguage) {
+    public boolean translateQna(List<QnaResponse> response, String acceptLanguage) {
         acceptLanguage = translationService.determineTargetLanguage(acceptLanguage);
-        TranslationRequest translationRequest = new TranslationRequest();
-        translationRequest.setTarget_lang(acceptLanguage);
 
-        for (QnaResponse individualQnaResponse : response) {
-            List<String> text = new ArrayList<>(List.of());
-            text.add(individualQnaResponse.getContent());
-            for (ReplyResponse individualReplyResponse : individualQnaResponse.getReplies()) {
-                text.add(individualReplyResponse.getContent());
-            }
-            translationRequest.setText(text);
-            TranslationResponse translationResponse = translationService.translate(
-                translationRequest);
-            List<IndividualTranslationResponse> translations = translationResponse.getTranslations();
-            individualQnaResponse.setContent(translations.getFirst().getText());
+        Map<Integer, ContentTranslation> storedQnas = storedTranslations(TranslatedContentType.QNA,
+            response.stream().map(QnaResponse::getQnaId).toList(), acceptLanguage);
+        Map<Integer, ContentTranslation> storedReplies = storedTranslations(
+            TranslatedContentType.REPLY, response.stream()
+                .flatMap(qna -> qna.getReplies().stream())
+                .map(ReplyResponse::getReplyId)
+                .toList(), acceptLanguage);
 
-            int i = 1;
+        // 미리 번역해 둔 글을 제외한 모든 질문과 답변을 모아 한 번에 번역
+        TranslationBatch batch = new TranslationBatch(null, acceptLanguage);
+        for (QnaResponse individualQnaResponse : response) {
+            batch.add(individualQnaResponse.getContent(), individualQnaResponse::setContent,
+                individualQnaResponse.getQnaId(), storedQnas);
             for (ReplyResponse individualReplyResponse : individualQnaResponse.getReplies()) {
-                individualReplyResponse.setContent(translations.get(i++).getText());
+                batch.add(individualReplyResponse.getContent(),
+                    individualReplyResponse::setContent, individualReplyResponse.getReplyId(),
+                    storedReplies);
             }
         }
+        return batch.execute();
     }
 
-    public void translateReview(List<ReviewResponse> response, String acceptLanguage) {
+    public boolean translateReview(List<ReviewResponse> response, String acceptLanguage) {
         acceptLanguage = translationService.determineTargetLanguage(acceptLanguage);
-        TranslationRequest translationRequest = new TranslationRequest();
-        translationRequest.setTarget_lang(acceptLanguage);
 
+        Map<Integer, ContentTranslation> storedReviews = storedTranslations(
+            TranslatedContentType.REVIEW,
+            response.stream().map(ReviewResponse::getReviewId).toList(), acceptLanguage);
+        Map<Integer, ContentTranslation> storedReplies = storedTranslations(
+            TranslatedContentType.REVIEW_REPLY, response.stream()
+                .flatMap(review -> review.getReplies().stream())
+                .map(ReviewReplyResponse::getReplyId)
+                .toList(), acceptLanguage);
+
+        // 미리 번역해 둔 글을 제외한 모든 리뷰와 답글을 모아 한 번에 번역
+        TranslationBatch batch = new TranslationBatch(null, acceptLanguage);
         for (ReviewResponse individualReviewResponse : response) {
-            List<String> text = new ArrayList<>(List.of());
-            text.add(individualReviewResponse.getContent());
-            for (ReviewReplyResponse individualReplyResponse : individualReviewResponse.getReplies()) {
-                text.add(individualReplyResponse.getContent());
-            }
-            translationRequest.setText(text);
-            TranslationResponse translationResponse = translationService.translate(
-                translationRequest);
-            List<IndividualTranslationResponse> translations = translationResponse.getTranslations();
-            individualReviewResponse.setContent(translations.getFirst().getText());
-
-            int i = 1;
+            batch.add(individualReviewResponse.getContent(),
+                individualReviewResponse::setContent, individualReviewResponse.getReviewId(),
+                storedReviews);
             for (ReviewReplyResponse individualReplyResponse : individualReviewResponse.getReplies()) {
-                individualReplyResponse.setContent(translations.get(i++).getText());
+                batch.add(individualReplyResponse.getContent(),
+                    individualReplyResponse::setContent, individualReplyResponse.getReplyId(),
+                    storedReplies);
             }
         }
-
+        return batch.execute();
     }
 
     public void translateHomeResponse(Page<HomeProfileResponse> results, String acceptLanguage) {
@@ -173,54 +173,131 @@ public class PageTranslationService {
     }
 
 
-    public void translateMarkers(List<MarkerResponse> markers, String acceptLanguage) {
+    public boolean translateMarkers(List<MarkerResponse> markers, String acceptLanguage) {
         acceptLanguage = translationService.determineTargetLanguage(acceptLanguage);
-        TranslationRequest translationRequest = new TranslationRequest();
-        translationRequest.setSource_lang("ko");
-        translationRequest.setTarget_lang(acceptLanguage);
-        List<String> text = new ArrayList<>(List.of());
-
-        for (MarkerResponse individualMarkerResponse : markers) {
-            text.add(individualMarkerResponse.getName());
-            text.add(individualMarkerResponse.getDescription());
-        }
-        translationRequest.setText(text);
 
-        // 번역 요청 수행
-        TranslationResponse translationResponse = translationService.translate(translationRequest);
-
-        // 번역된 텍스트를 markers에 다시 설정
-        List<IndividualTranslationResponse> translations = translationResponse.getTranslations();
-        int index = 0; // 번역 텍스트의 인덱스를 추적
+        TranslationBatch batch = new TranslationBatch("ko", acceptLanguage);
         for (MarkerResponse marker : markers) {
-            if (index < translations.size()) {
-                marker.setName(translations.get(index++).getText()); // 이름 설정
-            }
-            if (index < translations.size()) {
-                marker.setDescription(translations.get(index++).getText()); // 설명 설정
-            }
+            batch.add(marker.getName(), marker::setName); // 이름 설정
+            batch.add(marker.getDescription(), marker::setDescription); // 설명 설정
         }
+        return batch.execute();
+    }
 
+    // 글 작성 시 미리 번역해 둔 결과 조회
+    private Map<Integer, ContentTranslation> storedTranslations(TranslatedContentType contentType,
+        List<Integer> contentIds, String language) {
+        List<Integer> ids = contentIds.stream().filter(Objects::nonNull).distinct().toList();
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        return contentTranslationService.findTranslations(contentType, ids, language);
     }
 
     public String mapToKoreanKeyword(String userInput) {
-        return MainCategoryMap.HASHTAG_TRANSLATION_MAP.getOrDefault(userInput.toLowerCase(),
-            userInput);
+        return localizationDictionary.toKoreanHashtag(userInput);
     }
 
     public String mapToForeignKeyword(String koreanKeyword, String targetLanguage) {
-        String result = koreanKeyword;
-        if (Objects.equals(koreanKeyword, "대학생활")) {
-            koreanKeyword = "대학 생활";
+        return localizationDictionary.toForeignHashtag(koreanKeyword, targetLanguage);
+    }
+
+
+    /**
+     * 한 요청에서 번역할 문장을 모아 중복을 제거하고, DeepL 요청 한도(문장 수, 요청 크기)에 맞춰 나눈 요청들을 동시에 보낸 뒤
+     * 결과를 원래 DTO 에 다시 넣는다. 제한 시간 안에 끝나지 않거나 실패한 요청의 문장은 원문을 유지한다.
+     */
+    private class TranslationBatch {
+
+        private final String sourceLang;
+        private final String targetLang;
+        private final Map<String, List<Consumer<String>>> targets = new LinkedHashMap<>();
+
+        TranslationBatch(String sourceLang, String targetLang) {
+            this.sourceLang = sourceLang;
+            this.targetLang = targetLang;
         }
-        if (MainCategoryMap.KOREAN_HASHTAG_MAP.containsKey(koreanKeyword)) {
-            Map<String, String> subMap = MainCategoryMap.KOREAN_HASHTAG_MAP.get(koreanKeyword);
-            if (subMap.containsKey(targetLanguage)) {
-                result = subMap.get(targetLanguage);
+
+        void add(String text, Consumer<String> setter) {
+            if (text == null || text.isEmpty()) {
+                return;
             }
+            targets.computeIfAbsent(text, key -> new ArrayList<>()).add(setter);
         }
 
-        return result;
-    }
+        // 현재 원문에 대한 번역이 저장되어 있으면 DeepL 요청 없이 바로 사용
+        void add(String text, Consumer<String> setter, Integer contentId,
+            Map<Integer, ContentTranslation> stored) {
+            ContentTranslation translation = contentId == null ? null : stored.get(contentId);
+            if (translation != null && translation.isTranslationOf(
+                ContentTranslationService.sourceHash(text))) {
+                setter.accept(translation.getTranslatedText());
+                return;
+            }
+            add(text, setter);
+        }
+
+        // 원문이 남은 문장이 있으면 true
+        boolean execute() {
+            List<String> texts = new ArrayList<>(targets.keySet());
+            Map<List<String>, CompletableFuture<TranslationResponse>> requests = new LinkedHashMap<>();
+            int start = 0;
+            while (start < texts.size()) {
+                int end = nextChunkEnd(texts, start);
+                List<String> chunk = texts.subList(start, end);
+
+                TranslationRequest translationRequest = new TranslationRequest();
+                translationRequest.setText(new ArrayList<>(chunk));
+                translationRequest.setSource_lang(sourceLang);
+                translationRequest.setTarget_lang(targetLang);
+                requests.put(chunk, translationService.translateAsync(translationRequest));
+                start = end;
+            }
+
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadlineMs);
+            boolean partial = false;
+            for (Map.Entry<List<String>, CompletableFuture<TranslationResponse>> entry : requests.entrySet()) {
+                List<String> chunk = entry.getKey();
+                CompletableFuture<TranslationResponse> future = entry.getValue();
+                try {
+                    long remaining = Math.max(0, deadline - System.nanoTime());
+                    List<IndividualTranslationResponse> translations = future.get(remaining,
+                        TimeUnit.NANOSECONDS).getTranslations();
+                    for (int i = 0; i < chunk.size() && i < translations.size(); i++) {
+                        String translated = translations.get(i).getText();
+                        targets.get(chunk.get(i)).forEach(setter -> setter.accept(translated));
+                    }
+                    partial |= translations.size() < chunk.size();
+                } catch (TimeoutException e) {
+                    future.cancel(true);
+                    log.warn("Translation timed out after {}ms, keeping {} original texts",
+                        deadlineMs, chunk.size());
+                    partial = true;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    future.cancel(true);
+                    partial = true;
+                } catch (ExecutionException e) {
+                    log.warn("Translation failed, keeping {} original texts: {}", chunk.size(),
+                        e.getCause() == null ? e.getMessage() : e.getCause().getMessage());
+                    partial = true;
+                }
+            }
+            return partial;
+        }
 
+        private int nextChunkEnd(List<String> texts, int start) {
+            int end = start;
+            int bytes = 0;
+            while (end < texts.size() && end - start < MAX_TEXTS_PER_REQUEST) {
+                int textBytes = texts.get(end).getBytes(StandardCharsets.UTF_8).length;
+                if (end > start && bytes + textBytes > MAX_REQUEST_BYTES) {
+                    break;
+                }
+                bytes += textBytes;
+                end++;
+            }
+            return end;
+        }
+    }
 }
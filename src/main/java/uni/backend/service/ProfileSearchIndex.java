@@ -0,0 +1,286 @@
+package uni.backend.service;
+
+import jakarta.annotation.PostConstruct;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import uni.backend.domain.ProfileChangedEvent;
+import uni.backend.repository.ProfileRepository;
+
+/**
+ * 홈 화면 검색용 해시태그 역색인.
+ * <p>
+ * 노출 가능한(한국인, 비공개/제재 아님) 프로필만 담고, 해시태그 ID 와 대학별로 프로필 ID 비트셋을 유지한다. 여러 해시태그 조건은
+ * 비트셋 교집합으로 계산하고, 별점/최신순으로 정렬된 집합에서 페이지를 잘라 낸다. 프로필, 해시태그, 제재 상태가 바뀌면 커밋 후
+ * 해당 유저만 다시 읽어 반영하고, 다른 인스턴스의 변경은 주기적인 전체 재구성으로 맞춘다.
+ */
+@Slf4j
+@Service
+public class ProfileSearchIndex {
+
+    public enum SortOrder {
+        NEWEST, HIGHEST_RATING, LOWEST_RATING
+    }
+
+    private static final Comparator<Entry> BY_STAR_DESC = Comparator
+        .comparingDouble(Entry::star).reversed()
+        .thenComparing(Comparator.comparingInt(Entry::profileId).reversed());
+
+    private static final Comparator<Entry> BY_NEWEST = Comparator
+        .comparingLong(Entry::createdAt).reversed()
+        .thenComparing(Comparator.comparingInt(Entry::profileId).reversed());
+
+    private final ProfileRepository profileRepository;
+    private final boolean enabled;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Integer, Entry> entries = new HashMap<>();
+    private final Map<Integer, Integer> profileIdByUserId = new HashMap<>();
+    private final Map<Integer, BitSet> profilesByHashtag = new HashMap<>();
+    private final Map<String, BitSet> profilesByUniversity = new HashMap<>();
+    private final Map<String, Integer> hashtagIdByName = new HashMap<>();
+    private final BitSet allProfiles = new BitSet();
+    private final NavigableSet<Entry> byStar = new TreeSet<>(BY_STAR_DESC);
+    private final NavigableSet<Entry> byNewest = new TreeSet<>(BY_NEWEST);
+    private volatile boolean ready;
+
+    public ProfileSearchIndex(ProfileRepository profileRepository,
+        @Value("${home.search-index.enabled:true}") boolean enabled) {
+        this.profileRepository = profileRepository;
+        this.enabled = enabled;
+    }
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    @PostConstruct
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        Map<Integer, Entry> latest = loadEntries(null);
+        lock.writeLock().lock();
+        try {
+            entries.clear();
+            profileIdByUserId.clear();
+            profilesByHashtag.clear();
+            profilesByUniversity.clear();
+            allProfiles.clear();
+            byStar.clear();
+            byNewest.clear();
+            latest.forEach((userId, entry) -> add(userId, entry));
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.debug("프로필 검색 인덱스를 재구성했습니다. ({}개)", latest.size());
+    }
+
+    @Scheduled(fixedDelayString = "${home.search-index.rebuild-ms:600000}",
+        initialDelayString = "${home.search-index.rebuild-ms:600000}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    // 커밋 후(트랜잭션 밖이면 바로) 해당 유저의 프로필을 다시 읽어 반영
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProfileChanged(ProfileChangedEvent event) {
+        if (!enabled || event.userId() == null) {
+            return;
+        }
+        refreshUser(event.userId());
+    }
+
+    void refreshUser(Integer userId) {
+        Entry latest = loadEntries(userId).get(userId);
+        lock.writeLock().lock();
+        try {
+            Integer previousProfileId = profileIdByUserId.remove(userId);
+            if (previousProfileId != null) {
+                remove(entries.get(previousProfileId));
+            }
+            if (latest != null) {
+                add(userId, latest);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @param univName     대학 이름 (null 이면 전체)
+     * @param hashtagNames 모두 가지고 있어야 하는 한국어 해시태그 (null/빈 목록이면 조건 없음)
+     * @return 정렬된 프로필 ID 페이지
+     */
+    public Page<Integer> search(String univName, List<String> hashtagNames, SortOrder order,
+        int page, int size) {
+        PageRequest pageRequest = PageRequest.of(page, size);
+        lock.readLock().lock();
+        try {
+            BitSet matches = match(univName, hashtagNames);
+            int total = matches.cardinality();
+            int offset = (int) pageRequest.getOffset();
+            if (offset >= total) {
+                return new PageImpl<>(List.of(), pageRequest, total);
+            }
+            return new PageImpl<>(collectPage(matches, total, order, offset, size), pageRequest,
+                total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private BitSet match(String univName, List<String> hashtagNames) {
+        BitSet base = univName == null ? allProfiles : profilesByUniversity.get(univName);
+        if (base == null) {
+            return new BitSet();
+        }
+        BitSet result = (BitSet) base.clone();
+        if (hashtagNames == null) {
+            return result;
+        }
+        for (String hashtagName : hashtagNames) {
+            Integer hashtagId = hashtagIdByName.get(hashtagName);
+            BitSet profiles = hashtagId == null ? null : profilesByHashtag.get(hashtagId);
+            if (profiles == null) {
+                return new BitSet();
+            }
+            result.and(profiles);
+            if (result.isEmpty()) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    private List<Integer> collectPage(BitSet matches, int total, SortOrder order, int offset,
+        int size) {
+        List<Integer> page = new ArrayList<>(size);
+        // 결과가 적으면 해당 항목만 정렬하고, 많으면 이미 정렬된 전체 집합을 순서대로 훑는다
+        if ((long) total * 8 < entries.size()) {
+            List<Entry> matched = new ArrayList<>(total);
+            for (int id = matches.nextSetBit(0); id >= 0; id = matches.nextSetBit(id + 1)) {
+                matched.add(entries.get(id));
+            }
+            matched.sort(comparator(order));
+            for (int i = offset; i < Math.min(total, offset + size); i++) {
+                page.add(matched.get(i).profileId());
+            }
+            return page;
+        }
+
+        Iterator<Entry> iterator = switch (order) {
+            case HIGHEST_RATING -> byStar.iterator();
+            case LOWEST_RATING -> byStar.descendingIterator();
+            case NEWEST -> byNewest.iterator();
+        };
+        int skipped = 0;
+        while (iterator.hasNext() && page.size() < size) {
+            Entry entry = iterator.next();
+            if (!matches.get(entry.profileId())) {
+                continue;
+            }
+            if (skipped++ >= offset) {
+                page.add(entry.profileId());
+            }
+        }
+        return page;
+    }
+
+    private static Comparator<Entry> comparator(SortOrder order) {
+        return switch (order) {
+            case HIGHEST_RATING -> BY_STAR_DESC;
+            case LOWEST_RATING -> BY_STAR_DESC.reversed();
+            case NEWEST -> BY_NEWEST;
+        };
+    }
+
+    private void add(Integer userId, Entry entry) {
+        entries.put(entry.profileId(), entry);
+        profileIdByUserId.put(userId, entry.profileId());
+        allProfiles.set(entry.profileId());
+        if (entry.univName() != null) {
+            profilesByUniversity.computeIfAbsent(entry.univName(), key -> new BitSet())
+                .set(entry.profileId());
+        }
+        for (int hashtagId : entry.hashtagIds()) {
+            profilesByHashtag.computeIfAbsent(hashtagId, key -> new BitSet())
+                .set(entry.profileId());
+        }
+        entry.hashtagNames().forEach((name, id) -> hashtagIdByName.put(name, id));
+        byStar.add(entry);
+        byNewest.add(entry);
+    }
+
+    private void remove(Entry entry) {
+        if (entry == null) {
+            return;
+        }
+        entries.remove(entry.profileId());
+        allProfiles.clear(entry.profileId());
+        if (entry.univName() != null) {
+            BitSet profiles = profilesByUniversity.get(entry.univName());
+            if (profiles != null) {
+                profiles.clear(entry.profileId());
+            }
+        }
+        for (int hashtagId : entry.hashtagIds()) {
+            BitSet profiles = profilesByHashtag.get(hashtagId);
+            if (profiles != null) {
+                profiles.clear(entry.profileId());
+            }
+        }
+        byStar.remove(entry);
+        byNewest.remove(entry);
+    }
+
+    // userId -> 인덱스 항목
+    private Map<Integer, Entry> loadEntries(Integer userId) {
+        Map<Integer, Map<String, Integer>> hashtagsByProfile = new HashMap<>();
+        for (Object[] row : profileRepository.findSearchIndexHashtags(userId)) {
+            hashtagsByProfile.computeIfAbsent((Integer) row[0], key -> new HashMap<>())
+                .put((String) row[2], (Integer) row[1]);
+        }
+
+        Map<Integer, Entry> loaded = new HashMap<>();
+        for (Object[] row : profileRepository.findSearchIndexRows(userId)) {
+            Integer profileId = (Integer) row[0];
+            Map<String, Integer> hashtags = hashtagsByProfile.getOrDefault(profileId, Map.of());
+            Double star = (Double) row[3];
+            LocalDateTime createdAt = (LocalDateTime) row[4];
+            loaded.put((Integer) row[1], new Entry(
+                profileId,
+                (String) row[2],
+                star == null ? -1 : star, // 별점이 없으면 가장 낮은 순위
+                createdAt == null ? Long.MIN_VALUE : createdAt.toEpochSecond(ZoneOffset.UTC),
+                hashtags.values().stream().mapToInt(Integer::intValue).distinct().toArray(),
+                hashtags));
+        }
+        return loaded;
+    }
+
+    private record Entry(int profileId, String univName, double star, long createdAt,
+                         int[] hashtagIds, Map<String, Integer> hashtagNames) {
+
+    }
+}
@@ -1,15 +1,19 @@
 package uni.backend.service;
 
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 import uni.backend.domain.Hashtag;
 import uni.backend.domain.MainCategory;
 import uni.backend.domain.Profile;
-import uni.backend.domain.Review;
+import uni.backend.domain.ProfileChangedEvent;
 import uni.backend.domain.Role;
+import uni.backend.domain.TranslatedContentType;
 import uni.backend.domain.User;
 import uni.backend.domain.dto.HomeDataResponse;
 import uni.backend.domain.dto.HomeProfileResponse;
@@ -34,18 +38,26 @@ public class ProfileService {
     private final AwsS3Service awsS3Service;
     private final ReviewRepository reviewRepository;
     private final UserRepository userRepository;
+    private final ContentTranslationService contentTranslationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
 
     @Autowired
     public ProfileService(ProfileRepository profileRepository,
         HashtagRepository hashtagRepository, HashtagService hashtagService,
         AwsS3Service awsS3Service,
-        ReviewRepository reviewRepository, UserRepository userRepository) {
+        ReviewRepository reviewRepository, UserRepository userRepository,
+        ContentTranslationService contentTranslationService,
+        ApplicationEventPublisher eventPublisher, EntityManager entityManager) {
         this.profileRepository = profileRepository;
         this.hashtagRepository = hashtagRepository;
         this.hashtagService = hashtagService;
         this.awsS3Service = awsS3Service;
         this.reviewRepository = reviewRepository;
         this.userRepository = userRepository;
+        this.contentTranslationService = contentTranslationService;
+        this.eventPublisher = eventPublisher;
+        this.entityManager = entityManager;
     }
 
     /**
@@ -116,6 +128,9 @@ public class ProfileService {
         profile.setCreatedAt(LocalDateTime.now());
         profile.setUpdatedAt(LocalDateTime.now());
         profileRepository.save(profile);
+        if (profile.getUser() != null) {
+            eventPublisher.publishEvent(new ProfileChangedEvent(profile.getUser().getUserId()));
+        }
     }
 
     @Transactional
@@ -138,7 +153,9 @@ public class ProfileService {
         }
 
         profile.setUpdatedAt(LocalDateTime.now());
-        return profileRepository.save(profile);
+        Profile savedProfile = profileRepository.save(profile);
+        eventPublisher.publishEvent(new ProfileChangedEvent(userId)); // 홈 카드 이미지 갱신
+        return savedProfile;
     }
 
     @Transactional
@@ -152,6 +169,12 @@ public class ProfileService {
         profile.setTime(profileDto.getTime());
         profile.setDescription(profileDto.getDescription());
 
+        // 소개글과 지역은 커밋 후 백그라운드에서 미리 번역
+        contentTranslationService.requestTranslation(TranslatedContentType.PROFILE_DESCRIPTION,
+            userId, profileDto.getDescription());
+        contentTranslationService.requestTranslation(TranslatedContentType.PROFILE_REGION, userId,
+            profileDto.getRegion());
+
         // 해시태그 업데이트
         if (profileDto.getHashtags() != null) {
             profile.getMainCategories().clear(); // 기존 해시태그 삭제
@@ -171,30 +194,36 @@ public class ProfileService {
         }
 
         profile.setUpdatedAt(LocalDateTime.now());
-        return profileRepository.save(profile);
+        Profile savedProfile = profileRepository.save(profile);
+        eventPublisher.publishEvent(new ProfileChangedEvent(userId));
+        return savedProfile;
     }
 
 
+    /**
+     * 리뷰 작성/수정/삭제 시 프로필 별점 집계를 증감분만큼 갱신 (리뷰 전체를 다시 읽지 않음)
+     *
+     * @param countDelta 리뷰 수 변화 (작성 +1, 삭제 -1, 수정 0)
+     * @param starDelta  별점 합계 변화
+     */
     @Transactional
-    public void updateProfileStar(Integer profileOwnerId) {
-        List<Review> reviews = reviewRepository.findByProfileOwnerUserId(profileOwnerId);
-
-        if (reviews.isEmpty()) {
-            throw new IllegalArgumentException("해당 유저에 대한 리뷰가 없습니다.");
-        }
-
-        double averageStar = reviews.stream()
-            .filter(review -> !Boolean.TRUE.equals(review.getDeleted())) // 삭제되지 않은 리뷰만 포함
-            .mapToInt(Review::getStar)
-            .average()
-            .orElse(0.0);
-
-        // 소수점 둘째 자리로 반올림
-        double roundedAverageStar = Math.round(averageStar * 100.0) / 100.0;
-
-        User profileOwner = userRepository.findById(profileOwnerId)
+    public void adjustProfileStar(Integer profileOwnerId, int countDelta, int starDelta) {
+        Profile profile = profileRepository.findByUser_UserId(profileOwnerId)
             .orElseThrow(() -> new IllegalArgumentException("해당 유저를 찾을 수 없습니다."));
-        profileOwner.getProfile().setStar(roundedAverageStar); // 반올림된 값 저장
+        // 리뷰 작성자/프로필 주인을 읽을 때 이미 올라온 프로필이면 잠금 조회도 캐시된 값을 돌려주므로,
+        // 행을 잠그면서 DB 의 최신 집계 값으로 다시 읽어 동시에 달린 리뷰의 증감이 유실되지 않도록 함
+        entityManager.refresh(profile, LockModeType.PESSIMISTIC_WRITE);
+
+        if (profile.getReviewCount() == null || profile.getStarSum() == null) {
+            // 집계 컬럼이 생기기 전 프로필: 이번 변경까지 반영된 리뷰를 한 번만 집계
+            List<Object[]> rows = reviewRepository.aggregateStarsByProfileOwner(profileOwnerId);
+            Object[] row = rows.isEmpty() ? null : rows.get(0);
+            profile.resetReviewStats(row == null ? 0 : ((Number) row[1]).intValue(),
+                row == null ? 0L : ((Number) row[2]).longValue());
+        } else {
+            profile.applyReviewDelta(countDelta, starDelta);
+        }
+        eventPublisher.publishEvent(new ProfileChangedEvent(profileOwnerId));
     }
 
     private static HomeProfileResponse profileToHomeProfileResponse(Profile profile) {
@@ -1,16 +1,26 @@
 package uni.backend.service;
 
+import java.util.ArrayList;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import uni.backend.domain.Qna;
 import uni.backend.domain.QnaLikes;
+import uni.backend.domain.Reply;
+import uni.backend.domain.TranslatedContentType;
 import uni.backend.domain.User;
 import uni.backend.domain.dto.QnaResponse;
+import uni.backend.domain.dto.QnaRow;
 import uni.backend.domain.dto.QnaUserResponse;
 import uni.backend.domain.dto.ReplyResponse;
+import uni.backend.domain.dto.ReplyRow;
 import uni.backend.repository.QnaLikeRepository;
 import uni.backend.repository.QnaRepository;
+import uni.backend.repository.ReplyRepository;
 
 import java.util.List;
 import uni.backend.repository.UserRepository;
@@ -18,15 +28,23 @@ import uni.backend.repository.UserRepository;
 @Service
 public class QnaService {
 
+    private static final int DEFAULT_QNA_PAGE_SIZE = 10;
+    private static final int MAX_QNA_PAGE_SIZE = 100;
+
     private final QnaRepository qnaRepository;
     private final UserRepository userRepository;
     private final QnaLikeRepository qnaLikeRepository;
+    private final ReplyRepository replyRepository;
+    private final ContentTranslationService contentTranslationService;
 
     public QnaService(QnaRepository qnaRepository, UserRepository userRepository,
-        QnaLikeRepository qnaLikeRepository) {
+        QnaLikeRepository qnaLikeRepository, ReplyRepository replyRepository,
+        ContentTranslationService contentTranslationService) {
         this.qnaRepository = qnaRepository;
         this.userRepository = userRepository;
         this.qnaLikeRepository = qnaLikeRepository;
+        this.replyRepository = replyRepository;
+        this.contentTranslationService = contentTranslationService;
     }
 
     // 특정 유저의 Qna 목록 조회
@@ -53,6 +71,8 @@ public class QnaService {
         qna.setCommenter(commenter);
         qna.setContent(content);
         Qna savedQna = qnaRepository.save(qna);
+        contentTranslationService.requestTranslation(TranslatedContentType.QNA, qna.getQnaId(),
+            content);
 
         // QnAResponse 생성
         return new QnaResponse(
@@ -98,48 +118,67 @@ public class QnaService {
         Qna qna = qnaRepository.findById(qnaId)
             .orElseThrow(() -> new IllegalArgumentException("댓글을 찾을 수 없습니다. ID: " + qnaId));
         qna.delete();
+        contentTranslationService.deleteTranslations(TranslatedContentType.QNA, qnaId);
         return qna;
     }
 
-    public List<QnaResponse> getUserQnas(Integer userId) {
-        List<Qna> userQnas = getQnasByUserId(userId);
-
-        return userQnas.stream().map(qna -> {
-            User profileOwner = qna.getProfileOwner();
-            User commentAuthor = qna.getCommenter();
-
-            QnaUserResponse ownerResponse = new QnaUserResponse(profileOwner.getUserId(),
-                profileOwner.getName());
-            QnaUserResponse commentAuthorResponse = new QnaUserResponse(commentAuthor.getUserId(),
-                commentAuthor.getName());
-
-            // 대댓글 리스트를 ReplyResponse 리스트로 변환
-            List<ReplyResponse> replyResponses = qna.getReplies().stream().map(reply -> {
-                return new ReplyResponse(
-                    reply.getReplyId(),
-                    reply.getCommenter().getUserId(),
-                    reply.getCommenter().getName(),
-                    reply.getBlindReply(),
-                    reply.getQna().getQnaId(),
-                    reply.getCommenter().getProfile().getImgProf(),
-                    reply.getDeleted(),
-                    reply.getDeleted() ? "삭제된 대댓글입니다." : null,
-                    reply.getLikes()
-                );
-            }).toList();
-
-            return new QnaResponse(
-                qna.getQnaId(),
-                ownerResponse,
-                commentAuthorResponse,
-                qna.getBlindQna(),
-                replyResponses, // 변환된 대댓글 리스트 추가
-                commentAuthor.getProfile().getImgProf(), // 프로필 이미지
-                qna.getDeleted(), // 삭제 여부
-                qna.getDeleted() ? "삭제된 Qna입니다." : null, // 삭제된 경우 메시지
-                qna.getLikes()
-            );
-        }).toList();
+    /**
+     * 특정 유저의 Q&A 목록 페이지 조회. Q&A 페이지와 그 대댓글을 작성자 정보와 함께 프로젝션으로 읽어, 글 수와 관계없이
+     * 쿼리 3번(목록, 개수, 대댓글)으로 응답 트리를 만든다.
+     */
+    @Transactional(readOnly = true)
+    public Page<QnaResponse> getUserQnas(Integer userId, int page, int size) {
+        Page<QnaRow> qnas = qnaRepository.findQnaRowsByProfileOwner(userId,
+            PageRequest.of(Math.max(page, 0), resolvePageSize(size)));
+        if (qnas.isEmpty()) {
+            return qnas.map(qna -> toResponse(qna, new ArrayList<>()));
+        }
+
+        List<Integer> qnaIds = qnas.getContent().stream().map(QnaRow::getQnaId).toList();
+        Map<Integer, List<ReplyResponse>> repliesByQna = replyRepository
+            .findReplyRowsByQnaIds(qnaIds).stream()
+            .collect(Collectors.groupingBy(ReplyRow::getQnaId,
+                Collectors.mapping(this::toReplyResponse, Collectors.toList())));
+
+        return qnas.map(qna -> toResponse(qna,
+            repliesByQna.getOrDefault(qna.getQnaId(), new ArrayList<>())));
+    }
+
+    private int resolvePageSize(int size) {
+        if (size <= 0) {
+            return DEFAULT_QNA_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_QNA_PAGE_SIZE);
+    }
+
+    private QnaResponse toResponse(QnaRow qna, List<ReplyResponse> replyResponses) {
+        boolean deleted = Boolean.TRUE.equals(qna.getDeleted());
+        return new QnaResponse(
+            qna.getQnaId(),
+            new QnaUserResponse(qna.getProfileOwnerId(), qna.getProfileOwnerName()),
+            new QnaUserResponse(qna.getCommenterId(), qna.getCommenterName()),
+            Boolean.TRUE.equals(qna.getIsBlind()) ? Qna.BLIND_MESSAGE : qna.getContent(),
+            replyResponses, // 변환된 대댓글 리스트 추가
+            qna.getCommenterImgProf(), // 프로필 이미지
+            qna.getDeleted(), // 삭제 여부
+            deleted ? "삭제된 Qna입니다." : null, // 삭제된 경우 메시지
+            qna.getLikes()
+        );
+    }
+
+    private ReplyResponse toReplyResponse(ReplyRow reply) {
+        boolean deleted = Boolean.TRUE.equals(reply.getDeleted());
+        return new ReplyResponse(
+            reply.getReplyId(),
+            reply.getCommenterId(),
+            reply.getCommenterName(),
+            Boolean.TRUE.equals(reply.getIsBlind()) ? Reply.BLIND_MESSAGE : reply.getContent(),
+            reply.getQnaId(),
+            reply.getCommenterImgProf(),
+            reply.getDeleted(),
+            deleted ? "삭제된 대댓글입니다." : null,
+            reply.getLikes()
+        );
     }
 
     // 댓글 본문 수정
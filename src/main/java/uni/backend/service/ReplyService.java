@@ -7,6 +7,7 @@ import org.springframework.transaction.annotation.Transactional;
 import uni.backend.domain.Qna;
 import uni.backend.domain.Reply;
 import uni.backend.domain.ReplyLikes;
+import uni.backend.domain.TranslatedContentType;
 import uni.backend.domain.User;
 import uni.backend.domain.dto.ReplyResponse;
 import uni.backend.repository.QnaRepository;
@@ -21,13 +22,16 @@ public class ReplyService {
     private final QnaRepository qnaRepository;
     private final UserRepository userRepository;
     private final ReplyLikeRepository replyLikeRepository;
+    private final ContentTranslationService contentTranslationService;
 
     public ReplyService(ReplyRepository replyRepository, QnaRepository qnaRepository,
-        UserRepository userRepository, ReplyLikeRepository replyLikeRepository) {
+        UserRepository userRepository, ReplyLikeRepository replyLikeRepository,
+        ContentTranslationService contentTranslationService) {
         this.replyRepository = replyRepository;
         this.qnaRepository = qnaRepository;
         this.userRepository = userRepository;
         this.replyLikeRepository = replyLikeRepository;
+        this.contentTranslationService = contentTranslationService;
     }
 
     private ReplyResponse createReplyResponse(Reply reply) {
@@ -54,6 +58,8 @@ public class ReplyService {
 
         Reply reply = new Reply(qna, commenter, content);
         replyRepository.save(reply);
+        contentTranslationService.requestTranslation(TranslatedContentType.REPLY,
+            reply.getReplyId(), content);
 
         return createReplyResponse(reply);
     }
@@ -70,6 +76,7 @@ public class ReplyService {
         Reply reply = replyRepository.findById(replyId)
             .orElseThrow(() -> new IllegalArgumentException("대댓글을 찾을 수 없습니다. ID: " + replyId));
         reply.softDelete();
+        contentTranslationService.deleteTranslations(TranslatedContentType.REPLY, replyId);
         return replyRepository.save(reply);
     }
 
@@ -78,6 +85,8 @@ public class ReplyService {
         Reply reply = replyRepository.findById(replyId)
             .orElseThrow(() -> new IllegalArgumentException("대댓글을 찾을 수 없습니다. ID: " + replyId));
         reply.updateContent(newContent);
+        contentTranslationService.requestTranslation(TranslatedContentType.REPLY, replyId,
+            newContent);
         return replyRepository.save(reply);
     }
 
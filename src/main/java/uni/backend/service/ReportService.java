@@ -3,11 +3,14 @@ package uni.backend.service;
 import java.util.HashMap;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import uni.backend.domain.ProfileChangedEvent;
 import uni.backend.domain.Report;
 import uni.backend.domain.User;
 import uni.backend.domain.UserStatus;
+import uni.backend.domain.UserStatusChangedEvent;
 import uni.backend.domain.dto.ReportRequest;
 import uni.backend.repository.ReportRepository;
 import uni.backend.repository.UserRepository;
@@ -21,6 +24,7 @@ public class ReportService {
     private final ReportRepository reportRepository;
     private final UserRepository userRepository;
     private final AdminService adminService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public Map<String, Object> createReport(Integer userId, ReportRequest reportRequest) {
@@ -73,6 +77,11 @@ public class ReportService {
 
         // 유저 상태 저장
         userRepository.save(reportedUser);
+        if (reportedUser.getStatus() == UserStatus.BANNED) {
+            // 제재 유저 목록은 커밋된 뒤에 반영
+            eventPublisher.publishEvent(UserStatusChangedEvent.of(reportedUser));
+            eventPublisher.publishEvent(new ProfileChangedEvent(reportedUser.getUserId()));
+        }
     }
 
 }
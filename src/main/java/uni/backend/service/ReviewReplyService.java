@@ -7,6 +7,7 @@ import org.springframework.transaction.annotation.Transactional;
 import uni.backend.domain.Review;
 import uni.backend.domain.ReviewReply;
 import uni.backend.domain.ReviewReplyLikes;
+import uni.backend.domain.TranslatedContentType;
 import uni.backend.domain.User;
 import uni.backend.domain.dto.ReviewReplyResponse;
 import uni.backend.repository.ReviewReplyLikeRepository;
@@ -21,15 +22,18 @@ public class ReviewReplyService {
     private final ReviewRepository reviewRepository;
     private final UserRepository userRepository;
     private final ReviewReplyLikeRepository reviewReplyLikeRepository;
+    private final ContentTranslationService contentTranslationService;
 
     public ReviewReplyService(ReviewReplyRepository reviewReplyRepository,
         ReviewRepository reviewRepository,
         UserRepository userRepository,
-        ReviewReplyLikeRepository reviewReplyLikeRepository) {
+        ReviewReplyLikeRepository reviewReplyLikeRepository,
+        ContentTranslationService contentTranslationService) {
         this.reviewReplyRepository = reviewReplyRepository;
         this.reviewRepository = reviewRepository;
         this.userRepository = userRepository;
         this.reviewReplyLikeRepository = reviewReplyLikeRepository;
+        this.contentTranslationService = contentTranslationService;
     }
 
     // **대댓글 작성**
@@ -49,6 +53,8 @@ public class ReviewReplyService {
             .content(content)
             .build();
         ReviewReply savedReply = reviewReplyRepository.save(reply);
+        contentTranslationService.requestTranslation(TranslatedContentType.REVIEW_REPLY,
+            reply.getReplyId(), content);
 
         // 응답 객체 생성
         return ReviewReplyResponse.builder()
@@ -72,6 +78,7 @@ public class ReviewReplyService {
             .orElseThrow(() -> new IllegalArgumentException("대댓글을 찾을 수 없습니다. ID: " + replyId));
 
         reply.softDelete(); // 소프트 삭제
+        contentTranslationService.deleteTranslations(TranslatedContentType.REVIEW_REPLY, replyId);
         return reviewReplyRepository.save(reply); // 상태 변경 후 저장
     }
 
@@ -86,6 +93,8 @@ public class ReviewReplyService {
         }
 
         reply.updateContent(newContent); // 수정 내용과 수정 시간 업데이트
+        contentTranslationService.requestTranslation(TranslatedContentType.REVIEW_REPLY, replyId,
+            newContent);
         reviewReplyRepository.save(reply); // 변경 사항 저장
     }
 
@@ -3,6 +3,7 @@ package uni.backend.service;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
@@ -11,11 +12,15 @@ import uni.backend.domain.Matching;
 import uni.backend.domain.Review;
 import uni.backend.domain.ReviewLikes;
 import uni.backend.domain.ReviewReply;
+import uni.backend.domain.TranslatedContentType;
 import uni.backend.domain.User;
 import uni.backend.domain.dto.ReviewReplyResponse;
+import uni.backend.domain.dto.ReviewReplyRow;
 import uni.backend.domain.dto.ReviewResponse;
+import uni.backend.domain.dto.ReviewRow;
 import uni.backend.repository.MatchingRepository;
 import uni.backend.repository.ReviewLikeRepository;
+import uni.backend.repository.ReviewReplyRepository;
 import uni.backend.repository.ReviewRepository;
 import uni.backend.repository.UserRepository;
 
@@ -26,16 +31,21 @@ public class ReviewService {
     private final UserRepository userRepository;
     private final ReviewRepository reviewRepository;
     private final ReviewLikeRepository reviewLikeRepository;
+    private final ReviewReplyRepository reviewReplyRepository;
     private final ProfileService profileService;
+    private final ContentTranslationService contentTranslationService;
 
     public ReviewService(MatchingRepository matchingRepository, UserRepository userRepository,
         ReviewRepository reviewRepository, ReviewLikeRepository reviewLikeRepository,
-        ProfileService profileService) {
+        ReviewReplyRepository reviewReplyRepository, ProfileService profileService,
+        ContentTranslationService contentTranslationService) {
         this.matchingRepository = matchingRepository;
         this.userRepository = userRepository;
         this.reviewRepository = reviewRepository;
         this.reviewLikeRepository = reviewLikeRepository;
+        this.reviewReplyRepository = reviewReplyRepository;
         this.profileService = profileService;
+        this.contentTranslationService = contentTranslationService;
     }
 
     @Transactional
@@ -67,15 +77,34 @@ public class ReviewService {
         matching.setReview(review);
         matching.setStatus(Matching.Status.ENDED);
         Review savedReview = reviewRepository.save(review);
+        contentTranslationService.requestTranslation(TranslatedContentType.REVIEW,
+            review.getReviewId(), content);
 
         // 프로필 별점 업데이트
-        profileService.updateProfileStar(profileOwnerId);
+        profileService.adjustProfileStar(profileOwnerId, 1, star);
 
         // 생성된 리뷰를 응답 객체로 변환
         return convertToResponse(savedReview);
     }
 
     public ReviewResponse convertToResponse(Review review) {
+        return toResponse(ReviewRow.from(review), getReplyResponses(review));
+    }
+
+    // 대댓글 변환 로직
+    protected List<ReviewReplyResponse> getReplyResponses(Review review) {
+        List<ReviewReply> replies = review.getReplies(); // ReviewReply 사용
+        if (replies == null) {
+            return new ArrayList<>(); // null이면 빈 리스트 반환
+        }
+
+        return replies.stream()
+            .map(ReviewReplyRow::from)
+            .map(this::toReplyResponse)
+            .collect(Collectors.toList());
+    }
+
+    private ReviewResponse toResponse(ReviewRow review, List<ReviewReplyResponse> replies) {
         boolean isDeleted = Boolean.TRUE.equals(review.getDeleted());
         boolean isBlind = Boolean.TRUE.equals(review.getIsBlind());
 
@@ -97,57 +126,47 @@ public class ReviewService {
             .content(content)
             .star(star)
             .likes(review.getLikes())
-            .profileOwnerId(review.getProfileOwner().getUserId())
-            .profileOwnerName(review.getProfileOwner().getName())
-            .commenterId(review.getCommenter().getUserId())
-            .commenterName(review.getCommenter().getName())
-            .commenterImgProf(review.getCommenter().getProfile().getImgProf())
+            .profileOwnerId(review.getProfileOwnerId())
+            .profileOwnerName(review.getProfileOwnerName())
+            .commenterId(review.getCommenterId())
+            .commenterName(review.getCommenterName())
+            .commenterImgProf(review.getCommenterImgProf())
             .deleted(review.getDeleted())
             .deletedTime(review.getDeletedTime())
             .updatedTime(review.getUpdatedTime())
             .deleteMessage(deleteMessage)
-            .replies(getReplyResponses(review)) // 대댓글 리스트 변환 추가
+            .replies(replies) // 대댓글 리스트 변환 추가
             .build();
     }
 
-    // 대댓글 변환 로직
-    protected List<ReviewReplyResponse> getReplyResponses(Review review) {
-        List<ReviewReply> replies = review.getReplies(); // ReviewReply 사용
-        if (replies == null) {
-            return new ArrayList<>(); // null이면 빈 리스트 반환
+    private ReviewReplyResponse toReplyResponse(ReviewReplyRow reply) {
+        boolean isReplyDeleted = Boolean.TRUE.equals(reply.getDeleted());
+        boolean isReplyBlind = Boolean.TRUE.equals(reply.getIsBlind());
+
+        String content = null;
+        String deleteMessage = null;
+
+        if (isReplyDeleted) {
+            deleteMessage = "삭제된 대댓글입니다.";
+        } else if (isReplyBlind) {
+            deleteMessage = "블라인드 처리된 대댓글입니다.";
+        } else {
+            content = reply.getContent();
         }
 
-        return replies.stream()
-            .map(reply -> {
-                boolean isReplyDeleted = Boolean.TRUE.equals(reply.getDeleted());
-                boolean isReplyBlind = Boolean.TRUE.equals(reply.getIsBlind());
-
-                String content = null;
-                String deleteMessage = null;
-
-                if (isReplyDeleted) {
-                    deleteMessage = "삭제된 대댓글입니다.";
-                } else if (isReplyBlind) {
-                    deleteMessage = "블라인드 처리된 대댓글입니다.";
-                } else {
-                    content = reply.getContent();
-                }
-
-                return ReviewReplyResponse.builder()
-                    .replyId(reply.getReplyId())
-                    .reviewId(reply.getReview().getReviewId()) // ReviewReply와 Review 간 관계
-                    .commenterId(reply.getCommenter().getUserId())
-                    .commenterName(reply.getCommenter().getName())
-                    .commenterImgProf(reply.getCommenter().getProfile().getImgProf())
-                    .content(content)
-                    .deleted(reply.getDeleted())
-                    .deletedTime(reply.getDeletedTime())
-                    .updatedTime(reply.getUpdatedTime())
-                    .deleteMessage(deleteMessage)
-                    .likes(reply.getLikes())
-                    .build();
-            })
-            .collect(Collectors.toList());
+        return ReviewReplyResponse.builder()
+            .replyId(reply.getReplyId())
+            .reviewId(reply.getReviewId()) // ReviewReply와 Review 간 관계
+            .commenterId(reply.getCommenterId())
+            .commenterName(reply.getCommenterName())
+            .commenterImgProf(reply.getCommenterImgProf())
+            .content(content)
+            .deleted(reply.getDeleted())
+            .deletedTime(reply.getDeletedTime())
+            .updatedTime(reply.getUpdatedTime())
+            .deleteMessage(deleteMessage)
+            .likes(reply.getLikes())
+            .build();
     }
 
 
@@ -157,10 +176,25 @@ public class ReviewService {
         return reviewRepository.findByProfileOwnerUserId(userId);
     }
 
+    /**
+     * 리뷰 목록 조회. 리뷰와 대댓글을 작성자 정보와 함께 프로젝션으로 읽어, 리뷰/대댓글 수와 관계없이 쿼리 2번으로 응답을 만든다.
+     */
+    @Transactional(readOnly = true)
     public List<ReviewResponse> getReviewResponsesByUserId(Integer userId) {
-        List<Review> reviews = getReviewsByUserId(userId); // 특정 유저의 리뷰 조회
+        List<ReviewRow> reviews = reviewRepository.findReviewRowsByProfileOwner(userId);
+        if (reviews.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<Integer> reviewIds = reviews.stream().map(ReviewRow::getReviewId).toList();
+        Map<Integer, List<ReviewReplyResponse>> repliesByReview = reviewReplyRepository
+            .findReplyRowsByReviewIds(reviewIds).stream()
+            .collect(Collectors.groupingBy(ReviewReplyRow::getReviewId,
+                Collectors.mapping(this::toReplyResponse, Collectors.toList())));
+
         return reviews.stream()
-            .map(this::convertToResponse) // 리뷰 -> ReviewResponse 변환
+            .map(review -> toResponse(review,
+                repliesByReview.getOrDefault(review.getReviewId(), new ArrayList<>())))
             .collect(Collectors.toList());
     }
 
@@ -195,11 +229,17 @@ public class ReviewService {
         Review review = reviewRepository.findById(reviewId)
             .orElseThrow(() -> new IllegalArgumentException("해당 Review가 존재하지 않습니다."));
 
+        // 이미 삭제된 리뷰는 별점 집계에서 빠져 있으므로 다시 차감하지 않음
+        boolean wasDeleted = Boolean.TRUE.equals(review.getDeleted());
         review.setDeleted(true); // 삭제 플래그 설정
         review.setDeletedTime(LocalDateTime.now()); // 삭제 시간 설정
+        contentTranslationService.deleteTranslations(TranslatedContentType.REVIEW, reviewId);
 
         // 프로필 별점 업데이트
-        profileService.updateProfileStar(review.getProfileOwner().getUserId());
+        if (!wasDeleted) {
+            profileService.adjustProfileStar(review.getProfileOwner().getUserId(), -1,
+                -review.getStar());
+        }
     }
 
     @Transactional
@@ -211,12 +251,18 @@ public class ReviewService {
             throw new IllegalArgumentException("별점은 1~5 사이여야 합니다.");
         }
 
+        int previousStar = review.getStar();
         review.updateContent(newContent); // 새로운 내용으로 업데이트
+        contentTranslationService.requestTranslation(TranslatedContentType.REVIEW, reviewId,
+            newContent);
         review.setStar(star);             // 별점 업데이트
         Review updatedReview = reviewRepository.save(review);
 
-        // 프로필 별점 업데이트
-        profileService.updateProfileStar(review.getProfileOwner().getUserId());
+        // 프로필 별점 업데이트 (삭제된 리뷰는 집계에 포함되지 않으므로 제외)
+        if (!Boolean.TRUE.equals(review.getDeleted()) && previousStar != star) {
+            profileService.adjustProfileStar(review.getProfileOwner().getUserId(), 0,
+                star - previousStar);
+        }
 
         return updatedReview;
     }
@@ -0,0 +1,182 @@
+package uni.backend.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import uni.backend.domain.TranslationCacheEntry;
+import uni.backend.domain.dto.IndividualTranslationResponse;
+import uni.backend.domain.dto.TranslationCacheStatsResponse;
+import uni.backend.domain.dto.TranslationRequest;
+import uni.backend.repository.TranslationCacheEntryRepository;
+
+/**
+ * DeepL 번역 결과 캐시.
+ * <p>
+ * (원문, 출발 언어, 도착 언어, 용어집) 해시를 키로 하여 힙 LRU 캐시를 먼저 조회하고, 없으면 DB 캐시를 조회한다.
+ */
+@Slf4j
+@Service
+public class TranslationCacheService {
+
+    private final TranslationCacheEntryRepository translationCacheEntryRepository;
+    private final int heapCapacity;
+    private final Map<String, CachedTranslation> heap;
+
+    private final AtomicLong heapHits = new AtomicLong();
+    private final AtomicLong databaseHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong storedCount = new AtomicLong();
+
+    public TranslationCacheService(TranslationCacheEntryRepository translationCacheEntryRepository,
+        @Value("${translation.cache.heap-capacity:10000}") int heapCapacity) {
+        this.translationCacheEntryRepository = translationCacheEntryRepository;
+        this.heapCapacity = heapCapacity;
+        this.heap = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedTranslation> eldest) {
+                return size() > TranslationCacheService.this.heapCapacity;
+            }
+        };
+    }
+
+    // 번역 결과에 영향을 주는 요청 옵션까지 포함한 캐시 키
+    public String cacheKey(String text, TranslationRequest request) {
+        String source = String.join("\u0000",
+            String.valueOf(request.getSource_lang()),
+            String.valueOf(request.getTarget_lang()),
+            String.valueOf(request.getGlossary_id()),
+            String.valueOf(request.getFormality()),
+            String.valueOf(request.getTag_handling()),
+            String.valueOf(request.getContext()),
+            String.valueOf(text));
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(source.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    // 캐시에 있는 번역만 반환 (힙 → DB 순으로 조회)
+    public Map<String, IndividualTranslationResponse> getAll(Collection<String> keys) {
+        Map<String, IndividualTranslationResponse> found = new HashMap<>();
+        Set<String> notInHeap = new LinkedHashSet<>();
+
+        synchronized (heap) {
+            for (String key : keys) {
+                CachedTranslation cached = heap.get(key);
+                if (cached != null) {
+                    found.put(key, cached.toResponse());
+                } else {
+                    notInHeap.add(key);
+                }
+            }
+        }
+        heapHits.addAndGet(found.size());
+
+        if (!notInHeap.isEmpty()) {
+            for (TranslationCacheEntry entry : findInDatabase(notInHeap)) {
+                CachedTranslation cached = new CachedTranslation(entry.getTranslatedText(),
+                    entry.getDetectedSourceLanguage());
+                found.put(entry.getCacheKey(), cached.toResponse());
+                synchronized (heap) {
+                    heap.put(entry.getCacheKey(), cached);
+                }
+                databaseHits.incrementAndGet();
+            }
+        }
+        return found;
+    }
+
+    // DeepL 에서 새로 받은 번역을 힙과 DB 에 저장
+    public void putAll(Map<String, IndividualTranslationResponse> translations, String sourceLang,
+        String targetLang) {
+        if (translations.isEmpty()) {
+            return;
+        }
+        misses.addAndGet(translations.size());
+        LocalDateTime now = LocalDateTime.now();
+        List<TranslationCacheEntry> entries = new ArrayList<>();
+
+        synchronized (heap) {
+            translations.forEach((key, translation) -> {
+                heap.put(key, new CachedTranslation(translation.getText(),
+                    translation.getDetected_source_language()));
+                entries.add(TranslationCacheEntry.builder()
+                    .cacheKey(key)
+                    .sourceLang(sourceLang)
+                    .targetLang(targetLang)
+                    .translatedText(translation.getText())
+                    .detectedSourceLanguage(translation.getDetected_source_language())
+                    .createdAt(now)
+                    .build());
+            });
+        }
+
+        try {
+            translationCacheEntryRepository.saveAll(entries);
+            storedCount.addAndGet(entries.size());
+        } catch (RuntimeException e) {
+            // 동시에 같은 번역을 저장한 경우 등: 힙 캐시는 유지하고 DB 저장만 건너뜀
+            log.warn("Failed to store {} translations in cache: {}", entries.size(), e.getMessage());
+        }
+    }
+
+    public TranslationCacheStatsResponse getStats() {
+        long hits = heapHits.get() + databaseHits.get();
+        long total = hits + misses.get();
+        int heapSize;
+        synchronized (heap) {
+            heapSize = heap.size();
+        }
+        return TranslationCacheStatsResponse.builder()
+            .heapSize(heapSize)
+            .heapCapacity(heapCapacity)
+            .heapHits(heapHits.get())
+            .databaseHits(databaseHits.get())
+            .misses(misses.get())
+            .storedCount(storedCount.get())
+            .hitRatio(total == 0 ? 0 : (double) hits / total)
+            .build();
+    }
+
+    // 힙 캐시만 비움 (DB 캐시는 유지)
+    public void clearHeap() {
+        synchronized (heap) {
+            heap.clear();
+        }
+    }
+
+    private List<TranslationCacheEntry> findInDatabase(Collection<String> keys) {
+        try {
+            return translationCacheEntryRepository.findByCacheKeyIn(keys);
+        } catch (RuntimeException e) {
+            log.warn("Failed to read translation cache: {}", e.getMessage());
+            return List.of();
+        }
+    }
+
+    private record CachedTranslation(String text, String detectedSourceLanguage) {
+
+        IndividualTranslationResponse toResponse() {
+            IndividualTranslationResponse response = new IndividualTranslationResponse();
+            response.setText(text);
+            response.setDetected_source_language(detectedSourceLanguage);
+            return response;
+        }
+    }
+}
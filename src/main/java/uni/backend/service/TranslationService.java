@@ -1,21 +1,30 @@
 package uni.backend.service;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClient;
+import org.springframework.web.reactive.function.client.WebClient;
 import uni.backend.domain.dto.CreateGlossaryRequest;
 import uni.backend.domain.dto.CreateGlossaryResponse;
 import uni.backend.domain.dto.GlossariesListResponse;
+import uni.backend.domain.dto.IndividualTranslationResponse;
 import uni.backend.domain.dto.SingleGlossaryResponse;
 import uni.backend.domain.dto.TranslationRequest;
 import uni.backend.domain.dto.TranslationResponse;
 import uni.backend.exception.DeeplWrongFormatException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 @Slf4j
 @Service
@@ -31,6 +40,10 @@ public class TranslationService {
     @Autowired
     private final RestClient restClient;
 
+    private final WebClient webClient;
+
+    private final TranslationCacheService translationCacheService;
+
     @Value("${DeepL.key}")
     private String authKey;
 
@@ -40,8 +53,11 @@ public class TranslationService {
     @Value("${DeepL.glossary.zh}")
     private String glossaryZh;
 
-    public TranslationService(RestClient restClient) {
+    public TranslationService(RestClient restClient, WebClient webClient,
+        TranslationCacheService translationCacheService) {
         this.restClient = restClient;
+        this.webClient = webClient;
+        this.translationCacheService = translationCacheService;
     }
 
     public String determineTargetLanguage(String acceptLanguageHeader) {
@@ -100,7 +116,36 @@ public class TranslationService {
     }
 
     public TranslationResponse translate(TranslationRequest request) {
+        prepareRequest(request);
+        if (request.getText() == null || request.getText().isEmpty()) {
+            return sendTranslationRequest(request);
+        }
 
+        CacheLookup lookup = new CacheLookup(request);
+        if (lookup.isComplete()) {
+            return lookup.toResponse();
+        }
+        return lookup.complete(sendTranslationRequest(lookup.missingRequest()));
+    }
+
+    // 논블로킹 번역: 캐시에 없는 문장만 WebClient 로 요청
+    public CompletableFuture<TranslationResponse> translateAsync(TranslationRequest request) {
+        prepareRequest(request);
+        if (request.getText() == null || request.getText().isEmpty()) {
+            return sendTranslationRequestAsync(request).toFuture();
+        }
+
+        CacheLookup lookup = new CacheLookup(request);
+        if (lookup.isComplete()) {
+            return CompletableFuture.completedFuture(lookup.toResponse());
+        }
+        return sendTranslationRequestAsync(lookup.missingRequest())
+            .publishOn(Schedulers.boundedElastic()) // 캐시 저장(DB)은 이벤트 루프 밖에서 수행
+            .map(lookup::complete)
+            .toFuture();
+    }
+
+    private void prepareRequest(TranslationRequest request) {
         final String targetLang = request.getTarget_lang();
         final String sourceLang =
             request.getSource_lang() == null ? (targetLang.equals(DEFAULT_LANGUAGE) ? "en"
@@ -114,8 +159,68 @@ public class TranslationService {
             request.setSource_lang(sourceLang.toUpperCase());
             applyGlossary(request, sourceLang, targetLang);
         }
+    }
 
-        return sendTranslationRequest(request);
+    /**
+     * 번역 캐시 조회 결과. 캐시에 없는 문장만 중복 없이 DeepL 로 요청하고, 받은 결과를 캐시에 저장한 뒤 원래 순서대로 합친다.
+     */
+    private class CacheLookup {
+
+        private final TranslationRequest request;
+        private final List<String> keys;
+        private final Map<String, IndividualTranslationResponse> translations;
+        private final Map<String, String> missing = new LinkedHashMap<>();
+
+        CacheLookup(TranslationRequest request) {
+            this.request = request;
+            List<String> texts = request.getText();
+            this.keys = texts.stream()
+                .map(text -> translationCacheService.cacheKey(text, request))
+                .toList();
+            this.translations = new HashMap<>(translationCacheService.getAll(keys));
+            for (int i = 0; i < texts.size(); i++) {
+                if (!translations.containsKey(keys.get(i))) {
+                    missing.putIfAbsent(keys.get(i), texts.get(i));
+                }
+            }
+        }
+
+        boolean isComplete() {
+            return missing.isEmpty();
+        }
+
+        TranslationRequest missingRequest() {
+            TranslationRequest missingRequest = new TranslationRequest();
+            missingRequest.setText(new ArrayList<>(missing.values()));
+            missingRequest.setSource_lang(request.getSource_lang());
+            missingRequest.setTarget_lang(request.getTarget_lang());
+            missingRequest.setContext(request.getContext());
+            missingRequest.setSplit_sentences(request.getSplit_sentences());
+            missingRequest.setPreserve_formatting(request.getPreserve_formatting());
+            missingRequest.setFormality(request.getFormality());
+            missingRequest.setGlossary_id(request.getGlossary_id());
+            missingRequest.setTag_handling(request.getTag_handling());
+            return missingRequest;
+        }
+
+        TranslationResponse complete(TranslationResponse response) {
+            Map<String, IndividualTranslationResponse> fetched = new LinkedHashMap<>();
+            List<IndividualTranslationResponse> fetchedTranslations = response.getTranslations();
+            int index = 0;
+            for (String key : missing.keySet()) {
+                fetched.put(key, fetchedTranslations.get(index++));
+            }
+            translationCacheService.putAll(fetched, request.getSource_lang(),
+                request.getTarget_lang());
+            translations.putAll(fetched);
+            return toResponse();
+        }
+
+        TranslationResponse toResponse() {
+            TranslationResponse result = new TranslationResponse();
+            result.setTranslations(new ArrayList<>(keys.stream().map(translations::get).toList()));
+            return result;
+        }
     }
 
     private void normalizeLanguages(TranslationRequest request) {
@@ -144,6 +249,12 @@ public class TranslationService {
             .body(TranslationResponse.class);
     }
 
+    private Mono<TranslationResponse> sendTranslationRequestAsync(TranslationRequest request) {
+        return webClient.post().uri(DEEPL_TRANSLATE_URL)
+            .header("Authorization", "DeepL-Auth-Key " + authKey).bodyValue(request).retrieve()
+            .bodyToMono(TranslationResponse.class);
+    }
+
 
     /*public CreateGlossaryResponse createGlossary(CreateGlossaryRequest request) {
         CreateGlossaryResponse response = restClient.post().uri(DEEPL_GLOSSARY_URL)
@@ -14,6 +14,9 @@ public class UniversityService {
     @Autowired
     private UniversityRepository universityRepository;
 
+    @Autowired
+    private LocalizationDictionary localizationDictionary;
+
     public List<University> findAll() {
         return universityRepository.findAll(); // 데이터베이스에서 모든 대학 정보 조회
     }
@@ -32,12 +35,9 @@ public class UniversityService {
 
     public String convertToKorean(String univName) {
         if (isEnglish(univName)) {
-            University university = universityRepository.findByEnUniName(univName);
-            if (university == null) {
-                throw new IllegalArgumentException(
-                    "University not found with English name: " + univName);
-            }
-            return university.getUniName();
+            return localizationDictionary.findKoreanUniversityName(univName)
+                .orElseThrow(() -> new IllegalArgumentException(
+                    "University not found with English name: " + univName));
         } else {
             return univName;
         }
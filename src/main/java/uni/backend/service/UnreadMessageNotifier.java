@@ -0,0 +1,130 @@
+package uni.backend.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import uni.backend.domain.UnreadMessageNotification;
+import uni.backend.repository.ChatRoomRepository;
+import uni.backend.repository.UnreadMessageNotificationRepository;
+
+/**
+ * 안 읽은 메시지 알림 메일 발송.
+ * <p>
+ * 안 읽은 메시지가 오래 쌓인 채팅방만 DB 에서 유저별로 묶어 userId 키셋 페이지 단위로 읽는다. 유저마다 채팅방 수와 무관하게 메일
+ * 한 통만 {@link MailQueue} 에 넣고, 같은 트랜잭션에서 기록을 남겨 같은 날 다시 실행되어도 중복 발송하지 않는다. 실제 발송,
+ * 재시도, dead letter 처리는 {@link MailDispatcher} 가 맡는다.
+ */
+@Slf4j
+@Service
+public class UnreadMessageNotifier {
+
+    private static final String SUBJECT = "읽지 않은 메시지가 있습니다.";
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final UnreadMessageNotificationRepository notificationRepository;
+    private final MailQueue mailQueue;
+    private final TransactionTemplate transaction;
+    private final int pageSize;
+    private final long staleAfterHours;
+
+    public UnreadMessageNotifier(ChatRoomRepository chatRoomRepository,
+        UnreadMessageNotificationRepository notificationRepository,
+        MailQueue mailQueue,
+        PlatformTransactionManager transactionManager,
+        @Value("${chat.unread-notification.page-size:500}") int pageSize,
+        @Value("${chat.unread-notification.stale-after-hours:24}") long staleAfterHours) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Unread notification page size must be positive");
+        }
+        this.chatRoomRepository = chatRoomRepository;
+        this.notificationRepository = notificationRepository;
+        this.mailQueue = mailQueue;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.pageSize = pageSize;
+        this.staleAfterHours = staleAfterHours;
+    }
+
+    @Scheduled(cron = "${chat.unread-notification.cron:0 0 0 * * *}")
+    public void notifyUnreadMessages() {
+        int queued = notifyUnreadMessages(LocalDateTime.now());
+        log.info("안 읽은 메시지 알림 {}건을 발송 대기열에 넣었습니다.", queued);
+    }
+
+    /**
+     * now 기준으로 오래된 안 읽은 메시지가 있는 유저에게 보낼 알림을 메일 outbox 에 저장
+     *
+     * @return 이번 실행에서 대기열에 넣은 메일 수
+     */
+    public int notifyUnreadMessages(LocalDateTime now) {
+        LocalDateTime cutoff = now.minusHours(staleAfterHours);
+        LocalDate notifiedOn = now.toLocalDate();
+        int queued = 0;
+        Integer afterUserId = 0;
+
+        List<Object[]> page;
+        do {
+            page = chatRoomRepository.findStaleUnreadRecipients(cutoff, afterUserId, pageSize);
+            if (page.isEmpty()) {
+                break;
+            }
+            afterUserId = (Integer) page.getLast()[0];
+            queued += queuePage(page, notifiedOn);
+        } while (page.size() == pageSize);
+        return queued;
+    }
+
+    private int queuePage(List<Object[]> page, LocalDate notifiedOn) {
+        List<Integer> userIds = page.stream().map(row -> (Integer) row[0]).toList();
+        Set<Integer> alreadyNotified = new HashSet<>(
+            notificationRepository.findNotifiedUserIds(notifiedOn, userIds));
+
+        int queued = 0;
+        for (Object[] row : page) {
+            if (alreadyNotified.contains((Integer) row[0])) {
+                continue;
+            }
+            UnreadMessageNotification notification = UnreadMessageNotification.builder()
+                .userId((Integer) row[0])
+                .email((String) row[1])
+                .roomCount(((Number) row[2]).intValue())
+                .unreadCount(((Number) row[3]).longValue())
+                .notifiedOn(notifiedOn)
+                .build();
+            if (queue(notification)) {
+                queued++;
+            }
+        }
+        return queued;
+    }
+
+    // 유저마다 기록과 outbox 행을 한 트랜잭션으로 저장 (한 유저가 실패해도 나머지는 계속 진행)
+    private boolean queue(UnreadMessageNotification notification) {
+        try {
+            transaction.executeWithoutResult(status -> {
+                SimpleMailMessage message = new SimpleMailMessage();
+                message.setTo(notification.getEmail());
+                message.setSubject(SUBJECT);
+                message.setText(String.format("%d개의 채팅방에 읽지 않은 메시지 %d개가 있습니다.",
+                    notification.getRoomCount(), notification.getUnreadCount()));
+                mailQueue.enqueue(message);
+
+                notification.setSentAt(LocalDateTime.now());
+                notificationRepository.save(notification);
+            });
+            return true;
+        } catch (RuntimeException e) {
+            // 기록을 남기지 않으므로 다음 실행에서 다시 시도
+            log.error("Failed to queue unread message notification for {}", notification.getEmail(), e);
+            return false;
+        }
+    }
+}
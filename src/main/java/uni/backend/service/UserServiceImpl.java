@@ -1,8 +1,8 @@
 package uni.backend.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -11,6 +11,7 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import uni.backend.domain.Profile;
+import uni.backend.domain.ProfileChangedEvent;
 import uni.backend.domain.User;
 import uni.backend.domain.UserStatus;
 import uni.backend.domain.dto.MeResponse;
@@ -26,8 +27,9 @@ import java.util.*;
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
-    private final JavaMailSender mailSender;
+    private final MailQueue mailQueue;
     private final JwtUtils jwtUtils;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -35,7 +37,10 @@ public class UserServiceImpl implements UserService {
         Profile profile = new Profile();
         profile.setUser(user);
         user.setProfile(profile);
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        // 가입과 함께 홈 카드와 검색 색인에 새 프로필 반영
+        eventPublisher.publishEvent(new ProfileChangedEvent(saved.getUserId()));
+        return saved;
     }
 
     @Override
@@ -65,7 +70,7 @@ public class UserServiceImpl implements UserService {
         message.setTo(email);
         message.setSubject("Password Reset Token");
         message.setText("Your password reset token is: " + resetToken);
-        mailSender.send(message);
+        mailQueue.enqueue(message);
     }
 
     @Override
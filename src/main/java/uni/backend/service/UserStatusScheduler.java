@@ -3,13 +3,15 @@ package uni.backend.service;
 import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import uni.backend.domain.ProfileChangedEvent;
 import uni.backend.domain.User;
 import uni.backend.domain.UserStatus;
+import uni.backend.domain.UserStatusChangedEvent;
 import uni.backend.repository.UserRepository;
 
 import java.time.LocalDateTime;
@@ -21,7 +23,8 @@ import java.util.List;
 public class UserStatusScheduler {
 
     private final UserRepository userRepository;
-    private final JavaMailSender mailSender;
+    private final MailQueue mailQueue;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     @Scheduled(cron = "0 0 0 * * *")  // 매일 자정에 실행
@@ -44,6 +47,9 @@ public class UserStatusScheduler {
         }
 
         userRepository.saveAll(bannedUsers);
+        bannedUsers.forEach(user -> eventPublisher.publishEvent(UserStatusChangedEvent.of(user)));
+        bannedUsers.forEach(
+            user -> eventPublisher.publishEvent(new ProfileChangedEvent(user.getUserId())));
         log.info("유저 밴 상태 점검이 완료되었습니다.");
     }
 
@@ -54,7 +60,7 @@ public class UserStatusScheduler {
             helper.setTo(email);
             helper.setSubject("읽지 않은 메시지가 있습니다.");
             helper.setText(message);
-            mailSender.send(helper);
+            mailQueue.enqueue(helper);
         } catch (Exception e) {
             log.error("Failed to send email to {}", email, e);
         }
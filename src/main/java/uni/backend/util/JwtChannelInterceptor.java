@@ -1,5 +1,6 @@
 package uni.backend.util;
 
+import io.jsonwebtoken.Claims;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.messaging.Message;
@@ -28,8 +29,9 @@ public class JwtChannelInterceptor implements ChannelInterceptor {
             String token = accessor.getFirstNativeHeader("Authorization");
             if (token != null && token.startsWith("Bearer ")) {
                 token = token.substring(7); // "Bearer " 제거
-                if (jwtUtils.validateJwtToken(token)) {
-                    String username = jwtUtils.getEmailFromJwtToken(token);
+                Claims claims = jwtUtils.parseClaims(token);
+                if (claims != null) {
+                    String username = claims.getSubject();
                     UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(
                             username, null, Collections.emptyList());
                     accessor.setUser(auth); // 인증된 사용자 설정
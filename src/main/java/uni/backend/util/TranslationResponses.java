@@ -0,0 +1,24 @@
+package uni.backend.util;
+
+import org.springframework.http.ResponseEntity;
+
+/**
+ * 번역된 조회 응답을 만드는 유틸. 제한 시간 안에 번역하지 못해 일부 원문이 그대로 남은 응답에는
+ * {@value #PARTIAL_TRANSLATION_HEADER} 헤더를 붙여 클라이언트가 나중에 다시 요청할 수 있게 한다.
+ */
+public final class TranslationResponses {
+
+    public static final String PARTIAL_TRANSLATION_HEADER = "X-Translation-Partial";
+
+    private TranslationResponses() {
+    }
+
+    public static <T> ResponseEntity<T> ok(T body, boolean partial) {
+        if (partial) {
+            return ResponseEntity.ok()
+                .header(PARTIAL_TRANSLATION_HEADER, "true")
+                .body(body);
+        }
+        return ResponseEntity.ok(body);
+    }
+}
@@ -0,0 +1,97 @@
+package uni.backend.config;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.junit.jupiter.web.SpringJUnitWebConfig;
+import uni.backend.support.FakeStompBroker;
+import uni.backend.support.FakeStompBroker.Frame;
+import uni.backend.util.JwtChannelInterceptor;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * relay 모드에서 외부 브로커 대신 {@link FakeStompBroker} 를 띄워 시스템 세션 연결과 /sub 목적지 중계를 확인
+ */
+@SpringJUnitWebConfig(ChatConfigRelayTest.TestConfig.class)
+class ChatConfigRelayTest {
+
+    private static final FakeStompBroker broker = startBroker();
+
+    @Autowired
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Configuration
+    @Import(ChatConfig.class)
+    static class TestConfig {
+
+        @Bean
+        JwtChannelInterceptor jwtChannelInterceptor() {
+            return mock(JwtChannelInterceptor.class);
+        }
+    }
+
+    @DynamicPropertySource
+    static void relayProperties(DynamicPropertyRegistry registry) {
+        registry.add("chat.broker.mode", () -> "relay");
+        registry.add("chat.broker.relay.host", () -> "127.0.0.1");
+        registry.add("chat.broker.relay.port", broker::getPort);
+        registry.add("chat.broker.relay.system-login", () -> "uni-system");
+        registry.add("chat.broker.relay.system-passcode", () -> "secret");
+        registry.add("chat.broker.relay.virtual-host", () -> "uni-vhost");
+        registry.add("chat.broker.relay.heartbeat-ms", () -> "5000");
+    }
+
+    @AfterAll
+    static void stopBroker() throws IOException {
+        broker.close();
+    }
+
+    private static FakeStompBroker startBroker() {
+        try {
+            return new FakeStompBroker();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @DisplayName("시스템 세션이 설정한 계정, 가상 호스트, 하트비트로 브로커에 연결")
+    @Test
+    void testSystemSessionConnectsWithConfiguredHeaders() throws InterruptedException {
+        Frame connect = broker.await(frame -> frame.command().equals("CONNECT")
+            && "uni-system".equals(frame.headers().get("login")), 5000);
+
+        assertNotNull(connect, "시스템 세션 CONNECT 프레임이 도착해야 함");
+        assertEquals("secret", connect.headers().get("passcode"));
+        assertEquals("uni-vhost", connect.headers().get("host"));
+        assertEquals("5000,5000", connect.headers().get("heart-beat"));
+    }
+
+    @DisplayName("/sub 목적지로 보낸 메시지가 목적지 이름 그대로 브로커에 전달")
+    @Test
+    void testSubDestinationIsRelayedUnchanged() throws InterruptedException {
+        String destination = "/sub/chat/room/1";
+
+        // 시스템 세션이 CONNECTED 를 받기 전의 메시지는 버려지므로 도착할 때까지 재전송
+        Frame send = null;
+        for (int i = 0; i < 50 && send == null; i++) {
+            messagingTemplate.convertAndSend(destination, "hello");
+            send = broker.await(frame -> frame.command().equals("SEND")
+                && destination.equals(frame.headers().get("destination")), 100);
+        }
+
+        assertNotNull(send, "SEND 프레임이 브로커에 도착해야 함");
+        assertTrue(send.body().contains("hello"));
+    }
+}
@@ -0,0 +1,73 @@
+package uni.backend.config;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 웹소켓 브로커처럼 다른 TaskScheduler 빈이 있어도 @Scheduled 작업이 전용 풀에서 동시에 실행되는지 확인
+ */
+@SpringJUnitConfig(SchedulingConfigTest.TestConfig.class)
+class SchedulingConfigTest {
+
+    private static final CountDownLatch release = new CountDownLatch(1);
+    private static final CountDownLatch blockedStarted = new CountDownLatch(1);
+    private static final CountDownLatch pollerRuns = new CountDownLatch(3);
+
+    @Configuration
+    @EnableScheduling
+    @Import(SchedulingConfig.class)
+    static class TestConfig {
+
+        // 웹소켓 브로커가 등록하는 스케줄러 자리
+        @Bean
+        ThreadPoolTaskScheduler messageBrokerTaskScheduler() {
+            return new ThreadPoolTaskScheduler();
+        }
+
+        @Bean
+        Jobs jobs() {
+            return new Jobs();
+        }
+    }
+
+    static class Jobs {
+
+        // 응답하지 않는 외부 API 를 기다리는 작업
+        @Scheduled(fixedDelay = 10)
+        void blockingJob() throws InterruptedException {
+            blockedStarted.countDown();
+            release.await();
+        }
+
+        @Scheduled(fixedDelay = 10)
+        void poller() {
+            assertTrue(Thread.currentThread().getName().startsWith("scheduling-"));
+            pollerRuns.countDown();
+        }
+    }
+
+    @AfterAll
+    static void releaseBlockedJob() {
+        release.countDown();
+    }
+
+    @DisplayName("한 작업이 멈춰 있어도 다른 작업은 계속 실행")
+    @Test
+    void testBlockedJobDoesNotStarveOthers() throws InterruptedException {
+        assertTrue(blockedStarted.await(5, TimeUnit.SECONDS));
+        assertTrue(pollerRuns.await(5, TimeUnit.SECONDS), "다른 작업이 스케줄러를 기다리며 멈춤");
+    }
+}
@@ -0,0 +1,55 @@
+package uni.backend.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.filter.CorsFilter;
+import uni.backend.util.TranslationResponses;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 다른 출처의 브라우저 클라이언트가 부분 번역 헤더를 읽을 수 있는지 확인
+ */
+class SecurityConfigCorsTest {
+
+    private MockMvc mockMvc;
+
+    @RestController
+    static class PartialTranslationController {
+
+        @GetMapping("/api/translated")
+        ResponseEntity<String> translated() {
+            return TranslationResponses.ok("본문", true);
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        SecurityConfig securityConfig = new SecurityConfig(null, null);
+        mockMvc = MockMvcBuilders.standaloneSetup(new PartialTranslationController())
+            .addFilters(new CorsFilter(securityConfig.corsConfigurationSource()))
+            .build();
+    }
+
+    @DisplayName("CORS 요청 응답에 X-Translation-Partial 헤더를 노출")
+    @Test
+    void testPartialTranslationHeaderIsExposed() throws Exception {
+        mockMvc.perform(get("/api/translated")
+                .header(HttpHeaders.ORIGIN, "https://uni-ajou.site"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN,
+                "https://uni-ajou.site"))
+            .andExpect(header().string(HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS,
+                TranslationResponses.PARTIAL_TRANSLATION_HEADER))
+            .andExpect(header().string(TranslationResponses.PARTIAL_TRANSLATION_HEADER, "true"));
+    }
+}
@@ -19,6 +19,8 @@ import uni.backend.domain.dto.AdListResponse;
 import uni.backend.domain.dto.AdRequest;
 import uni.backend.domain.dto.UpdateAdStatusRequest;
 import uni.backend.enums.AdStatus;
+import uni.backend.security.BannedUserRegistry;
+import uni.backend.security.JwtAuthenticationCache;
 import uni.backend.security.JwtUtils;
 import uni.backend.service.AdService;
 
@@ -40,6 +42,12 @@ class AdControllerTest {
     @MockBean
     private JwtUtils jwtUtils;
 
+    @MockBean
+    private JwtAuthenticationCache jwtAuthenticationCache;
+
+    @MockBean
+    private BannedUserRegistry bannedUserRegistry;
+
     @Test
     @DisplayName("모든 광고 조회")
     @WithMockUser(username = "admin", roles = {"ADMIN"})
@@ -14,8 +14,11 @@ import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 import uni.backend.config.TestSecurityConfig;
 import uni.backend.domain.UserStatus;
+import uni.backend.domain.dto.ProfileStarReconcileResponse;
 import uni.backend.domain.dto.ReportedUserResponse;
 import uni.backend.domain.dto.UserResponse;
+import uni.backend.security.BannedUserRegistry;
+import uni.backend.security.JwtAuthenticationCache;
 import uni.backend.security.JwtUtils;
 import uni.backend.service.AdminService;
 
@@ -39,6 +42,12 @@ class AdminControllerTest {
     @MockBean
     private JwtUtils jwtUtils;
 
+    @MockBean
+    private JwtAuthenticationCache jwtAuthenticationCache;
+
+    @MockBean
+    private BannedUserRegistry bannedUserRegistry;
+
     @Test
     @DisplayName("관리자 계정 생성")
     @WithMockUser(username = "admin", roles = {"ADMIN"})
@@ -98,17 +107,36 @@ class AdminControllerTest {
     void shouldReturnReportedUsers() throws Exception {
         // given
         Page<ReportedUserResponse> reportedUsers = new PageImpl<>(List.of());
-        Mockito.when(adminService.getReportedUsers(any(Integer.class), any(Integer.class)))
+        Mockito.when(adminService.getReportedUsers(any(Integer.class), any(Integer.class),
+                any(String.class)))
             .thenReturn(reportedUsers);
 
         // when & then
         mockMvc.perform(get("/api/admin/reported-users")
                 .param("page", "1")
-                .param("size", "10"))
+                .param("size", "10")
+                .param("sort", "recent"))
             .andExpect(status().isOk())
             .andExpect(content().contentType(MediaType.APPLICATION_JSON));
 
-        Mockito.verify(adminService).getReportedUsers(eq(1), eq(10));
+        Mockito.verify(adminService).getReportedUsers(eq(1), eq(10), eq("recent"));
+    }
+
+    @Test
+    @DisplayName("신고된 유저의 신고 내역 조회")
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void shouldReturnReportDetails() throws Exception {
+        // given
+        ReportedUserResponse.ReportDetail detail = new ReportedUserResponse.ReportDetail(1,
+            "Spam Report", "CHAT", "SPAM", "Spam content", null, "reporter", "reported");
+        Mockito.when(adminService.getReportDetails(2, 0, 10))
+            .thenReturn(new PageImpl<>(List.of(detail)));
+
+        // when & then
+        mockMvc.perform(get("/api/admin/reported-users/2/reports"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content[0].title").value("Spam Report"))
+            .andExpect(jsonPath("$.content[0].reason").value("SPAM"));
     }
 
     @Test
@@ -140,4 +168,19 @@ class AdminControllerTest {
 
         Mockito.verify(adminService).unblindAllContentByUser(eq(1));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("프로필 별점 집계 정합성 복구")
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void shouldReconcileProfileStars() throws Exception {
+        // given
+        Mockito.when(adminService.reconcileProfileStars())
+            .thenReturn(new ProfileStarReconcileResponse(10, 2));
+
+        // when & then
+        mockMvc.perform(post("/api/admin/profiles/reconcile-stars"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.profilesChecked").value(10))
+            .andExpect(jsonPath("$.profilesCorrected").value(2));
+    }
+}
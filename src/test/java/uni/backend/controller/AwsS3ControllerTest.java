@@ -16,6 +16,8 @@ import uni.backend.domain.dto.AwsS3UploadResponse;
 import uni.backend.domain.dto.Response;
 import uni.backend.enums.AwsS3ErrorCode;
 import uni.backend.exception.AwsS3Exception;
+import uni.backend.security.BannedUserRegistry;
+import uni.backend.security.JwtAuthenticationCache;
 import uni.backend.security.JwtUtils;
 import uni.backend.service.AwsS3Service;
 
@@ -37,6 +39,12 @@ class AwsS3ControllerTest {
     @MockBean
     private JwtUtils jwtUtils;
 
+    @MockBean
+    private JwtAuthenticationCache jwtAuthenticationCache;
+
+    @MockBean
+    private BannedUserRegistry bannedUserRegistry;
+
     @Test
     @DisplayName("AWS S3 업로드 성공")
     @WithMockUser(username = "korean", roles = {"KOREAN"})
@@ -14,6 +14,8 @@ import org.springframework.test.web.servlet.MockMvc;
 import uni.backend.config.TestSecurityConfig;
 import uni.backend.domain.dto.UniversityResponse;
 import uni.backend.repository.UserRepository;
+import uni.backend.security.BannedUserRegistry;
+import uni.backend.security.JwtAuthenticationCache;
 import uni.backend.security.JwtUtils;
 import uni.backend.service.CertificationService;
 import uni.backend.service.UniversityService;
@@ -44,6 +46,12 @@ public class CertificationControllerTest {
     @MockBean
     private JwtUtils jwtUtils; // MockBean 추가
 
+    @MockBean
+    private JwtAuthenticationCache jwtAuthenticationCache;
+
+    @MockBean
+    private BannedUserRegistry bannedUserRegistry;
+
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     @Test
@@ -11,18 +11,26 @@ import org.springframework.http.MediaType;
 import org.springframework.messaging.simp.SimpMessageSendingOperations;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import uni.backend.config.TestSecurityConfig;
 import uni.backend.controller.ChatController;
+import uni.backend.domain.dto.ChatMessageFailureResponse;
+import uni.backend.domain.dto.ChatMessagePageResponse;
 import uni.backend.domain.dto.ChatMessageRequest;
 import uni.backend.domain.dto.ChatMessageResponse;
 import uni.backend.domain.dto.ChatRoomRequest;
 import uni.backend.domain.dto.ChatRoomResponse;
+import uni.backend.domain.dto.ChatRoomSummaryResponse;
+import uni.backend.security.BannedUserRegistry;
+import uni.backend.security.JwtAuthenticationCache;
 import uni.backend.security.JwtUtils;
 import uni.backend.service.ChatService;
 import org.springframework.context.annotation.Import;
 
+import java.security.Principal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -35,6 +43,9 @@ class ChatControllerTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private ChatController chatController;
+
     @MockBean
     private ChatService chatService;
 
@@ -44,27 +55,31 @@ class ChatControllerTest {
     @MockBean
     private JwtUtils jwtUtils;
 
+    @MockBean
+    private JwtAuthenticationCache jwtAuthenticationCache;
+
+    @MockBean
+    private BannedUserRegistry bannedUserRegistry;
+
     @Test
     @DisplayName("GET /api/chat/rooms - 채팅방 목록 조회")
     @WithMockUser(username = "testUser", roles = {"USER"})
     void getChatRooms() throws Exception {
         // Given
-        List<ChatRoomResponse> mockChatRooms = List.of(
-                ChatRoomResponse.builder()
+        List<ChatRoomSummaryResponse> mockChatRooms = List.of(
+                ChatRoomSummaryResponse.builder()
                         .chatRoomId(1)
-                        .myId(100)
-                        .myName("User1")
                         .otherId(200)
                         .otherName("User2")
-                        .unreadCount(2)
+                        .lastMessage("Hello")
+                        .unreadCount(2L)
                         .build(),
-                ChatRoomResponse.builder()
+                ChatRoomSummaryResponse.builder()
                         .chatRoomId(2)
-                        .myId(100)
-                        .myName("User1")
                         .otherId(201)
                         .otherName("User3")
-                        .unreadCount(0)
+                        .lastMessage("Hi")
+                        .unreadCount(0L)
                         .build()
         );
         when(chatService.getChatRoomsForUser("testUser")).thenReturn(mockChatRooms);
@@ -73,9 +88,11 @@ class ChatControllerTest {
         mockMvc.perform(get("/api/chat/rooms").contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$[0].chatRoomId").value(1))
-                .andExpect(jsonPath("$[0].myName").value("User1"))
+                .andExpect(jsonPath("$[0].otherName").value("User2"))
+                .andExpect(jsonPath("$[0].lastMessage").value("Hello"))
+                .andExpect(jsonPath("$[0].unreadCount").value(2))
                 .andExpect(jsonPath("$[1].chatRoomId").value(2))
-                .andExpect(jsonPath("$[1].myName").value("User1"));
+                .andExpect(jsonPath("$[1].otherName").value("User3"));
     }
 
     @Test
@@ -136,13 +153,45 @@ class ChatControllerTest {
                         .sendAt(LocalDateTime.now())
                         .build()
         );
-        when(chatService.getChatMessages(1)).thenReturn(mockMessages);
+        ChatMessagePageResponse page = ChatMessagePageResponse.builder()
+                .messages(mockMessages)
+                .beforeCursor(1)
+                .afterCursor(2)
+                .hasMore(true)
+                .build();
+        when(chatService.getChatMessages(1, null, null, null)).thenReturn(page);
 
         // When & Then
         mockMvc.perform(get("/api/chat/room/1").contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].messageId").value(1))
-                .andExpect(jsonPath("$[0].content").value("Hello"));
+                .andExpect(jsonPath("$.messages[0].messageId").value(1))
+                .andExpect(jsonPath("$.messages[0].content").value("Hello"))
+                .andExpect(jsonPath("$.beforeCursor").value(1))
+                .andExpect(jsonPath("$.hasMore").value(true));
+    }
+
+    @Test
+    @DisplayName("GET /api/chat/room/{roomId}?before= - 이전 메시지 조회")
+    @WithMockUser(username = "testUser", roles = {"USER"})
+    void getChatRoomMessagesBeforeCursor() throws Exception {
+        // Given
+        ChatMessagePageResponse page = ChatMessagePageResponse.builder()
+                .messages(List.of())
+                .beforeCursor(5)
+                .hasMore(false)
+                .build();
+        when(chatService.getChatMessages(1, 5, null, 20)).thenReturn(page);
+
+        // When & Then
+        mockMvc.perform(get("/api/chat/room/1")
+                        .param("before", "5")
+                        .param("size", "20")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.messages").isEmpty())
+                .andExpect(jsonPath("$.hasMore").value(false));
+
+        verify(chatService).getChatMessages(1, 5, null, 20);
     }
 
     @Test
@@ -164,17 +213,64 @@ class ChatControllerTest {
                 .sendAt(LocalDateTime.now())
                 .build();
         when(chatService.sendMessage(any(ChatMessageRequest.class), eq("testUser"), eq(1)))
-                .thenReturn(response);
+                .thenReturn(CompletableFuture.completedFuture(response));
 
         // When & Then
-        mockMvc.perform(post("/api/chat/room/1/messages")
+        MvcResult result = mockMvc.perform(post("/api/chat/room/1/messages")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content("{\"roomId\":1,\"content\":\"Hello\",\"receiverId\":200}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isCreated())
                 .andExpect(jsonPath("$.messageId").value(1))
                 .andExpect(jsonPath("$.content").value("Hello"));
     }
 
+    @Test
+    @DisplayName("WebSocket 메시지 전송 - 저장되면 채팅방과 받는 사람에게 브로드캐스트")
+    void sendWebSocketMessageBroadcastsAfterSave() {
+        // Given
+        ChatMessageRequest request = ChatMessageRequest.builder().roomId(1).content("Hello").build();
+        ChatMessageResponse response = ChatMessageResponse.builder()
+                .messageId(1)
+                .roomId(1)
+                .content("Hello")
+                .senderId(100)
+                .receiverId(200)
+                .build();
+        CompletableFuture<ChatMessageResponse> persisted = new CompletableFuture<>();
+        when(chatService.sendMessage(request, "testUser", 1)).thenReturn(persisted);
+        Principal principal = () -> "testUser";
+
+        // When: 저장 전에는 브로드캐스트하지 않고 바로 반환
+        chatController.sendWebSocketMessage(request, principal);
+        verifyNoInteractions(messagingTemplate);
+        persisted.complete(response);
+
+        // Then
+        verify(messagingTemplate).convertAndSend("/sub/chat/room/1", response);
+        verify(messagingTemplate).convertAndSend("/sub/user/200", response);
+    }
+
+    @Test
+    @DisplayName("WebSocket 메시지 전송 - 저장에 실패하면 보낸 사람에게만 알림")
+    void sendWebSocketMessageNotifiesSenderOnFailure() {
+        // Given
+        ChatMessageRequest request = ChatMessageRequest.builder().roomId(1).content("Hello").build();
+        when(chatService.sendMessage(request, "testUser", 1)).thenReturn(
+                CompletableFuture.failedFuture(new IllegalStateException("Failed to save chat message")));
+
+        // When
+        chatController.sendWebSocketMessage(request, () -> "testUser");
+
+        // Then
+        verify(messagingTemplate).convertAndSendToUser(eq("testUser"), eq("/sub/chat/errors"),
+                argThat((ChatMessageFailureResponse failure) -> failure.getRoomId() == 1
+                        && "Hello".equals(failure.getContent())));
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+    }
+
     @Test
     @DisplayName("GET /api/chat/translate/{messageId} - 메시지 번역")
     @WithMockUser
@@ -205,6 +301,21 @@ class ChatControllerTest {
                 .andExpect(content().string("Message or translation failed"));
     }
 
+    @Test
+    @DisplayName("POST /api/chat/room/{roomId}/read - 특정 메시지까지 읽음 처리")
+    @WithMockUser(username = "testUser")
+    void readChatRoomMessages() throws Exception {
+        // Given
+        when(chatService.markMessagesAsReadUpTo(1, 10, "testUser")).thenReturn(3);
+
+        // When & Then
+        mockMvc.perform(post("/api/chat/room/1/read")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"lastReadMessageId\":10}"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("3"));
+    }
+
     @Test
     @DisplayName("POST /api/chat/room/{roomId}/leave - 채팅방 나가기")
     @WithMockUser(username = "testUser")
@@ -1,5 +1,8 @@
 package uni.backend.controller;
 
+import java.util.List;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -7,15 +10,31 @@ import org.springframework.boot.autoconfigure.thymeleaf.ThymeleafAutoConfigurati
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 import uni.backend.config.TestSecurityConfig;
+import uni.backend.domain.dto.HomeProfileResponse;
+import uni.backend.security.BannedUserRegistry;
+import uni.backend.security.JwtAuthenticationCache;
 import uni.backend.security.JwtUtils;
+import uni.backend.service.HomeResponseCache;
+import uni.backend.service.HomeResponseCache.CachedHomePage;
 import uni.backend.service.HomeService;
 import uni.backend.service.PageTranslationService;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(controllers = HomeController.class, excludeAutoConfiguration = {
@@ -32,9 +51,27 @@ class HomeControllerTest {
     @MockBean
     private PageTranslationService pageTranslationService;
 
+    @MockBean
+    private HomeResponseCache homeResponseCache;
+
     @MockBean
     private JwtUtils jwtUtils;
 
+    @MockBean
+    private JwtAuthenticationCache jwtAuthenticationCache;
+
+    @MockBean
+    private BannedUserRegistry bannedUserRegistry;
+
+    @BeforeEach
+    void setUp() {
+        // 캐시 미스처럼 매번 loader 를 실행
+        when(homeResponseCache.getOrLoad(any(), any())).thenAnswer(invocation -> {
+            Supplier<Page<HomeProfileResponse>> loader = invocation.getArgument(1);
+            return new CachedHomePage(loader.get(), "\"etag-1\"", Long.MAX_VALUE);
+        });
+    }
+
     @Test
     @DisplayName("/home 엔드포인트 호출 테스트 - univName과 hashtags 처리 확인")
     @WithMockUser(username = "korean", roles = {"KOREAN"})
@@ -71,4 +108,32 @@ class HomeControllerTest {
             .andExpect(status().isOk())
             .andDo(print());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("/home 응답에 ETag 를 붙이고, If-None-Match 가 같으면 본문 없이 304 응답")
+    void testHomeEndpointETag() throws Exception {
+        HomeProfileResponse profile = new HomeProfileResponse();
+        profile.setUsername("kim");
+        profile.setHashtags(List.of("여행"));
+        Page<HomeProfileResponse> results = new PageImpl<>(List.of(profile),
+            PageRequest.of(0, 10), 1);
+        when(homeService.searchByUnivNameAndHashtags(isNull(), isNull(), anyInt(), anyString()))
+            .thenReturn(results);
+
+        mockMvc.perform(get("/api/home").param("sort", "newest"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", "\"etag-1\""))
+            .andExpect(header().string("Cache-Control", "no-cache"))
+            .andExpect(jsonPath("$.content[0].username").value("kim"));
+
+        mockMvc.perform(get("/api/home").param("sort", "newest")
+                .header("If-None-Match", "\"etag-1\""))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string("ETag", "\"etag-1\""))
+            .andExpect(content().string(""));
+
+        mockMvc.perform(get("/api/home").param("sort", "newest")
+                .header("If-None-Match", "\"etag-0\""))
+            .andExpect(status().isOk());
+    }
+}
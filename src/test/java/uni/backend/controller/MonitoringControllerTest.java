@@ -0,0 +1,114 @@
+package uni.backend.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import uni.backend.domain.dto.ChatWriteBehindStatsResponse;
+import uni.backend.domain.dto.HomeResponseCacheStatsResponse;
+import uni.backend.domain.dto.TranslationCacheStatsResponse;
+import uni.backend.service.ChatMessageWriteBehindService;
+import uni.backend.service.HomeResponseCache;
+import uni.backend.service.TranslationCacheService;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class MonitoringControllerTest {
+
+    @Mock
+    private ChatMessageWriteBehindService chatMessageWriteBehindService;
+
+    @Mock
+    private TranslationCacheService translationCacheService;
+
+    @Mock
+    private HomeResponseCache homeResponseCache;
+
+    @InjectMocks
+    private MonitoringController monitoringController;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    @DisplayName("채팅 write-behind 큐 상태 조회")
+    void testGetChatWriteBehindStats() {
+        // given
+        ChatWriteBehindStatsResponse stats = ChatWriteBehindStatsResponse.builder()
+            .enabled(true)
+            .queueDepth(3)
+            .queueCapacity(10000)
+            .persistedCount(42)
+            .build();
+        when(chatMessageWriteBehindService.getStats()).thenReturn(stats);
+
+        // when
+        ResponseEntity<ChatWriteBehindStatsResponse> response = monitoringController.getChatWriteBehindStats();
+
+        // then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(3, response.getBody().getQueueDepth());
+        assertEquals(42, response.getBody().getPersistedCount());
+        verify(chatMessageWriteBehindService, times(1)).getStats();
+    }
+
+    @Test
+    @DisplayName("번역 캐시 상태 조회")
+    void testGetTranslationCacheStats() {
+        // given
+        TranslationCacheStatsResponse stats = TranslationCacheStatsResponse.builder()
+            .heapSize(10)
+            .heapHits(90)
+            .misses(10)
+            .hitRatio(0.9)
+            .build();
+        when(translationCacheService.getStats()).thenReturn(stats);
+
+        // when
+        ResponseEntity<TranslationCacheStatsResponse> response = monitoringController.getTranslationCacheStats();
+
+        // then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(0.9, response.getBody().getHitRatio());
+    }
+
+    @Test
+    @DisplayName("번역 힙 캐시 비우기")
+    void testClearTranslationCache() {
+        // when
+        ResponseEntity<Void> response = monitoringController.clearTranslationCache();
+
+        // then
+        assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
+        verify(translationCacheService, times(1)).clearHeap();
+    }
+
+    @Test
+    @DisplayName("홈 응답 캐시 상태 조회 및 비우기")
+    void testHomeResponseCache() {
+        // given
+        HomeResponseCacheStatsResponse stats = HomeResponseCacheStatsResponse.builder()
+            .size(5)
+            .hits(30)
+            .misses(10)
+            .hitRatio(0.75)
+            .build();
+        when(homeResponseCache.getStats()).thenReturn(stats);
+
+        // when
+        ResponseEntity<HomeResponseCacheStatsResponse> statsResponse = monitoringController.getHomeResponseCacheStats();
+        ResponseEntity<Void> clearResponse = monitoringController.clearHomeResponseCache();
+
+        // then
+        assertEquals(0.75, statsResponse.getBody().getHitRatio());
+        assertEquals(HttpStatus.NO_CONTENT, clearResponse.getStatusCode());
+        verify(homeResponseCache, times(1)).invalidateAll();
+    }
+}
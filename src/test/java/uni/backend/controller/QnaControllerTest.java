@@ -7,6 +7,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import uni.backend.domain.Qna;
@@ -86,18 +88,18 @@ class QnaControllerTest {
         // given
         Integer userId = 1;
         String acceptLanguage = null;
-        List<QnaResponse> qnaResponses = List.of(qnaResponse);
-        when(qnaService.getUserQnas(userId)).thenReturn(qnaResponses);
+        Page<QnaResponse> qnaResponses = new PageImpl<>(List.of(qnaResponse));
+        when(qnaService.getUserQnas(userId, 0, 10)).thenReturn(qnaResponses);
 
         // when
-        ResponseEntity<List<QnaResponse>> response = qnaController.getUserQnas(userId,
+        ResponseEntity<Page<QnaResponse>> response = qnaController.getUserQnas(userId, 0, 10,
             acceptLanguage);
 
         // then
         assertNotNull(response);
         assertEquals(200, response.getStatusCode().value());
         assertEquals(qnaResponses, response.getBody());
-        verify(qnaService, times(1)).getUserQnas(userId);
+        verify(qnaService, times(1)).getUserQnas(userId, 0, 10);
         verify(pageTranslationService, times(0)).translateQna(anyList(),
             anyString()); // translateQna가 호출되지 않음
     }
@@ -108,18 +110,18 @@ class QnaControllerTest {
         // given
         Integer userId = 1;
         String acceptLanguage = "";
-        List<QnaResponse> qnaResponses = List.of(qnaResponse);
-        when(qnaService.getUserQnas(userId)).thenReturn(qnaResponses);
+        Page<QnaResponse> qnaResponses = new PageImpl<>(List.of(qnaResponse));
+        when(qnaService.getUserQnas(userId, 0, 10)).thenReturn(qnaResponses);
 
         // when
-        ResponseEntity<List<QnaResponse>> response = qnaController.getUserQnas(userId,
+        ResponseEntity<Page<QnaResponse>> response = qnaController.getUserQnas(userId, 0, 10,
             acceptLanguage);
 
         // then
         assertNotNull(response);
         assertEquals(200, response.getStatusCode().value());
         assertEquals(qnaResponses, response.getBody());
-        verify(qnaService, times(1)).getUserQnas(userId);
+        verify(qnaService, times(1)).getUserQnas(userId, 0, 10);
         verify(pageTranslationService, times(0)).translateQna(anyList(),
             anyString()); // translateQna가 호출되지 않음
     }
@@ -130,18 +132,18 @@ class QnaControllerTest {
         // given
         Integer userId = 1;
         String acceptLanguage = "ko";
-        List<QnaResponse> qnaResponses = List.of(qnaResponse);
-        when(qnaService.getUserQnas(userId)).thenReturn(qnaResponses);
+        Page<QnaResponse> qnaResponses = new PageImpl<>(List.of(qnaResponse));
+        when(qnaService.getUserQnas(userId, 0, 10)).thenReturn(qnaResponses);
 
         // when
-        ResponseEntity<List<QnaResponse>> response = qnaController.getUserQnas(userId,
+        ResponseEntity<Page<QnaResponse>> response = qnaController.getUserQnas(userId, 0, 10,
             acceptLanguage);
 
         // then
         assertNotNull(response);
         assertEquals(200, response.getStatusCode().value());
         assertEquals(qnaResponses, response.getBody());
-        verify(qnaService, times(1)).getUserQnas(userId);
+        verify(qnaService, times(1)).getUserQnas(userId, 0, 10);
         verify(pageTranslationService, times(0)).translateQna(anyList(),
             anyString()); // translateQna가 호출되지 않음
     }
@@ -152,18 +154,18 @@ class QnaControllerTest {
         // given
         Integer userId = 1;
         String acceptLanguage = "en";
-        List<QnaResponse> qnaResponses = List.of(qnaResponse);
-        when(qnaService.getUserQnas(userId)).thenReturn(qnaResponses);
+        Page<QnaResponse> qnaResponses = new PageImpl<>(List.of(qnaResponse));
+        when(qnaService.getUserQnas(userId, 0, 10)).thenReturn(qnaResponses);
 
         // when
-        ResponseEntity<List<QnaResponse>> response = qnaController.getUserQnas(userId,
+        ResponseEntity<Page<QnaResponse>> response = qnaController.getUserQnas(userId, 0, 10,
             acceptLanguage);
 
         // then
         assertNotNull(response);
         assertEquals(200, response.getStatusCode().value());
         assertEquals(qnaResponses, response.getBody());
-        verify(qnaService, times(1)).getUserQnas(userId);
+        verify(qnaService, times(1)).getUserQnas(userId, 0, 10);
         verify(pageTranslationService, times(1)).translateQna(anyList(),
             eq(acceptLanguage)); // translateQna가 호출됨
     }
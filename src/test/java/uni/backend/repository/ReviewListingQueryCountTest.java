@@ -0,0 +1,137 @@
+package uni.backend.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import uni.backend.domain.Matching;
+import uni.backend.domain.Profile;
+import uni.backend.domain.Review;
+import uni.backend.domain.ReviewReply;
+import uni.backend.domain.Role;
+import uni.backend.domain.User;
+import uni.backend.domain.UserStatus;
+import uni.backend.domain.dto.ReviewResponse;
+import uni.backend.service.ContentTranslationService;
+import uni.backend.service.ProfileService;
+import uni.backend.service.ReviewService;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 리뷰 목록 조회가 리뷰/대댓글 수와 관계없이 같은 수의 SQL 로 끝나는지 실제 Hibernate 로 확인 (인메모리 H2)
+ */
+@DataJpaTest(properties = {
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    // user 등 H2 예약어와 겹치는 테이블/컬럼 이름을 그대로 쓰기 위해 식별자를 모두 따옴표로 감쌈
+    "spring.jpa.properties.hibernate.globally_quoted_identifiers=true",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import(ReviewService.class)
+class ReviewListingQueryCountTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @MockBean
+    private ProfileService profileService;
+
+    @MockBean
+    private ContentTranslationService contentTranslationService;
+
+    private Statistics statistics;
+    private int userSeq;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @DisplayName("리뷰 1개/대댓글 1개와 리뷰 50개/대댓글 500개를 같은 수의 SQL 로 조회")
+    @Test
+    void testReviewListingQueryCountDoesNotGrowWithData() {
+        User small = givenReviews(1, 1);
+        User large = givenReviews(50, 10);
+
+        long smallCount = countStatements(small, 1, 1);
+        long largeCount = countStatements(large, 50, 10);
+
+        assertEquals(2, smallCount);
+        assertEquals(smallCount, largeCount);
+    }
+
+    // 조회 중 실행된 SQL 수 (영속성 컨텍스트를 비워 캐시된 엔티티 없이 DB 에서 읽음)
+    private long countStatements(User profileOwner, int reviewCount, int repliesPerReview) {
+        entityManager.clear();
+        statistics.clear();
+
+        List<ReviewResponse> responses = reviewService.getReviewResponsesByUserId(
+            profileOwner.getUserId());
+
+        assertEquals(reviewCount, responses.size());
+        responses.forEach(review -> assertEquals(repliesPerReview, review.getReplies().size()));
+        return statistics.getPrepareStatementCount();
+    }
+
+    // 리뷰마다 다른 작성자와 매칭, 대댓글마다 다른 작성자를 두어 연관 엔티티 수도 데이터 크기에 비례하게 만듦
+    private User givenReviews(int reviewCount, int repliesPerReview) {
+        User profileOwner = user();
+        for (int i = 0; i < reviewCount; i++) {
+            User commenter = user();
+            Matching matching = entityManager.persist(Matching.builder()
+                .status(Matching.Status.ENDED)
+                .requester(commenter)
+                .receiver(profileOwner)
+                .build());
+            Review review = entityManager.persist(Review.builder()
+                .matching(matching)
+                .profileOwner(profileOwner)
+                .commenter(commenter)
+                .content("리뷰 " + i)
+                .star(5)
+                .build());
+            for (int j = 0; j < repliesPerReview; j++) {
+                entityManager.persist(ReviewReply.builder()
+                    .review(review)
+                    .commenter(user())
+                    .content("대댓글 " + j)
+                    .build());
+            }
+        }
+        entityManager.flush();
+        return profileOwner;
+    }
+
+    private User user() {
+        int seq = ++userSeq;
+        User user = entityManager.persist(User.builder()
+            .email("user" + seq + "@example.com")
+            .password("password")
+            .name("user" + seq)
+            .status(UserStatus.ACTIVE)
+            .role(Role.KOREAN)
+            .reportCount(0L)
+            .build());
+        entityManager.persist(Profile.builder()
+            .user(user)
+            .imgProf("img/" + seq + ".jpg")
+            .isVisible(true)
+            .build());
+        return user;
+    }
+}
@@ -18,8 +18,9 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.mail.SimpleMailMessage;
 
-import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.context.ApplicationEventPublisher;
 import uni.backend.domain.*;
+import uni.backend.domain.dto.ProfileStarReconcileResponse;
 import uni.backend.domain.dto.ReportedUserResponse;
 import uni.backend.repository.*;
 import uni.backend.util.AdminAccountUtil;
@@ -48,7 +49,13 @@ class AdminServiceTest {
     @Mock
     private SimpleMailMessage simpleMailMessage;
     @Mock
-    private JavaMailSender javaMailSender;
+    private MailQueue mailQueue;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ContentBlindService contentBlindService;
 
 
     private User user;
@@ -81,16 +88,17 @@ class AdminServiceTest {
         when(userRepository.save(any(User.class))).thenReturn(admin);
 
         // when
-        adminService.createAccount(List.of("recipient@example.com"));
+        adminService.createAccount(List.of("recipient@example.com", "second@example.com"));
 
-        // then
+        // then: 메일은 바로 보내지 않고 수신자마다 outbox 에 저장
         verify(adminAccountUtil).createAdminPassword();
         verify(adminAccountUtil).createAdminAccount(rawPassword);
         verify(userRepository).save(admin);
+        verify(mailQueue, times(2)).enqueue(any(SimpleMailMessage.class));
     }
 
     @Test
-    @DisplayName("관리자 계정 생성 - 이메일 전송 실패 테스트")
+    @DisplayName("관리자 계정 생성 - 메일 저장 실패 시 계정 생성도 실패")
     void createAccount_이메일실패() {
         // given
         String rawPassword = "randomPassword123";
@@ -104,12 +112,12 @@ class AdminServiceTest {
         when(adminAccountUtil.createAdminAccount(rawPassword)).thenReturn(admin);
         when(userRepository.save(any(User.class))).thenReturn(admin);
 
-        doThrow(RuntimeException.class).when(javaMailSender).send(any(SimpleMailMessage.class));
+        doThrow(RuntimeException.class).when(mailQueue).enqueue(any(SimpleMailMessage.class));
 
         // when & then
         assertThrows(RuntimeException.class,
             () -> adminService.createAccount(List.of("recipient@example.com")));
-        verify(javaMailSender).send(any(SimpleMailMessage.class));
+        verify(mailQueue).enqueue(any(SimpleMailMessage.class));
     }
 
     @Test
@@ -125,6 +133,8 @@ class AdminServiceTest {
         assertEquals(UserStatus.BANNED, user.getStatus());
         assertNotNull(user.getEndBanDate());
         verify(userRepository).save(user);
+        // 제재 유저 목록은 커밋 후 리스너가 반영하도록 이벤트로 전달
+        verify(eventPublisher).publishEvent(UserStatusChangedEvent.of(user));
     }
 
     @Test
@@ -143,79 +153,111 @@ class AdminServiceTest {
     @DisplayName("신고된 유저 리스트 조회 성공 테스트")
     void getReportedUsers_성공() {
         // given
-        User reportedUser = User.builder()
-            .userId(2)
-            .email("reported@example.com")
-            .build();
+        LocalDateTime reportedAt = LocalDateTime.of(2024, 10, 1, 12, 0);
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{2, "reported@example.com", 3L, reportedAt});
+        when(reportRepository.findReportedUserSummariesByCount(any()))
+            .thenReturn(new PageImpl<>(rows));
 
-        Report report = Report.builder()
-            .reportedUser(reportedUser)
-            .category(ReportCategory.CHAT)
-            .reason(ReportReason.SPAM)
-            .detailedReason("Spam content")
-            .title("Spam Report")
-            .build();
+        // when
+        Page<ReportedUserResponse> result = adminService.getReportedUsers(0, 10, "count");
 
-        List<Report> reports = List.of(report);
+        // then: 신고 테이블 전체를 읽지 않고 집계 쿼리 한 번으로 조회
+        assertEquals(1, result.getTotalElements());
+        ReportedUserResponse response = result.getContent().get(0);
+        assertEquals(2, response.getUserId());
+        assertEquals(3L, response.getReportCount());
+        assertEquals(reportedAt, response.getLatestReportedAt());
+        assertTrue(response.getReports().isEmpty());
+        verify(reportRepository, never()).findAll();
+        verify(reportRepository, never()).findReportedUserSummariesByRecency(any());
+    }
 
-        when(reportRepository.findAll()).thenReturn(List.of(report));
+    @Test
+    @DisplayName("신고된 유저 리스트를 최근 신고 순으로 조회")
+    void getReportedUsers_최근순() {
+        // given
+        when(reportRepository.findReportedUserSummariesByRecency(any()))
+            .thenReturn(new PageImpl<>(List.of()));
 
         // when
-        Page<ReportedUserResponse> result = adminService.getReportedUsers(0, 10);
+        adminService.getReportedUsers(0, 10, "recent");
 
         // then
-        assertNotNull(result);
-        assertEquals(1, result.getTotalElements());
-        verify(reportRepository).findAll();
+        verify(reportRepository).findReportedUserSummariesByRecency(any());
+        verify(reportRepository, never()).findReportedUserSummariesByCount(any());
     }
 
     @Test
-    @DisplayName("유저 콘텐츠 블라인드 처리 성공 테스트")
-    void blindAllContentByUser_성공() {
+    @DisplayName("신고된 유저의 신고 내역 페이지 조회")
+    void getReportDetails_성공() {
         // given
-        List<Qna> qnas = List.of(new Qna());
-        List<Reply> replies = List.of(new Reply());
-        List<Review> reviews = List.of(new Review());
-        List<ReviewReply> reviewReplies = List.of(new ReviewReply());
+        LocalDateTime reportedAt = LocalDateTime.of(2024, 10, 1, 12, 0);
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{5, "Spam Report", ReportCategory.CHAT, ReportReason.SPAM,
+            "Spam content", reportedAt, "reporter", "reported"});
+        when(reportRepository.findReportDetailsByReportedUser(eq(2), any()))
+            .thenReturn(new PageImpl<>(rows));
 
-        when(qnaRepository.findByCommenter_UserId(user.getUserId())).thenReturn(qnas);
-        when(replyRepository.findByCommenter_UserId(user.getUserId())).thenReturn(replies);
-        when(reviewRepository.findByCommenter_UserId(user.getUserId())).thenReturn(reviews);
-        when(reviewReplyRepository.findByCommenter_UserId(user.getUserId())).thenReturn(
-            reviewReplies);
+        // when
+        Page<ReportedUserResponse.ReportDetail> result = adminService.getReportDetails(2, 0, 10);
 
+        // then
+        ReportedUserResponse.ReportDetail detail = result.getContent().get(0);
+        assertEquals(5, detail.getReportId());
+        assertEquals("CHAT", detail.getCategory());
+        assertEquals("SPAM", detail.getReason());
+        assertEquals(reportedAt, detail.getReportedAt());
+        assertEquals("reporter", detail.getReporterName());
+    }
+
+    @Test
+    @DisplayName("유저 콘텐츠 블라인드 처리 성공 테스트")
+    void blindAllContentByUser_성공() {
         // when
         adminService.blindAllContentByUser(user.getUserId());
 
-        // then
-        verify(qnaRepository).findByCommenter_UserId(user.getUserId());
-        verify(replyRepository).findByCommenter_UserId(user.getUserId());
-        verify(reviewRepository).findByCommenter_UserId(user.getUserId());
-        verify(reviewReplyRepository).findByCommenter_UserId(user.getUserId());
+        // then: 엔티티를 읽지 않고 일괄 UPDATE 로 처리
+        verify(contentBlindService).setBlind(user.getUserId(), true);
+        verify(qnaRepository, never()).findByCommenter_UserId(any());
+        verify(reviewRepository, never()).findByCommenter_UserId(any());
     }
 
     @Test
     @DisplayName("유저 콘텐츠 블라인드 해제 성공 테스트")
     void unblindAllContentByUser_성공() {
-        // given
-        List<Qna> qnas = List.of(new Qna());
-        List<Reply> replies = List.of(new Reply());
-        List<Review> reviews = List.of(new Review());
-        List<ReviewReply> reviewReplies = List.of(new ReviewReply());
+        // when
+        adminService.unblindAllContentByUser(user.getUserId());
 
-        when(qnaRepository.findByCommenter_UserId(user.getUserId())).thenReturn(qnas);
-        when(replyRepository.findByCommenter_UserId(user.getUserId())).thenReturn(replies);
-        when(reviewRepository.findByCommenter_UserId(user.getUserId())).thenReturn(reviews);
-        when(reviewReplyRepository.findByCommenter_UserId(user.getUserId())).thenReturn(
-            reviewReplies);
+        // then
+        verify(contentBlindService).setBlind(user.getUserId(), false);
+        verify(replyRepository, never()).findByCommenter_UserId(any());
+        verify(reviewReplyRepository, never()).findByCommenter_UserId(any());
+    }
+
+    @Test
+    @DisplayName("별점 집계 점검 시 실제 리뷰와 다른 프로필만 다시 씀")
+    void reconcileProfileStars_다른_프로필만_수정() {
+        // given: 1번은 일치, 2번은 합계 불일치, 3번은 리뷰가 모두 삭제됨
+        List<Object[]> aggregates = List.of(
+            new Object[]{1, 2L, 9L},
+            new Object[]{2, 1L, 3L});
+        List<Object[]> stored = List.of(
+            new Object[]{1, 2, 9L, 4.5},
+            new Object[]{2, 1, 4L, 4.0},
+            new Object[]{3, 1, 5L, 5.0});
+        when(reviewRepository.aggregateStarsByProfileOwner(null)).thenReturn(aggregates);
+        when(profileRepository.findReviewStats()).thenReturn(stored);
 
         // when
-        adminService.unblindAllContentByUser(user.getUserId());
+        ProfileStarReconcileResponse response = adminService.reconcileProfileStars();
 
         // then
-        verify(qnaRepository).findByCommenter_UserId(user.getUserId());
-        verify(replyRepository).findByCommenter_UserId(user.getUserId());
-        verify(reviewRepository).findByCommenter_UserId(user.getUserId());
-        verify(reviewReplyRepository).findByCommenter_UserId(user.getUserId());
+        assertEquals(3, response.getProfilesChecked());
+        assertEquals(2, response.getProfilesCorrected());
+        verify(profileRepository, never()).updateReviewStats(eq(1), any(), any(), any());
+        verify(profileRepository).updateReviewStats(2, 1, 3L, 3.0);
+        verify(profileRepository).updateReviewStats(3, 0, 0L, 0.0);
+        verify(eventPublisher, times(2)).publishEvent(any(ProfileChangedEvent.class));
     }
 }
@@ -15,10 +15,13 @@ import uni.backend.domain.User;
 import uni.backend.domain.dto.LoginRequest;
 import uni.backend.domain.dto.LoginResponse;
 import uni.backend.domain.dto.MeResponse;
+import uni.backend.repository.UserRepository;
+import uni.backend.security.JwtPrincipal;
 import uni.backend.security.JwtUtils;
 
 import java.time.Instant;
 import java.util.Map;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -37,6 +40,9 @@ class AuthServiceTest {
     @Mock
     private RefreshTokenService refreshTokenService;
 
+    @Mock
+    private UserRepository userRepository;
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
@@ -67,7 +73,7 @@ class AuthServiceTest {
         when(authentication.getPrincipal()).thenReturn(user);
         when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
             .thenReturn(authentication);
-        when(jwtUtils.generateJwtToken(email, Role.KOREAN)).thenReturn("access-token");
+        when(jwtUtils.generateJwtToken(email, 1, Role.KOREAN)).thenReturn("access-token");
 
         RefreshToken refreshToken = new RefreshToken();
         refreshToken.setToken("refresh-token");
@@ -109,7 +115,7 @@ class AuthServiceTest {
         when(authentication.getPrincipal()).thenReturn(user);
         when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
             .thenReturn(authentication);
-        when(jwtUtils.generateJwtToken(email, Role.ADMIN)).thenReturn("access-token");
+        when(jwtUtils.generateJwtToken(email, 1, Role.ADMIN)).thenReturn("access-token");
 
         RefreshToken refreshToken = new RefreshToken();
         refreshToken.setToken("refresh-token");
@@ -132,6 +138,8 @@ class AuthServiceTest {
         String refreshTokenValue = "valid-refresh-token";
         User user = new User();
         user.setEmail("user@uni.com");
+        user.setUserId(1);
+        user.setRole(Role.KOREAN);
 
         RefreshToken refreshToken = new RefreshToken();
         refreshToken.setToken(refreshTokenValue);
@@ -139,7 +147,7 @@ class AuthServiceTest {
         refreshToken.setExpiresAt(Instant.now().plusSeconds(3600));
 
         when(refreshTokenService.verifyRefreshToken(refreshTokenValue)).thenReturn(refreshToken);
-        when(jwtUtils.generateJwtToken("user@uni.com")).thenReturn("new-access-token");
+        when(jwtUtils.generateJwtToken("user@uni.com", 1, Role.KOREAN)).thenReturn("new-access-token");
 
         // When
         Map<String, String> tokens = authService.refreshAccessToken(refreshTokenValue);
@@ -149,7 +157,7 @@ class AuthServiceTest {
         assertEquals("new-access-token", tokens.get("accessToken"));
         assertEquals(refreshTokenValue, tokens.get("refreshToken"));
         verify(refreshTokenService, times(1)).verifyRefreshToken(refreshTokenValue);
-        verify(jwtUtils, times(1)).generateJwtToken("user@uni.com");
+        verify(jwtUtils, times(1)).generateJwtToken("user@uni.com", 1, Role.KOREAN);
     }
 
     @Test
@@ -174,18 +182,22 @@ class AuthServiceTest {
     }
 
     @Test
-    void givenLoggedInUser_whenGetLoggedInUserInfo_thenReturnMeResponse() {
-        // Given
+    void givenLoggedInUser_whenGetLoggedInUserInfo_thenReturnLatestMeResponse() {
+        // Given: 인증 주체가 만들어진 뒤 이름과 프로필 사진이 바뀐 경우
+        JwtPrincipal principal = JwtPrincipal.from(User.builder()
+            .userId(1).email("user@uni.com").name("Old Name").role(Role.KOREAN).build());
         User user = new User();
         user.setUserId(1);
+        user.setEmail("user@uni.com");
         user.setName("John Doe");
         user.setRole(Role.KOREAN);
         Profile profile = new Profile();
         profile.setImgProf("img_prof.jpg");
         user.setProfile(profile);
+        when(userRepository.findByEmail("user@uni.com")).thenReturn(Optional.of(user));
 
         // When
-        MeResponse response = authService.getLoggedInUserInfo(user);
+        MeResponse response = authService.getLoggedInUserInfo(principal);
 
         // Then
         assertNotNull(response);
@@ -195,6 +207,29 @@ class AuthServiceTest {
         assertEquals("img_prof.jpg", response.getImgProf());
     }
 
+    @Test
+    void givenJwtPrincipal_whenGetLoggedInUserInfo_thenLoadUserByEmail() {
+        // Given
+        JwtPrincipal principal = new JwtPrincipal(1, "user@uni.com", Role.KOREAN);
+        User user = new User();
+        user.setUserId(1);
+        user.setEmail("user@uni.com");
+        user.setName("John Doe");
+        user.setRole(Role.KOREAN);
+        Profile profile = new Profile();
+        profile.setImgProf("img_prof.jpg");
+        user.setProfile(profile);
+        when(userRepository.findByEmail("user@uni.com")).thenReturn(Optional.of(user));
+
+        // When
+        MeResponse response = authService.getLoggedInUserInfo(principal);
+
+        // Then
+        assertEquals(1, response.getUserId());
+        assertEquals("John Doe", response.getName());
+        assertEquals("img_prof.jpg", response.getImgProf());
+    }
+
     @Test
     void givenNullUser_whenGetLoggedInUserInfo_thenThrowException() {
         // When & Then
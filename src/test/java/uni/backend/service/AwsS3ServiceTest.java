@@ -1,7 +1,10 @@
 package uni.backend.service;
 
+import com.amazonaws.AmazonClientException;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.Upload;
 import java.net.URL;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -26,6 +29,9 @@ class AwsS3ServiceTest {
     @Mock
     private AmazonS3 amazonS3;
 
+    @Mock
+    private TransferManager transferManager;
+
     @Mock
     private MultipartFile image;
 
@@ -116,4 +122,49 @@ class AwsS3ServiceTest {
             () -> awsS3Service.uploadAdImage(image));
         assertEquals(AwsS3ErrorCode.EMPTY_FILE_EXCEPTION, exception.getErrorCode());
     }
-}
\ No newline at end of file
+
+    @DisplayName("이미지를 메모리에 복사하지 않고 multipart 스트림과 파일 크기로 바로 업로드")
+    @Test
+    void givenValidImage_whenUpload_thenStreamToS3() throws Exception {
+        // given
+        InputStream content = new ByteArrayInputStream(new byte[]{1, 2, 3});
+        when(image.isEmpty()).thenReturn(false);
+        when(image.getOriginalFilename()).thenReturn("photo.jpg");
+        when(image.getSize()).thenReturn(3L);
+        when(image.getInputStream()).thenReturn(content);
+        when(transferManager.upload(any(PutObjectRequest.class))).thenReturn(mock(Upload.class));
+        when(amazonS3.getUrl(any(), any())).thenReturn(new URL("https://bucket/profiles/photo.jpg"));
+
+        // when
+        String url = awsS3Service.upload(image, "profile", 1);
+
+        // then
+        assertEquals("https://bucket/profiles/photo.jpg", url);
+        ArgumentCaptor<PutObjectRequest> request = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(transferManager).upload(request.capture());
+        assertSame(content, request.getValue().getInputStream());
+        assertEquals(3L, request.getValue().getMetadata().getContentLength());
+        assertEquals("image/jpeg", request.getValue().getMetadata().getContentType());
+        assertTrue(request.getValue().getKey().startsWith("profiles/user_1_"));
+        verify(image, never()).getBytes();
+        verify(amazonS3, never()).putObject(any(PutObjectRequest.class));
+    }
+
+    @DisplayName("S3 업로드 실패 시 예외 발생")
+    @Test
+    void givenS3Failure_whenUploadAdImage_thenThrowPutObjectException() throws Exception {
+        // given
+        when(image.isEmpty()).thenReturn(false);
+        when(image.getOriginalFilename()).thenReturn("ad.png");
+        when(image.getSize()).thenReturn(3L);
+        when(image.getInputStream()).thenReturn(new ByteArrayInputStream(new byte[]{1, 2, 3}));
+        Upload upload = mock(Upload.class);
+        when(upload.waitForUploadResult()).thenThrow(new AmazonClientException("timeout"));
+        when(transferManager.upload(any(PutObjectRequest.class))).thenReturn(upload);
+
+        // when & then
+        AwsS3Exception exception = assertThrows(AwsS3Exception.class,
+            () -> awsS3Service.uploadAdImage(image));
+        assertEquals(AwsS3ErrorCode.PUT_OBJECT_EXCEPTION, exception.getErrorCode());
+    }
+}
@@ -0,0 +1,200 @@
+package uni.backend.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import uni.backend.domain.dto.ChatMessageResponse;
+import uni.backend.repository.ChatRoomRepository;
+
+import java.math.BigInteger;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ChatMessageWriteBehindServiceTest {
+
+    private static final String SENDER_EMAIL = "sender@example.com";
+    private static final String RECEIVER_EMAIL = "receiver@example.com";
+
+    private JdbcTemplate jdbcTemplate;
+    private ChatRoomRepository chatRoomRepository;
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        chatRoomRepository = mock(ChatRoomRepository.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        givenRoom();
+    }
+
+    private ChatMessageWriteBehindService createService(String mode, int queueCapacity) {
+        return new ChatMessageWriteBehindService(jdbcTemplate, chatRoomRepository, transactionManager, mode,
+                queueCapacity, 200, 50, 10, 1000);
+    }
+
+    // 채팅방 1 (sender=1, receiver=2) 만 있고 이메일로 두 유저를 찾을 수 있는 것처럼 응답
+    @SuppressWarnings("unchecked")
+    private void givenRoom() throws Exception {
+        Map<String, Integer> userIds = Map.of(SENDER_EMAIL, 1, RECEIVER_EMAIL, 2);
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(), any())).thenAnswer(invocation -> {
+            RowMapper<Object> mapper = invocation.getArgument(1);
+            String email = invocation.getArgument(2);
+            Integer roomId = invocation.getArgument(3);
+            if (roomId != 1) {
+                return List.of();
+            }
+            ResultSet rs = mock(ResultSet.class);
+            when(rs.getInt(1)).thenReturn(1);
+            when(rs.getInt(2)).thenReturn(2);
+            when(rs.getInt(3)).thenReturn(userIds.getOrDefault(email, 0));
+            when(rs.wasNull()).thenReturn(!userIds.containsKey(email));
+            return List.of(mapper.mapRow(rs, 0));
+        });
+    }
+
+    // 배치 INSERT 마다 DB 가 firstId 부터 순서대로 ID 를 할당한 것처럼 응답
+    private void givenGeneratedIds(int firstId) {
+        AtomicInteger nextId = new AtomicInteger(firstId);
+        when(jdbcTemplate.batchUpdate(any(PreparedStatementCreator.class), any(BatchPreparedStatementSetter.class),
+                any(KeyHolder.class))).thenAnswer(invocation -> {
+            BatchPreparedStatementSetter setter = invocation.getArgument(1);
+            KeyHolder keyHolder = invocation.getArgument(2);
+            for (int i = 0; i < setter.getBatchSize(); i++) {
+                keyHolder.getKeyList().add(Map.of("GENERATED_KEY", BigInteger.valueOf(nextId.getAndIncrement())));
+            }
+            return new int[setter.getBatchSize()];
+        });
+    }
+
+    @Test
+    void testEnqueueReturnsBeforeSaveAndCompletesWithDatabaseAssignedIds() throws Exception {
+        givenGeneratedIds(10);
+        var service = createService("write-behind", 10);
+        service.start();
+        try {
+            var first = service.enqueue(1, SENDER_EMAIL, "Hello", LocalDateTime.now());
+            var second = service.enqueue(1, RECEIVER_EMAIL, "Hi", LocalDateTime.now());
+
+            ChatMessageResponse firstResponse = first.get(1, TimeUnit.SECONDS);
+            ChatMessageResponse secondResponse = second.get(1, TimeUnit.SECONDS);
+            assertEquals(10, firstResponse.getMessageId());
+            assertEquals(2, firstResponse.getReceiverId());
+            assertEquals(11, secondResponse.getMessageId());
+            assertEquals(2, secondResponse.getSenderId());
+            assertEquals(1, secondResponse.getReceiverId());
+            assertEquals(2, service.getStats().getPersistedCount());
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    void testFlushPendingBatchesInsertsAndGroupsRoomUpdates() {
+        givenGeneratedIds(100);
+        var service = createService("write-behind", 10);
+        var earlier = LocalDateTime.now().minusSeconds(5);
+        var later = LocalDateTime.now();
+
+        // 플러시 스레드 없이 큐에 넣으면 저장 전까지 완료되지 않음
+        var one = service.enqueue(1, SENDER_EMAIL, "one", earlier);
+        var two = service.enqueue(1, SENDER_EMAIL, "two", later);
+        var three = service.enqueue(1, RECEIVER_EMAIL, "three", later);
+        assertFalse(one.isDone());
+        assertEquals(3, service.getStats().getQueueDepth());
+
+        // when
+        service.flushPending();
+
+        // then
+        assertEquals(List.of(100, 101, 102), List.of(one.join().getMessageId(),
+                two.join().getMessageId(), three.join().getMessageId()));
+        verify(jdbcTemplate, times(1)).batchUpdate(any(PreparedStatementCreator.class),
+                argThat((BatchPreparedStatementSetter setter) -> setter.getBatchSize() == 3), any(KeyHolder.class));
+        verify(chatRoomRepository).increaseReceiverUnreadCount(1, later, 2L);
+        verify(chatRoomRepository).increaseSenderUnreadCount(1, later, 1L);
+
+        var stats = service.getStats();
+        assertEquals(0, stats.getQueueDepth());
+        assertEquals(3, stats.getPersistedCount());
+        assertEquals(1, stats.getFlushCount());
+    }
+
+    @Test
+    void testUnknownRoomOrSenderIsRejectedWithoutQueueing() {
+        var service = createService("write-behind", 10);
+
+        var noRoom = assertThrows(IllegalArgumentException.class,
+                () -> service.enqueue(2, SENDER_EMAIL, "Hello", LocalDateTime.now()));
+        var noUser = assertThrows(IllegalArgumentException.class,
+                () -> service.enqueue(1, "nobody@example.com", "Hello", LocalDateTime.now()));
+
+        assertEquals("Chat room not found with ID: 2", noRoom.getMessage());
+        assertEquals("User not found with email: nobody@example.com", noUser.getMessage());
+        assertEquals(0, service.getStats().getQueueDepth());
+    }
+
+    @Test
+    void testFailedFlushIsReportedToSenderInsteadOfDropped() {
+        when(jdbcTemplate.batchUpdate(any(PreparedStatementCreator.class), any(BatchPreparedStatementSetter.class),
+                any(KeyHolder.class))).thenThrow(new DataAccessResourceFailureException("db down"));
+        var service = createService("write-behind", 10);
+
+        CompletableFuture<ChatMessageResponse> pending = service.enqueue(1, SENDER_EMAIL, "one", LocalDateTime.now());
+        service.flushPending();
+
+        var exception = assertThrows(ExecutionException.class, () -> pending.get(1, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, exception.getCause());
+        assertEquals("Failed to save chat message", exception.getCause().getMessage());
+        assertEquals(1, service.getStats().getFailedCount());
+        verifyNoInteractions(chatRoomRepository);
+    }
+
+    @Test
+    void testEnqueueRejectsWhenQueueIsFull() {
+        var service = createService("write-behind", 1);
+        service.enqueue(1, SENDER_EMAIL, "one", LocalDateTime.now());
+
+        var exception = assertThrows(IllegalStateException.class,
+                () -> service.enqueue(1, SENDER_EMAIL, "two", LocalDateTime.now()));
+
+        assertEquals("Chat message queue is full", exception.getMessage());
+        assertEquals(1, service.getStats().getRejectedCount());
+    }
+
+    @Test
+    void testShutdownSavesQueuedMessagesAndRejectsNewOnes() throws Exception {
+        givenGeneratedIds(1);
+        var service = createService("write-behind", 10);
+        var pending = service.enqueue(1, SENDER_EMAIL, "one", LocalDateTime.now());
+
+        // 플러시 스레드 없이 종료해도 남은 메시지를 저장
+        service.shutdown();
+
+        assertEquals(1, pending.get(1, TimeUnit.SECONDS).getMessageId());
+        var exception = assertThrows(IllegalStateException.class,
+                () -> service.enqueue(1, SENDER_EMAIL, "two", LocalDateTime.now()));
+        assertEquals("Chat message queue is shutting down", exception.getMessage());
+    }
+
+    @Test
+    void testUnknownModeIsRejected() {
+        var exception = assertThrows(IllegalArgumentException.class, () -> createService("async", 10));
+
+        assertEquals("Unknown chat persistence mode: async", exception.getMessage());
+    }
+}
@@ -2,6 +2,10 @@ package uni.backend.service;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import uni.backend.domain.ChatMessage;
 import uni.backend.domain.ChatRoom;
 import uni.backend.domain.User;
@@ -13,6 +17,7 @@ import uni.backend.repository.UserRepository;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -24,6 +29,7 @@ class ChatServiceTest {
     private ChatMessageRepository chatMessageRepository;
     private UserRepository userRepository;
     private TranslationService translationService;
+    private ChatMessageWriteBehindService chatMessageWriteBehindService;
 
     @BeforeEach
     void setUp() {
@@ -31,14 +37,15 @@ class ChatServiceTest {
         chatMessageRepository = mock(ChatMessageRepository.class);
         userRepository = mock(UserRepository.class);
         translationService = mock(TranslationService.class); // 필드에 직접 할당
-        var userStatusScheduler = mock(UserStatusScheduler.class);
+        chatMessageWriteBehindService = mock(ChatMessageWriteBehindService.class);
 
         chatService = new ChatService(
                 chatRoomRepository,
                 chatMessageRepository,
                 userRepository,
                 translationService,
-                userStatusScheduler
+                chatMessageWriteBehindService,
+                new TransactionTemplate(mock(PlatformTransactionManager.class))
         );
     }
 
@@ -62,8 +69,8 @@ class ChatServiceTest {
                 .build();
         when(chatRoomRepository.save(any(ChatRoom.class))).thenReturn(chatRoom);
 
-        // 추가 Mock 설정: findById
-        when(chatRoomRepository.findById(1)).thenReturn(Optional.of(chatRoom));
+        // 추가 Mock 설정: existsById
+        when(chatRoomRepository.existsById(1)).thenReturn(true);
 
         // when
         var response = chatService.createChatRoom(senderEmail, request);
@@ -77,7 +84,7 @@ class ChatServiceTest {
         verify(userRepository).findById(2);
         verify(chatRoomRepository).findBySenderAndReceiver(sender, receiver);
         verify(chatRoomRepository).save(any(ChatRoom.class));
-        verify(chatRoomRepository).findById(1);
+        verify(chatRoomRepository).existsById(1);
     }
 
     @Test
@@ -124,7 +131,7 @@ class ChatServiceTest {
         when(chatMessageRepository.save(any(ChatMessage.class))).thenReturn(message); // Mock 반환값 설정
 
         // when
-        var response = chatService.sendMessage(request, senderEmail, roomId);
+        var response = chatService.sendMessage(request, senderEmail, roomId).join();
 
         // then
         assertNotNull(response); // 반환된 응답이 null이 아님을 확인
@@ -163,7 +170,7 @@ class ChatServiceTest {
         when(chatMessageRepository.save(any(ChatMessage.class))).thenReturn(message); // Mock 반환값 설정
 
         // when
-        var response = chatService.sendMessage(request, senderEmail, roomId);
+        var response = chatService.sendMessage(request, senderEmail, roomId).join();
 
         // then
         assertNotNull(response); // 반환된 응답이 null이 아님을 확인
@@ -210,18 +217,17 @@ class ChatServiceTest {
         when(chatMessageRepository.save(any(ChatMessage.class))).thenReturn(message);
 
         // when
-        var response = chatService.sendMessage(request, senderEmail, 1);
+        var response = chatService.sendMessage(request, senderEmail, 1).join();
 
         // then
         assertNotNull(response);
         assertEquals("Hello", response.getContent());
 
         // Verify chatRoom update for sender as chatRoom sender
-        assertEquals(LocalDateTime.now().getMinute(), chatRoom.getSenderLastMessageAt().getMinute()); // senderLastMessageAt 갱신 확인
-        assertEquals(1, chatRoom.getReceiverUnreadCount()); // receiverUnreadCount가 1 증가했는지 확인
-
         verify(chatMessageRepository).save(any(ChatMessage.class));
-        verify(chatRoomRepository).save(chatRoom); // chatRoom이 업데이트 되었는지 확인
+        verify(chatRoomRepository).increaseReceiverUnreadCount(eq(1), any(LocalDateTime.class), eq(1L)); // receiverUnreadCount 원자적 증가
+        verify(chatRoomRepository, never()).increaseSenderUnreadCount(any(), any(), anyLong());
+        verify(chatRoomRepository, never()).save(any()); // 채팅방 전체 row 를 다시 쓰지 않음
     }
 
     @Test
@@ -249,55 +255,58 @@ class ChatServiceTest {
         when(chatMessageRepository.save(any(ChatMessage.class))).thenReturn(message);
 
         // when
-        var response = chatService.sendMessage(request, senderEmail, 1);
+        var response = chatService.sendMessage(request, senderEmail, 1).join();
 
         // then
         assertNotNull(response);
         assertEquals("Hello", response.getContent());
 
         // Verify chatRoom update for sender as chatRoom receiver
-        assertEquals(LocalDateTime.now().getMinute(), chatRoom.getReceiverLastMessageAt().getMinute()); // receiverLastMessageAt 갱신 확인
-        assertEquals(1, chatRoom.getSenderUnreadCount()); // senderUnreadCount가 1 증가했는지 확인
-
         verify(chatMessageRepository).save(any(ChatMessage.class));
-        verify(chatRoomRepository).save(chatRoom); // chatRoom이 업데이트 되었는지 확인
+        verify(chatRoomRepository).increaseSenderUnreadCount(eq(1), any(LocalDateTime.class), eq(1L)); // senderUnreadCount 원자적 증가
+        verify(chatRoomRepository, never()).increaseReceiverUnreadCount(any(), any(), anyLong());
+        verify(chatRoomRepository, never()).save(any()); // 채팅방 전체 row 를 다시 쓰지 않음
     }
 
     @Test
-    void testMarkMessagesAsReadForSender() {
+    void testSendMessageWriteBehindModeQueuesMessageWithoutLoadingEntities() {
         // given
-        var roomId = 1;
-        var username = "receiver@example.com"; // sender 가 읽은 경우
-        var sender = User.builder().userId(1).email("sender@example.com").name("Sender").build();
-        var receiver = User.builder().userId(2).email(username).name("Receiver").build();
-        var chatRoom = ChatRoom.builder()
-                .chatRoomId(1)
-                .sender(sender)
-                .receiver(receiver)
-                .build();
+        var request = ChatMessageRequest.builder().roomId(1).content("Hello").build();
+        var senderEmail = "sender@example.com";
+        var persisted = new CompletableFuture<ChatMessageResponse>();
 
-        var message = ChatMessage.builder()
-                .messageId(1)
-                .chatRoom(chatRoom)
-                .sender(receiver)
-                .receiver(sender)
-                .content("Hi")
-                .sendAt(LocalDateTime.now())
-                .isRead(false)
-                .build();
+        when(chatMessageWriteBehindService.isEnabled()).thenReturn(true);
+        when(chatMessageWriteBehindService.enqueue(eq(1), eq(senderEmail), eq("Hello"), any(LocalDateTime.class)))
+                .thenReturn(persisted);
 
-        chatRoom.setChatMessages(List.of(message));
+        // when: 저장을 기다리지 않고 future 를 바로 반환
+        var response = chatService.sendMessage(request, senderEmail, 1);
+
+        // then
+        assertSame(persisted, response);
+        assertFalse(response.isDone());
+        verifyNoInteractions(userRepository, chatRoomRepository, chatMessageRepository);
+    }
+
+    @Test
+    void testMarkMessagesAsReadForSender() {
+        // given
+        var roomId = 1;
+        var username = "sender@example.com"; // sender 가 읽은 경우
+        var sender = User.builder().userId(1).email(username).name("Sender").build();
 
-        when(chatRoomRepository.findById(roomId)).thenReturn(Optional.of(chatRoom));
         when(userRepository.findByEmail(username)).thenReturn(Optional.of(sender));
+        when(chatRoomRepository.existsById(roomId)).thenReturn(true);
+        when(chatMessageRepository.markAllAsRead(roomId, 1)).thenReturn(3);
 
         // when
         chatService.markMessagesAsRead(roomId, username);
 
-        // then
-        assertTrue(message.isRead(), "The message should be marked as read");
-        assertEquals(0, chatRoom.getReceiverUnreadCount(), "The receiver's unread count should be 0 after reading the message");
-        verify(chatMessageRepository).saveAll(chatRoom.getChatMessages());
+        // then: 메시지와 채팅방 모두 단일 UPDATE 로 처리
+        verify(chatMessageRepository).markAllAsRead(roomId, 1);
+        verify(chatRoomRepository).resetUnreadCount(roomId, 1);
+        verify(chatMessageRepository, never()).saveAll(any());
+        verify(chatRoomRepository, never()).save(any());
     }
 
     @Test
@@ -305,92 +314,82 @@ class ChatServiceTest {
         // given
         var roomId = 1;
         var username = "receiver@example.com"; // receiver가 읽은 경우
-        var sender = User.builder().userId(1).email("sender@example.com").name("Sender").build();
         var receiver = User.builder().userId(2).email(username).name("Receiver").build();
-        var chatRoom = ChatRoom.builder()
-                .chatRoomId(1)
-                .sender(sender)
-                .receiver(receiver)
-                .build();
-
-        var message = ChatMessage.builder()
-                .messageId(1)
-                .chatRoom(chatRoom)
-                .sender(sender)
-                .receiver(receiver)
-                .content("Hi")
-                .sendAt(LocalDateTime.now())
-                .isRead(false)
-                .build();
 
-        chatRoom.setChatMessages(List.of(message));
-
-        when(chatRoomRepository.findById(roomId)).thenReturn(Optional.of(chatRoom));
         when(userRepository.findByEmail(username)).thenReturn(Optional.of(receiver));
+        when(chatRoomRepository.existsById(roomId)).thenReturn(true);
 
         // when
         chatService.markMessagesAsRead(roomId, username);
 
         // then
-        assertTrue(message.isRead(), "The message should be marked as read");
-        assertEquals(0, chatRoom.getReceiverUnreadCount(), "The receiver's unread count should be 0 after reading the message");
-        verify(chatMessageRepository).saveAll(chatRoom.getChatMessages());
+        verify(chatMessageRepository).markAllAsRead(roomId, 2);
+        verify(chatRoomRepository).resetUnreadCount(roomId, 2);
     }
 
     @Test
-    void testMarkMessagesAsRead_CaseNotReadAndWrongReceiver() {
+    void testMarkMessagesAsRead_WhenRoomNotFound() {
         // given
-        var roomId = 1;
         var username = "receiver@example.com";
-        var sender = User.builder().userId(1).email("sender@example.com").build();
         var receiver = User.builder().userId(2).email(username).build();
-        var otherReceiver = User.builder().userId(3).email("other@example.com").build();
-        var chatRoom = ChatRoom.builder().chatRoomId(roomId).sender(sender).receiver(receiver).build();
 
-        var message = ChatMessage.builder()
-                .chatRoom(chatRoom)
-                .receiver(otherReceiver) // 잘못된 receiver
-                .isRead(false) // 아직 읽지 않은 메시지
-                .build();
+        when(userRepository.findByEmail(username)).thenReturn(Optional.of(receiver));
+        when(chatRoomRepository.existsById(99)).thenReturn(false);
+
+        // when & then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> chatService.markMessagesAsRead(99, username));
+
+        assertEquals("Chat room not found with ID: 99", exception.getMessage());
+        verify(chatMessageRepository, never()).markAllAsRead(any(), any());
+        verify(chatRoomRepository, never()).resetUnreadCount(any(), any());
+    }
+
+    @Test
+    void testMarkMessagesAsReadUpTo() {
+        // given
+        var roomId = 1;
+        var username = "receiver@example.com";
+        var receiver = User.builder().userId(2).email(username).build();
 
-        chatRoom.setChatMessages(List.of(message));
-        when(chatRoomRepository.findById(roomId)).thenReturn(Optional.of(chatRoom));
         when(userRepository.findByEmail(username)).thenReturn(Optional.of(receiver));
+        when(chatRoomRepository.existsById(roomId)).thenReturn(true);
+        when(chatMessageRepository.markAsReadUpTo(roomId, 2, 15)).thenReturn(4);
 
         // when
-        chatService.markMessagesAsRead(roomId, username);
+        int readCount = chatService.markMessagesAsReadUpTo(roomId, 15, username);
 
         // then
-        assertFalse(message.isRead(), "The message should remain unread as it is for a different receiver");
-        verify(chatMessageRepository, never()).saveAll(any()); // 저장 동작이 발생하지 않아야 함
-        verify(chatRoomRepository).save(chatRoom); // 채팅방은 저장될 수 있음
+        assertEquals(4, readCount);
+        verify(chatRoomRepository).decreaseUnreadCount(roomId, 2, 4L);
     }
 
     @Test
-    void testMarkMessagesAsRead_CaseAlreadyReadAndCorrectReceiver() {
+    void testMarkMessagesAsReadUpTo_WhenNothingNewlyRead() {
         // given
         var roomId = 1;
         var username = "receiver@example.com";
-        var sender = User.builder().userId(1).email("sender@example.com").build();
         var receiver = User.builder().userId(2).email(username).build();
-        var chatRoom = ChatRoom.builder().chatRoomId(roomId).sender(sender).receiver(receiver).build();
 
-        var message = ChatMessage.builder()
-                .chatRoom(chatRoom)
-                .receiver(receiver) // 올바른 receiver
-                .isRead(true) // 이미 읽은 메시지
-                .build();
-
-        chatRoom.setChatMessages(List.of(message));
-        when(chatRoomRepository.findById(roomId)).thenReturn(Optional.of(chatRoom));
         when(userRepository.findByEmail(username)).thenReturn(Optional.of(receiver));
+        when(chatRoomRepository.existsById(roomId)).thenReturn(true);
+        when(chatMessageRepository.markAsReadUpTo(roomId, 2, 15)).thenReturn(0);
 
         // when
-        chatService.markMessagesAsRead(roomId, username);
+        int readCount = chatService.markMessagesAsReadUpTo(roomId, 15, username);
 
         // then
-        assertTrue(message.isRead(), "The message should remain read");
-        verify(chatMessageRepository, never()).saveAll(any()); // 저장 동작이 발생하지 않아야 함
+        assertEquals(0, readCount);
+        verify(chatRoomRepository, never()).decreaseUnreadCount(any(), any(), anyLong());
+    }
+
+    @Test
+    void testMarkMessagesAsReadUpTo_WithNullMessageId() {
+        // when & then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> chatService.markMessagesAsReadUpTo(1, null, "receiver@example.com"));
+
+        assertEquals("Last read message ID cannot be null", exception.getMessage());
     }
 
     @Test
@@ -452,8 +451,8 @@ class ChatServiceTest {
         var chatRoomRepository = mock(ChatRoomRepository.class);
         var chatMessageRepository = mock(ChatMessageRepository.class);
         var userRepository = mock(UserRepository.class);
-        var userStatusScheduler = mock(UserStatusScheduler.class);
-        chatService = new ChatService(chatRoomRepository, chatMessageRepository, userRepository, translationService, userStatusScheduler);
+        chatService = new ChatService(chatRoomRepository, chatMessageRepository, userRepository, translationService,
+                mock(ChatMessageWriteBehindService.class));
 
         // Mock the translation response (empty response)
         TranslationResponse translationResponse = mock(TranslationResponse.class);
@@ -498,26 +497,26 @@ class ChatServiceTest {
         var email = "user@example.com";
         var user = User.builder().userId(1).email(email).name("User").build();
 
-        var chatRoom1 = ChatRoom.builder()
-                .chatRoomId(1)
-                .sender(user)
-                .receiver(User.builder().userId(2).email("receiver1@example.com").name("Receiver1").build())
-                .build();
-
-        var chatRoom2 = ChatRoom.builder()
+        var recentRoom = ChatRoomSummaryResponse.builder()
                 .chatRoomId(2)
-                .sender(user)
-                .receiver(User.builder().userId(3).email("receiver2@example.com").name("Receiver2").build())
+                .otherId(3)
+                .otherName("Receiver2")
+                .lastMessage("Hi")
+                .lastMessageAt(LocalDateTime.now())
+                .unreadCount(1L)
+                .build();
+        var olderRoom = ChatRoomSummaryResponse.builder()
+                .chatRoomId(1)
+                .otherId(2)
+                .otherName("Receiver1")
+                .lastMessage("Hello")
+                .lastMessageAt(LocalDateTime.now().minusDays(1))
+                .unreadCount(0L)
                 .build();
 
         // Mock 설정
         when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
-        when(chatRoomRepository.findBySenderOrReceiver(user, user))
-                .thenReturn(List.of(chatRoom1, chatRoom2));
-
-        // 추가 Mock 설정: findById
-        when(chatRoomRepository.findById(1)).thenReturn(Optional.of(chatRoom1));
-        when(chatRoomRepository.findById(2)).thenReturn(Optional.of(chatRoom2));
+        when(chatRoomRepository.findRoomSummariesByUserId(1)).thenReturn(List.of(recentRoom, olderRoom));
 
         // when
         var chatRooms = chatService.getChatRoomsForUser(email);
@@ -525,143 +524,57 @@ class ChatServiceTest {
         // then
         assertNotNull(chatRooms);
         assertEquals(2, chatRooms.size()); // 두 개의 채팅방이 반환되어야 함
-        assertEquals(1, chatRooms.get(0).getChatRoomId()); // 첫 번째 채팅방 ID는 1이어야 함
-        assertEquals(2, chatRooms.get(1).getChatRoomId()); // 두 번째 채팅방 ID는 2이어야 함
+        assertEquals(2, chatRooms.get(0).getChatRoomId()); // 최근 활동 채팅방이 먼저 반환됨
+        assertEquals("Hi", chatRooms.get(0).getLastMessage());
+        assertEquals(1L, chatRooms.get(0).getUnreadCount());
+        assertEquals(1, chatRooms.get(1).getChatRoomId());
 
-        // Verify Mock 동작
+        // Verify Mock 동작: 채팅방 목록 조회 시 메시지를 로드하지 않음
         verify(userRepository).findByEmail(email);
-        verify(chatRoomRepository).findBySenderOrReceiver(user, user);
-        verify(chatRoomRepository).findById(1); // chatRoom1에 대한 findById 호출 검증
-        verify(chatRoomRepository).findById(2); // chatRoom2에 대한 findById 호출 검증
+        verify(chatRoomRepository).findRoomSummariesByUserId(1);
+        verifyNoInteractions(chatMessageRepository);
     }
 
     @Test
-    void testGetChatRoomsForUser_WhenCurrentUserIsReceiver() {
+    void testGetChatRoomsForUser_WhenUserNotFound() {
         // given
-        var currentUser = User.builder()
-                .userId(2)
-                .email("receiver@example.com")
-                .name("Receiver")
-                .build();
+        var email = "unknown@example.com";
+        when(userRepository.findByEmail(email)).thenReturn(Optional.empty());
 
-        var sender = User.builder()
-                .userId(1)
-                .email("sender@example.com")
-                .name("Sender")
-                .build();
+        // when & then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> chatService.getChatRoomsForUser(email));
+
+        assertEquals("User not found with email: " + email, exception.getMessage());
+        verify(chatRoomRepository, never()).findRoomSummariesByUserId(any());
+    }
+
+    @Test
+    void testCreateChatRoom_UsesStoredUnreadCount() {
+        // given
+        var currentUser = User.builder().userId(2).email("receiver@example.com").name("Receiver").build();
+        var sender = User.builder().userId(1).email("sender@example.com").name("Sender").build();
 
         var chatRoom = ChatRoom.builder()
                 .chatRoomId(1)
                 .sender(sender)
                 .receiver(currentUser) // currentUser를 receiver로 설정
-                .receiverUnreadCount(5) // 초기 unreadCount 설정
+                .receiverUnreadCount(5) // 저장된 unreadCount
                 .build();
 
-        var message1 = ChatMessage.builder()
-                .messageId(1)
-                .chatRoom(chatRoom)
-                .sender(sender)
-                .receiver(currentUser)
-                .isRead(false)
-                .content("Hello")
-                .build();
-
-        chatRoom.setChatMessages(List.of(message1));
-
-        // Mock 설정
         when(userRepository.findByEmail(currentUser.getEmail())).thenReturn(Optional.of(currentUser));
-        when(chatRoomRepository.findBySenderOrReceiver(currentUser, currentUser)).thenReturn(List.of(chatRoom));
-        when(chatRoomRepository.findById(1)).thenReturn(Optional.of(chatRoom));
-        when(chatMessageRepository.findByChatRoom(chatRoom)).thenReturn(List.of(message1));
+        when(userRepository.findById(1)).thenReturn(Optional.of(sender));
+        when(chatRoomRepository.findBySenderAndReceiver(currentUser, sender)).thenReturn(Optional.of(chatRoom));
+        when(chatRoomRepository.existsById(1)).thenReturn(true);
 
         // when
-        var chatRooms = chatService.getChatRoomsForUser(currentUser.getEmail());
+        var response = chatService.createChatRoom(currentUser.getEmail(),
+                ChatRoomRequest.builder().receiverId(1).build());
 
         // then
-        assertNotNull(chatRooms);
-        assertEquals(1, chatRooms.size());
-        var response = chatRooms.get(0);
-        assertEquals(1, response.getChatRoomId());
-        assertEquals(1, response.getUnreadCount()); // UnreadCount 값 검증
+        assertEquals(5, response.getUnreadCount()); // 메시지를 다시 세지 않고 저장된 값을 사용
         assertEquals(currentUser.getUserId(), response.getMyId());
         assertEquals(sender.getUserId(), response.getOtherId());
-
-        verify(chatRoomRepository).findBySenderOrReceiver(currentUser, currentUser);
-        verify(chatRoomRepository).findById(1);
-        verify(chatMessageRepository).findByChatRoom(chatRoom);
-    }
-
-    @Test
-    void testGetChatRoomsForUser_WithMessages() {
-        // given
-        var email = "user@example.com";
-        var user = User.builder().userId(1).email(email).name("User").build();
-
-        var receiver1 = User.builder().userId(2).email("receiver1@example.com").name("Receiver1").build();
-        var receiver2 = User.builder().userId(3).email("receiver2@example.com").name("Receiver2").build();
-
-        var chatRoom1 = ChatRoom.builder()
-                .chatRoomId(1)
-                .sender(user)
-                .receiver(receiver1)
-                .build();
-
-        var chatRoom2 = ChatRoom.builder()
-                .chatRoomId(2)
-                .sender(user)
-                .receiver(receiver2)
-                .build();
-
-        // 메시지 설정
-        var message1 = ChatMessage.builder()
-                .messageId(1)
-                .chatRoom(chatRoom1)
-                .sender(user)
-                .receiver(receiver1)
-                .content("Hello")
-                .sendAt(LocalDateTime.now())
-                .isRead(false)
-                .build();
-
-        var message2 = ChatMessage.builder()
-                .messageId(2)
-                .chatRoom(chatRoom2)
-                .sender(user)
-                .receiver(receiver2)
-                .content("Hi")
-                .sendAt(LocalDateTime.now())
-                .isRead(false)
-                .build();
-
-        chatRoom1.setChatMessages(List.of(message1)); // chatRoom1 메시지 추가
-        chatRoom2.setChatMessages(List.of(message2)); // chatRoom2 메시지 추가
-
-        // Mock 설정
-        when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
-        when(chatRoomRepository.findBySenderOrReceiver(user, user)).thenReturn(List.of(chatRoom1, chatRoom2));
-        when(chatRoomRepository.findById(1)).thenReturn(Optional.of(chatRoom1));
-        when(chatRoomRepository.findById(2)).thenReturn(Optional.of(chatRoom2));
-        when(chatMessageRepository.findByChatRoom(chatRoom1)).thenReturn(List.of(message1));
-        when(chatMessageRepository.findByChatRoom(chatRoom2)).thenReturn(List.of(message2));
-
-        // when
-        var chatRooms = chatService.getChatRoomsForUser(email);
-
-        // then
-        assertNotNull(chatRooms);
-        assertEquals(2, chatRooms.size());
-        assertEquals(1, chatRooms.get(0).getChatRoomId());
-        assertEquals(2, chatRooms.get(1).getChatRoomId());
-        assertEquals("Hello", chatRooms.get(0).getChatMessages().get(0).getContent());
-        assertEquals("Hi", chatRooms.get(1).getChatMessages().get(0).getContent());
-
-        // Verify Mock 호출
-        verify(userRepository).findByEmail(email);
-        verify(chatRoomRepository).findBySenderOrReceiver(user, user);
-        verify(chatRoomRepository).findById(1);
-        verify(chatRoomRepository).findById(2);
-        verify(chatMessageRepository).findByChatRoom(chatRoom1);
-        verify(chatMessageRepository).findByChatRoom(chatRoom2);
     }
 
     @Test
@@ -684,8 +597,9 @@ class ChatServiceTest {
                 .isRead(false)
                 .build();
 
-        when(chatRoomRepository.findById(roomId)).thenReturn(Optional.of(chatRoom));
-        when(chatMessageRepository.findByChatRoom(chatRoom)).thenReturn(List.of(message));
+        when(chatRoomRepository.existsById(roomId)).thenReturn(true);
+        when(chatMessageRepository.findByChatRoom_ChatRoomIdOrderByMessageIdDesc(eq(roomId), any(Pageable.class)))
+                .thenReturn(List.of(message));
 
         // when
         var messages = chatService.getChatMessages(roomId);
@@ -697,86 +611,109 @@ class ChatServiceTest {
     }
 
     @Test
-    void testNotifyUnreadMessages() {
+    void testGetChatMessagesBeforeCursor() {
         // given
-        LocalDateTime now = LocalDateTime.now();
+        var roomId = 1;
+        var chatRoom = ChatRoom.builder()
+                .chatRoomId(roomId)
+                .sender(User.builder().userId(1).build())
+                .receiver(User.builder().userId(2).build())
+                .build();
 
-        // Sender에게 알림을 보내야 하는 ChatRoom
-        User sender = User.builder().userId(1).email("sender@example.com").build();
-        User receiver = User.builder().userId(2).email("receiver@example.com").build();
+        // 최신순으로 size + 1 건 조회됨
+        var newer = messageOf(chatRoom, 9, "newer");
+        var older = messageOf(chatRoom, 8, "older");
+        var extra = messageOf(chatRoom, 7, "extra");
 
-        ChatRoom chatRoomWithSenderNotification = ChatRoom.builder()
-                .chatRoomId(1)
-                .sender(sender)
-                .receiver(receiver)
-                .senderUnreadCount(5) // Sender가 읽지 않은 메시지가 있음
-                .receiverLastMessageAt(now.minusDays(2)) // 마지막 메시지가 1일 이상 지남
-                .build();
+        when(chatRoomRepository.existsById(roomId)).thenReturn(true);
+        when(chatMessageRepository.findByChatRoom_ChatRoomIdAndMessageIdLessThanOrderByMessageIdDesc(
+                eq(roomId), eq(10), eq(PageRequest.of(0, 3))))
+                .thenReturn(List.of(newer, older, extra));
 
-        ChatRoom chatRoomWithoutNotification = ChatRoom.builder()
-                .chatRoomId(2)
-                .sender(sender)
-                .receiver(receiver)
-                .senderUnreadCount(0) // 읽지 않은 메시지가 없음
-                .receiverLastMessageAt(now.minusHours(12)) // 마지막 메시지가 1일 지나지 않음
+        // when
+        var page = chatService.getChatMessages(roomId, 10, null, 2);
+
+        // then
+        assertEquals(2, page.getMessages().size());
+        assertEquals("older", page.getMessages().get(0).getContent()); // 오래된 순 정렬
+        assertEquals("newer", page.getMessages().get(1).getContent());
+        assertEquals(8, page.getBeforeCursor());
+        assertEquals(9, page.getAfterCursor());
+        assertTrue(page.isHasMore());
+    }
+
+    @Test
+    void testGetChatMessagesAfterCursor() {
+        // given
+        var roomId = 1;
+        var chatRoom = ChatRoom.builder()
+                .chatRoomId(roomId)
+                .sender(User.builder().userId(1).build())
+                .receiver(User.builder().userId(2).build())
                 .build();
 
-        when(chatRoomRepository.findAll())
-                .thenReturn(List.of(chatRoomWithSenderNotification, chatRoomWithoutNotification));
+        var first = messageOf(chatRoom, 11, "first");
+        var second = messageOf(chatRoom, 12, "second");
 
-        // ChatService의 notifyUnreadMessages를 실행
-        chatService.notifyUnreadMessages();
+        when(chatRoomRepository.existsById(roomId)).thenReturn(true);
+        when(chatMessageRepository.findByChatRoom_ChatRoomIdAndMessageIdGreaterThanOrderByMessageIdAsc(
+                eq(roomId), eq(10), any(Pageable.class)))
+                .thenReturn(List.of(first, second));
 
-        // Mocked repository가 호출되었는지 확인
-        verify(chatRoomRepository, times(1)).findAll();
+        // when
+        var page = chatService.getChatMessages(roomId, null, 10, null);
 
-        // 알림이 필요한 조건만 검증
-        assertEquals(5, chatRoomWithSenderNotification.getSenderUnreadCount());
-        assertTrue(chatRoomWithSenderNotification.getReceiverLastMessageAt().isBefore(now.minusDays(1)));
+        // then
+        assertEquals(2, page.getMessages().size());
+        assertEquals("first", page.getMessages().get(0).getContent());
+        assertEquals(12, page.getAfterCursor());
+        assertFalse(page.isHasMore());
     }
 
     @Test
-    void testNotifyUnreadMessages_WhenReceiverHasUnreadMessages() {
+    void testGetChatMessagesPageSizeIsBounded() {
         // given
-        LocalDateTime now = LocalDateTime.now();
+        var roomId = 1;
+        when(chatRoomRepository.existsById(roomId)).thenReturn(true);
 
-        User sender = User.builder().userId(1).email("sender@example.com").build();
-        User receiver = User.builder().userId(2).email("receiver@example.com").build();
+        // when
+        var page = chatService.getChatMessages(roomId, null, null, 10_000);
 
-        // Receiver가 알림 조건을 충족하는 ChatRoom 생성
-        ChatRoom chatRoomWithReceiverNotification = ChatRoom.builder()
-                .chatRoomId(1)
-                .sender(sender)
-                .receiver(receiver)
-                .receiverUnreadCount(3) // 읽지 않은 메시지가 있음
-                .senderLastMessageAt(now.minusDays(2)) // 마지막 메시지가 1일 이상 지남
-                .build();
+        // then
+        assertTrue(page.getMessages().isEmpty());
+        verify(chatMessageRepository).findByChatRoom_ChatRoomIdOrderByMessageIdDesc(roomId, PageRequest.of(0, 101));
+    }
 
-        // 알림 조건을 충족하지 않는 ChatRoom 생성
-        ChatRoom chatRoomWithoutNotification = ChatRoom.builder()
-                .chatRoomId(2)
-                .sender(sender)
-                .receiver(receiver)
-                .receiverUnreadCount(0) // 읽지 않은 메시지가 없음
-                .senderLastMessageAt(now.minusHours(12)) // 마지막 메시지가 1일 지나지 않음
-                .build();
+    @Test
+    void testGetChatMessagesWithBothCursors() {
+        // when & then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> chatService.getChatMessages(1, 10, 5, null));
 
-        when(chatRoomRepository.findAll())
-                .thenReturn(List.of(chatRoomWithReceiverNotification, chatRoomWithoutNotification));
+        assertEquals("Only one of 'before' or 'after' can be specified", exception.getMessage());
+        verifyNoInteractions(chatMessageRepository);
+    }
 
-        // when
-        chatService.notifyUnreadMessages();
+    @Test
+    void testGetChatMessagesWhenRoomNotFound() {
+        // given
+        when(chatRoomRepository.existsById(99)).thenReturn(false);
 
-        // then
-        // Mocked repository가 호출되었는지 확인
-        verify(chatRoomRepository, times(1)).findAll();
+        // when & then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> chatService.getChatMessages(99, null, null, null));
 
-        // 알림 조건을 충족하는 데이터 검증
-        assertEquals(3, chatRoomWithReceiverNotification.getReceiverUnreadCount());
-        assertTrue(chatRoomWithReceiverNotification.getSenderLastMessageAt().isBefore(now.minusDays(1)));
+        assertEquals("Chat room not found with ID: 99", exception.getMessage());
+    }
 
-        // 알림 조건을 충족하지 않는 데이터 검증
-        assertEquals(0, chatRoomWithoutNotification.getReceiverUnreadCount());
-        assertTrue(chatRoomWithoutNotification.getSenderLastMessageAt().isAfter(now.minusDays(1)));
+    private ChatMessage messageOf(ChatRoom chatRoom, Integer messageId, String content) {
+        return ChatMessage.builder()
+                .messageId(messageId)
+                .chatRoom(chatRoom)
+                .sender(chatRoom.getSender())
+                .receiver(chatRoom.getReceiver())
+                .content(content)
+                .sendAt(LocalDateTime.now())
+                .build();
     }
-}
\ No newline at end of file
+}
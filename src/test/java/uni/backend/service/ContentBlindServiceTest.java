@@ -0,0 +1,155 @@
+package uni.backend.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import uni.backend.domain.ContentBlindTask;
+import uni.backend.repository.ContentBlindTaskRepository;
+import uni.backend.repository.QnaRepository;
+import uni.backend.repository.ReplyRepository;
+import uni.backend.repository.ReviewReplyRepository;
+import uni.backend.repository.ReviewRepository;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ContentBlindServiceTest {
+
+    private QnaRepository qnaRepository;
+    private ReplyRepository replyRepository;
+    private ReviewRepository reviewRepository;
+    private ReviewReplyRepository reviewReplyRepository;
+    private ContentBlindTaskRepository contentBlindTaskRepository;
+    private ContentBlindService contentBlindService;
+
+    // content_blind_task 테이블 대신 쓰는 저장소
+    private final Map<Integer, ContentBlindTask> tasks = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        qnaRepository = mock(QnaRepository.class);
+        replyRepository = mock(ReplyRepository.class);
+        reviewRepository = mock(ReviewRepository.class);
+        reviewReplyRepository = mock(ReviewReplyRepository.class);
+        contentBlindTaskRepository = mock(ContentBlindTaskRepository.class);
+        givenTaskTable();
+        // 청크 100, 임대 1분
+        contentBlindService = new ContentBlindService(qnaRepository, replyRepository,
+            reviewRepository, reviewReplyRepository, contentBlindTaskRepository,
+            mock(PlatformTransactionManager.class), 100, 60000);
+    }
+
+    private void givenTaskTable() {
+        when(contentBlindTaskRepository.findByIdForUpdate(any())).thenAnswer(
+            invocation -> Optional.ofNullable(tasks.get(invocation.<Integer>getArgument(0))));
+        when(contentBlindTaskRepository.save(any())).thenAnswer(invocation -> {
+            ContentBlindTask task = invocation.getArgument(0);
+            tasks.put(task.getUserId(), task);
+            return task;
+        });
+        doAnswer(invocation -> tasks.remove(invocation.<ContentBlindTask>getArgument(0).getUserId()))
+            .when(contentBlindTaskRepository).delete(any());
+        when(contentBlindTaskRepository.findDueForUpdate(any(), any())).thenAnswer(invocation -> {
+            LocalDateTime now = invocation.getArgument(0);
+            return tasks.values().stream()
+                .filter(task -> !task.getNextAttemptAt().isAfter(now))
+                .limit(1)
+                .toList();
+        });
+    }
+
+    @DisplayName("글이 청크보다 적으면 네 번의 UPDATE 로 바로 끝나고 작업을 남기지 않음")
+    @Test
+    void testSmallAccountFinishesSynchronously() {
+        when(qnaRepository.updateBlindByCommenter(1, true, 100)).thenReturn(3);
+        when(reviewRepository.updateBlindByCommenter(1, true, 100)).thenReturn(1);
+
+        assertTrue(contentBlindService.setBlind(1, true));
+
+        verify(qnaRepository).updateBlindByCommenter(1, true, 100);
+        verify(replyRepository).updateBlindByCommenter(1, true, 100);
+        verify(reviewRepository).updateBlindByCommenter(1, true, 100);
+        verify(reviewReplyRepository).updateBlindByCommenter(1, true, 100);
+        assertTrue(tasks.isEmpty());
+    }
+
+    @DisplayName("청크를 가득 채우면 남은 작업을 DB 에 저장하고 스케줄러가 청크 단위로 처리")
+    @Test
+    void testLargeAccountContinuesInBackground() {
+        // QnA 250개: 동기 100 + 백그라운드 100, 50
+        when(qnaRepository.updateBlindByCommenter(1, true, 100)).thenReturn(100, 100, 50);
+
+        assertFalse(contentBlindService.setBlind(1, true));
+        assertTrue(tasks.get(1).isBlind());
+
+        contentBlindService.processPending();
+
+        verify(qnaRepository, times(3)).updateBlindByCommenter(1, true, 100);
+        verify(reviewReplyRepository, times(3)).updateBlindByCommenter(1, true, 100);
+        assertTrue(tasks.isEmpty());
+    }
+
+    @DisplayName("남은 작업이 있을 때 해제 요청이 오면 마지막 상태로 덮어씀")
+    @Test
+    void testLatestRequestWins() {
+        when(qnaRepository.updateBlindByCommenter(1, true, 100)).thenReturn(100);
+        when(qnaRepository.updateBlindByCommenter(1, false, 100)).thenReturn(100, 0);
+
+        contentBlindService.setBlind(1, true);
+        contentBlindService.setBlind(1, false);
+        assertFalse(tasks.get(1).isBlind());
+        assertEquals(2, tasks.get(1).getRevision());
+
+        contentBlindService.processPending();
+
+        assertTrue(tasks.isEmpty());
+        verify(qnaRepository, times(1)).updateBlindByCommenter(1, true, 100);
+        verify(qnaRepository, times(2)).updateBlindByCommenter(1, false, 100);
+    }
+
+    @DisplayName("처리 중 새 요청으로 revision 이 바뀌면 이전 상태의 청크는 더 진행하지 않음")
+    @Test
+    void testStaleRevisionStops() {
+        when(qnaRepository.updateBlindByCommenter(1, true, 100)).thenAnswer(invocation -> {
+            // 백그라운드 첫 청크 중에 다른 요청이 작업을 덮어씀
+            if (tasks.containsKey(1) && tasks.get(1).getNextAttemptAt().isAfter(LocalDateTime.now())) {
+                tasks.get(1).setRevision(tasks.get(1).getRevision() + 1);
+            }
+            return 100;
+        });
+
+        contentBlindService.setBlind(1, true);
+        contentBlindService.processPending();
+
+        // 동기 1회 + 백그라운드 1회 후 revision 이 달라 중단, 작업은 새 요청 몫으로 남음
+        verify(qnaRepository, times(2)).updateBlindByCommenter(1, true, 100);
+        assertEquals(2, tasks.get(1).getRevision());
+    }
+
+    @DisplayName("백그라운드 처리 중 실패하면 작업을 남겨 두고 임대가 끝난 뒤 다시 시도")
+    @Test
+    void testFailureIsRetried() {
+        when(qnaRepository.updateBlindByCommenter(1, true, 100))
+            .thenReturn(100)
+            .thenThrow(new RuntimeException("lock wait timeout"))
+            .thenReturn(10);
+
+        contentBlindService.setBlind(1, true);
+        contentBlindService.processPending();
+        assertTrue(tasks.get(1).getNextAttemptAt().isAfter(LocalDateTime.now()));
+
+        // 임대 시간이 지나지 않으면 다시 가져가지 않음
+        contentBlindService.processPending();
+        assertTrue(tasks.containsKey(1));
+
+        tasks.get(1).setNextAttemptAt(LocalDateTime.now().minusSeconds(1));
+        contentBlindService.processPending();
+        assertTrue(tasks.isEmpty());
+    }
+}
@@ -0,0 +1,164 @@
+package uni.backend.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import uni.backend.domain.ContentTranslation;
+import uni.backend.domain.TranslatedContentType;
+import uni.backend.domain.dto.IndividualTranslationResponse;
+import uni.backend.domain.dto.TranslationRequest;
+import uni.backend.domain.dto.TranslationResponse;
+import uni.backend.repository.ContentTranslationRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ContentTranslationServiceTest {
+
+    private ContentTranslationRepository contentTranslationRepository;
+    private TranslationService translationService;
+    private ContentTranslationService contentTranslationService;
+
+    @BeforeEach
+    void setUp() {
+        contentTranslationRepository = mock(ContentTranslationRepository.class);
+        translationService = mock(TranslationService.class);
+        contentTranslationService = new ContentTranslationService(contentTranslationRepository,
+            translationService, mock(PlatformTransactionManager.class), true, 50, 3, 1000, 60000,
+            60000);
+    }
+
+    private ContentTranslation pending(long id, String language, String text, int attempts) {
+        return ContentTranslation.builder()
+            .id(id)
+            .contentType(TranslatedContentType.QNA)
+            .contentId(1)
+            .language(language)
+            .sourceText(text)
+            .sourceHash(ContentTranslationService.sourceHash(text))
+            .status(ContentTranslation.Status.PENDING)
+            .attempts(attempts)
+            .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    @DisplayName("새 글은 en, zh 번역 대기 행을 만들고 원문이 같으면 다시 번역하지 않음")
+    @Test
+    void testRequestTranslationOnlyForChangedText() {
+        when(contentTranslationRepository.findByContentTypeAndContentId(TranslatedContentType.QNA, 1))
+            .thenReturn(List.of());
+
+        contentTranslationService.requestTranslation(TranslatedContentType.QNA, 1, "안녕하세요");
+
+        ArgumentCaptor<List<ContentTranslation>> captor = ArgumentCaptor.forClass(List.class);
+        verify(contentTranslationRepository).saveAll(captor.capture());
+        assertEquals(2, captor.getValue().size());
+        assertTrue(captor.getValue().stream()
+            .allMatch(t -> t.getStatus() == ContentTranslation.Status.PENDING));
+
+        // 같은 원문으로 다시 저장: 변경된 언어 없음
+        ContentTranslation en = pending(1, "en", "안녕하세요", 0);
+        ContentTranslation zh = pending(2, "zh", "안녕하세요", 0);
+        when(contentTranslationRepository.findByContentTypeAndContentId(TranslatedContentType.QNA, 1))
+            .thenReturn(List.of(en, zh));
+
+        contentTranslationService.requestTranslation(TranslatedContentType.QNA, 1, "안녕하세요");
+
+        verify(contentTranslationRepository).saveAll(List.of());
+    }
+
+    @DisplayName("수정된 글은 기존 번역을 지우고 다시 번역 대기 상태로 변경")
+    @Test
+    void testRequestTranslationResetsEditedContent() {
+        ContentTranslation en = pending(1, "en", "이전 내용", 2);
+        en.setStatus(ContentTranslation.Status.DONE);
+        en.setTranslatedText("Old content");
+        when(contentTranslationRepository.findByContentTypeAndContentId(TranslatedContentType.QNA, 1))
+            .thenReturn(List.of(en));
+
+        contentTranslationService.requestTranslation(TranslatedContentType.QNA, 1, "새 내용");
+
+        assertEquals(ContentTranslation.Status.PENDING, en.getStatus());
+        assertNull(en.getTranslatedText());
+        assertEquals(0, en.getAttempts());
+        assertEquals(ContentTranslationService.sourceHash("새 내용"), en.getSourceHash());
+    }
+
+    @DisplayName("대기 중인 글을 언어별로 한 번에 번역하고 결과를 저장")
+    @Test
+    void testTranslatePendingCompletesRows() {
+        ContentTranslation first = pending(1, "en", "안녕하세요", 0);
+        ContentTranslation second = pending(2, "en", "감사합니다", 0);
+        when(contentTranslationRepository.findDueForUpdate(any(LocalDateTime.class), any()))
+            .thenReturn(List.of(first, second));
+        when(translationService.translate(any(TranslationRequest.class))).thenAnswer(invocation -> {
+            TranslationRequest request = invocation.getArgument(0);
+            TranslationResponse response = new TranslationResponse();
+            response.setTranslations(request.getText().stream().map(text -> {
+                IndividualTranslationResponse translation = new IndividualTranslationResponse();
+                translation.setText("Translated: " + text);
+                return translation;
+            }).toList());
+            return response;
+        });
+
+        contentTranslationService.translatePending();
+
+        verify(translationService, times(1)).translate(any(TranslationRequest.class));
+        verify(contentTranslationRepository).complete(eq(1L), eq(first.getSourceHash()),
+            eq("Translated: 안녕하세요"), any(LocalDateTime.class));
+        verify(contentTranslationRepository).complete(eq(2L), eq(second.getSourceHash()),
+            eq("Translated: 감사합니다"), any(LocalDateTime.class));
+    }
+
+    @DisplayName("번역 전에 가져간 행의 다음 시도 시각을 임대 시간만큼 미뤄 다른 인스턴스가 가져가지 않음")
+    @Test
+    void testTranslatePendingLeasesClaimedRows() {
+        ContentTranslation claimed = pending(1, "en", "안녕하세요", 0);
+        claimed.setNextAttemptAt(LocalDateTime.now());
+        when(contentTranslationRepository.findDueForUpdate(any(LocalDateTime.class), any()))
+            .thenReturn(List.of(claimed));
+        when(translationService.translate(any(TranslationRequest.class)))
+            .thenThrow(new IllegalStateException("DeepL down"));
+
+        LocalDateTime before = LocalDateTime.now();
+        contentTranslationService.translatePending();
+
+        verify(contentTranslationRepository).saveAll(List.of(claimed));
+        assertFalse(claimed.getNextAttemptAt().isBefore(before.plusSeconds(59)));
+    }
+
+    @DisplayName("원문 글이 삭제되면 번역 행도 삭제")
+    @Test
+    void testDeleteTranslations() {
+        contentTranslationService.deleteTranslations(TranslatedContentType.REVIEW, 7);
+
+        verify(contentTranslationRepository).deleteByContent(TranslatedContentType.REVIEW, 7);
+    }
+
+    @DisplayName("번역 실패 시 백오프 후 재시도하고, 최대 횟수를 넘으면 실패 처리")
+    @Test
+    void testTranslatePendingRetriesWithBackoff() {
+        ContentTranslation retry = pending(1, "en", "안녕하세요", 0);
+        ContentTranslation giveUp = pending(2, "zh", "안녕하세요", 2);
+        when(contentTranslationRepository.findDueForUpdate(any(LocalDateTime.class), any()))
+            .thenReturn(List.of(retry, giveUp));
+        when(translationService.translate(any(TranslationRequest.class)))
+            .thenThrow(new IllegalStateException("DeepL down"));
+
+        contentTranslationService.translatePending();
+
+        verify(contentTranslationRepository).reschedule(eq(1L), eq(retry.getSourceHash()), eq(1),
+            eq(ContentTranslation.Status.PENDING), any(LocalDateTime.class),
+            any(LocalDateTime.class));
+        verify(contentTranslationRepository).reschedule(eq(2L), eq(giveUp.getSourceHash()), eq(3),
+            eq(ContentTranslation.Status.FAILED), isNull(), any(LocalDateTime.class));
+        verify(contentTranslationRepository, never()).complete(any(), any(), any(), any());
+    }
+}
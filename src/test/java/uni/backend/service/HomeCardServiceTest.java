@@ -0,0 +1,123 @@
+package uni.backend.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import uni.backend.domain.HomeCard;
+import uni.backend.domain.Hashtag;
+import uni.backend.domain.MainCategory;
+import uni.backend.domain.Profile;
+import uni.backend.domain.ProfileChangedEvent;
+import uni.backend.domain.Role;
+import uni.backend.domain.User;
+import uni.backend.domain.UserStatus;
+import uni.backend.repository.HomeCardRepository;
+import uni.backend.repository.ProfileRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class HomeCardServiceTest {
+
+    @Mock
+    private HomeCardRepository homeCardRepository;
+
+    @Mock
+    private ProfileRepository profileRepository;
+
+    @InjectMocks
+    private HomeCardService homeCardService;
+
+    private User user;
+    private Profile profile;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+
+        user = User.builder().userId(1).name("User1").univName("아주대학교")
+            .role(Role.KOREAN).status(UserStatus.ACTIVE).build();
+        profile = new Profile();
+        profile.setProfileId(10);
+        profile.setUser(user);
+        profile.setImgProf("/img1.png");
+        profile.setStar(4.5);
+
+        Hashtag hashtag = new Hashtag();
+        hashtag.setHashtagName("여행");
+        MainCategory mainCategory = new MainCategory();
+        mainCategory.setHashtag(hashtag);
+        profile.addMainCategory(mainCategory);
+    }
+
+    @Test
+    @DisplayName("프로필 변경 이벤트를 받으면 펼친 홈 카드를 저장")
+    void onProfileChanged_카드저장() {
+        when(profileRepository.findByUser_UserId(1)).thenReturn(Optional.of(profile));
+
+        homeCardService.onProfileChanged(new ProfileChangedEvent(1));
+
+        ArgumentCaptor<HomeCard> captor = ArgumentCaptor.forClass(HomeCard.class);
+        verify(homeCardRepository).save(captor.capture());
+        HomeCard card = captor.getValue();
+        assertEquals(10, card.getProfileId());
+        assertEquals("User1", card.getName());
+        assertEquals("아주대학교", card.getUnivName());
+        assertEquals(List.of("여행"), card.getHashtags());
+        assertTrue(card.isVisible());
+    }
+
+    @Test
+    @DisplayName("제재된 유저의 카드는 숨김 처리")
+    void refresh_제재유저_숨김() {
+        user.setStatus(UserStatus.BANNED);
+        when(profileRepository.findByUser_UserId(1)).thenReturn(Optional.of(profile));
+
+        homeCardService.refresh(1);
+
+        ArgumentCaptor<HomeCard> captor = ArgumentCaptor.forClass(HomeCard.class);
+        verify(homeCardRepository).save(captor.capture());
+        assertFalse(captor.getValue().isVisible());
+    }
+
+    @Test
+    @DisplayName("한국인이 아니거나 프로필이 없으면 카드 삭제")
+    void refresh_카드삭제() {
+        user.setRole(Role.EXCHANGE);
+        when(profileRepository.findByUser_UserId(1)).thenReturn(Optional.of(profile));
+        when(profileRepository.findByUser_UserId(2)).thenReturn(Optional.empty());
+
+        homeCardService.refresh(1);
+        homeCardService.refresh(2);
+
+        verify(homeCardRepository).deleteByUserId(1);
+        verify(homeCardRepository).deleteByUserId(2);
+        verify(homeCardRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("카드가 빠진 한국인 유저는 카드를 만들고, 대상이 아닌 유저의 카드는 삭제")
+    void reconcile_누락과_잔여_카드만_정리() {
+        // 1: 카드 없음(가입 시 누락), 3: 정상, 4: 더 이상 대상 아님
+        when(profileRepository.findUserIdsByRole(Role.KOREAN)).thenReturn(List.of(1, 3));
+        when(homeCardRepository.findAllUserIds()).thenReturn(List.of(3, 4));
+        when(profileRepository.findByUser_UserId(1)).thenReturn(Optional.of(profile));
+        when(profileRepository.findByUser_UserId(4)).thenReturn(Optional.empty());
+
+        homeCardService.reconcile();
+
+        ArgumentCaptor<HomeCard> captor = ArgumentCaptor.forClass(HomeCard.class);
+        verify(homeCardRepository).save(captor.capture());
+        assertEquals(1, captor.getValue().getUserId());
+        verify(homeCardRepository).deleteByUserId(4);
+        verify(profileRepository, never()).findByUser_UserId(3);
+    }
+}
@@ -0,0 +1,134 @@
+package uni.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import uni.backend.domain.ProfileChangedEvent;
+import uni.backend.domain.dto.HomeProfileResponse;
+import uni.backend.service.HomeResponseCache.CachedHomePage;
+import uni.backend.service.HomeResponseCache.HomeQuery;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class HomeResponseCacheTest {
+
+    private TranslationService translationService;
+    private HomeResponseCache homeResponseCache;
+    private AtomicInteger loadCount;
+
+    @BeforeEach
+    void setUp() {
+        translationService = mock(TranslationService.class);
+        when(translationService.determineTargetLanguage("en-US,en;q=0.9")).thenReturn("en");
+        when(translationService.determineTargetLanguage("en")).thenReturn("en");
+        homeResponseCache = new HomeResponseCache(new ObjectMapper(), translationService, true, 2,
+            60000);
+        loadCount = new AtomicInteger();
+    }
+
+    private Supplier<Page<HomeProfileResponse>> loader(String username) {
+        return () -> {
+            loadCount.incrementAndGet();
+            HomeProfileResponse profile = new HomeProfileResponse();
+            profile.setUsername(username);
+            return new PageImpl<>(List.of(profile), PageRequest.of(0, 10), 1);
+        };
+    }
+
+    @DisplayName("해시태그 순서, 알 수 없는 정렬, 같은 응답 언어는 같은 키로 정규화")
+    @Test
+    void testQueryNormalization() {
+        HomeQuery first = homeResponseCache.queryOf("서울대학교", List.of("여행", "맛집"), 0, "unknown",
+            "en-US,en;q=0.9");
+        HomeQuery second = homeResponseCache.queryOf("서울대학교", List.of("맛집", "여행"), 0, "newest",
+            "en");
+
+        assertEquals(first, second);
+        assertNotEquals(first, homeResponseCache.queryOf("서울대학교", List.of("맛집", "여행"), 0,
+            "newest", null));
+    }
+
+    @DisplayName("같은 조건은 두 번째부터 캐시에서 반환하고 ETag 도 같음")
+    @Test
+    void testGetOrLoadHitsCache() {
+        HomeQuery query = homeResponseCache.queryOf(null, null, 0, "newest", null);
+
+        CachedHomePage first = homeResponseCache.getOrLoad(query, loader("kim"));
+        CachedHomePage second = homeResponseCache.getOrLoad(query, loader("lee"));
+
+        assertEquals(1, loadCount.get());
+        assertEquals("kim", second.body().getContent().get(0).getUsername());
+        assertEquals(first.eTag(), second.eTag());
+        assertEquals(1, homeResponseCache.getStats().getHits());
+        assertEquals(1, homeResponseCache.getStats().getMisses());
+    }
+
+    @DisplayName("프로필 변경 이벤트가 오면 캐시를 비우고 새 응답은 다른 ETag")
+    @Test
+    void testProfileChangedInvalidates() {
+        HomeQuery query = homeResponseCache.queryOf(null, null, 0, "newest", null);
+        CachedHomePage before = homeResponseCache.getOrLoad(query, loader("kim"));
+
+        homeResponseCache.onProfileChanged(new ProfileChangedEvent(1));
+        CachedHomePage after = homeResponseCache.getOrLoad(query, loader("lee"));
+
+        assertEquals(2, loadCount.get());
+        assertEquals("lee", after.body().getContent().get(0).getUsername());
+        assertNotEquals(before.eTag(), after.eTag());
+        assertEquals(1, homeResponseCache.getStats().getInvalidations());
+    }
+
+    @DisplayName("조회 중에 무효화되면 그 결과는 캐시에 저장하지 않음")
+    @Test
+    void testInvalidationDuringLoadIsNotCached() {
+        HomeQuery query = homeResponseCache.queryOf(null, null, 0, "newest", null);
+
+        homeResponseCache.getOrLoad(query, () -> {
+            Page<HomeProfileResponse> page = loader("kim").get();
+            homeResponseCache.invalidateAll();
+            return page;
+        });
+        homeResponseCache.getOrLoad(query, loader("lee"));
+
+        assertEquals(2, loadCount.get());
+    }
+
+    @DisplayName("최대 개수를 넘으면 가장 오래 사용되지 않은 응답부터 제거")
+    @Test
+    void testEvictsLeastRecentlyUsed() {
+        HomeQuery page0 = homeResponseCache.queryOf(null, null, 0, "newest", null);
+        HomeQuery page1 = homeResponseCache.queryOf(null, null, 1, "newest", null);
+        HomeQuery page2 = homeResponseCache.queryOf(null, null, 2, "newest", null);
+
+        homeResponseCache.getOrLoad(page0, loader("a"));
+        homeResponseCache.getOrLoad(page1, loader("b"));
+        homeResponseCache.getOrLoad(page0, loader("a"));
+        homeResponseCache.getOrLoad(page2, loader("c"));
+        homeResponseCache.getOrLoad(page0, loader("a"));
+        homeResponseCache.getOrLoad(page1, loader("b"));
+
+        assertEquals(4, loadCount.get());
+        assertEquals(2, homeResponseCache.getStats().getSize());
+    }
+
+    @DisplayName("If-None-Match 는 여러 값, 약한 ETag, * 를 허용")
+    @Test
+    void testMatchesIfNoneMatch() {
+        CachedHomePage cached = new CachedHomePage(null, "\"abc\"", Long.MAX_VALUE);
+
+        assertTrue(cached.matches("\"abc\""));
+        assertTrue(cached.matches("\"x\", W/\"abc\""));
+        assertTrue(cached.matches("*"));
+        assertFalse(cached.matches("\"abd\""));
+        assertFalse(cached.matches(null));
+    }
+}
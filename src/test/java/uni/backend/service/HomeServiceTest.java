@@ -18,6 +18,7 @@ import uni.backend.domain.MainCategory;
 import uni.backend.domain.Profile;
 import uni.backend.domain.User;
 import uni.backend.domain.dto.HomeProfileResponse;
+import uni.backend.repository.HomeCardRepository;
 import uni.backend.repository.ProfileRepository;
 
 import java.util.ArrayList;
@@ -34,6 +35,12 @@ public class HomeServiceTest {
     @Mock
     private ProfileRepository profileRepository;
 
+    @Mock
+    private ProfileSearchIndex profileSearchIndex;
+
+    @Mock
+    private HomeCardRepository homeCardRepository;
+
     private Profile profile1;
     private Profile profile2;
     private Profile profile3;
@@ -105,6 +112,30 @@ public class HomeServiceTest {
         assertTrue(homeProfileResponse.getHashtags().containsAll(hashtags));
     }
 
+    @Test
+    @DisplayName("검색 인덱스가 준비되면 인덱스 순서대로 홈 카드만 조회")
+    void searchByUnivNameAndHashtags_검색인덱스_사용() {
+        // Given
+        profile1.setProfileId(11);
+        profile2.setProfileId(12);
+        when(profileSearchIndex.isReady()).thenReturn(true);
+        when(profileSearchIndex.search("University A", hashtags,
+            ProfileSearchIndex.SortOrder.HIGHEST_RATING, 0, 10))
+            .thenReturn(new PageImpl<>(List.of(11, 12), PageRequest.of(0, 10), 2));
+        when(homeCardRepository.findByProfileIdIn(List.of(11, 12)))
+            .thenReturn(List.of(HomeCardService.toCard(profile2), HomeCardService.toCard(profile1)));
+
+        // When
+        Page<HomeProfileResponse> result = homeService.searchByUnivNameAndHashtags(
+            "University A", hashtags, 0, "highest_rating");
+
+        // Then
+        assertEquals(2, result.getTotalElements());
+        assertEquals("User1", result.getContent().get(0).getUsername());
+        assertEquals("User2", result.getContent().get(1).getUsername());
+        verify(profileRepository, never()).findByUnivNameAndHashtags(any(), any(), anyInt(), any());
+    }
+
     @Test
     @DisplayName("대학교 이름과 해시태그로 검색 성공 테스트 - 정렬 기준: 최신순")
     void searchByUnivNameAndHashtags_최신순_성공() {
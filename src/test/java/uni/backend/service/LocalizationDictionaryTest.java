@@ -0,0 +1,87 @@
+package uni.backend.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import uni.backend.domain.University;
+import uni.backend.repository.UniversityRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class LocalizationDictionaryTest {
+
+    private UniversityRepository universityRepository;
+    private LocalizationDictionary localizationDictionary;
+
+    @BeforeEach
+    void setUp() {
+        universityRepository = mock(UniversityRepository.class);
+        localizationDictionary = new LocalizationDictionary(universityRepository);
+    }
+
+    private University university(Integer id, String koName, String enName, String zhName) {
+        University university = new University(id, koName);
+        university.setEnUniName(enName);
+        university.setZhUniName(zhName);
+        return university;
+    }
+
+    @DisplayName("한 번 읽어 둔 대학 이름은 DB 조회 없이 언어별로 변환")
+    @Test
+    void testLocalizeUniversityNameWithoutQuery() {
+        when(universityRepository.findAll())
+            .thenReturn(List.of(university(1, "아주대학교", "Ajou University", "亚洲大学")));
+        localizationDictionary.reload();
+
+        assertEquals("Ajou University", localizationDictionary.localizeUniversityName("아주대학교", "en"));
+        assertEquals("亚洲大学", localizationDictionary.localizeUniversityName("아주대학교", "zh"));
+        assertEquals("아주대학교", localizationDictionary.localizeUniversityName("아주대학교", "ko"));
+        assertEquals("없는대학교", localizationDictionary.localizeUniversityName("없는대학교", "en"));
+        assertEquals(Optional.of("아주대학교"),
+            localizationDictionary.findKoreanUniversityName("Ajou University"));
+        verify(universityRepository, times(1)).findAll();
+    }
+
+    @DisplayName("영어 대학 이름은 대소문자와 앞뒤 공백을 무시하고 조회")
+    @Test
+    void testFindKoreanUniversityNameIgnoresCase() {
+        when(universityRepository.findAll())
+            .thenReturn(List.of(university(1, "아주대학교", "Ajou University", "亚洲大学")));
+        localizationDictionary.reload();
+
+        assertEquals(Optional.of("아주대학교"),
+            localizationDictionary.findKoreanUniversityName("ajou university"));
+        assertEquals(Optional.of("아주대학교"),
+            localizationDictionary.findKoreanUniversityName("  AJOU UNIVERSITY "));
+        assertTrue(localizationDictionary.findKoreanUniversityName("Ajou").isEmpty());
+    }
+
+    @DisplayName("다시 읽었을 때 바뀐 대학 정보가 반영됨")
+    @Test
+    void testReloadPicksUpChangedRows() {
+        when(universityRepository.findAll())
+            .thenReturn(List.of(university(1, "아주대학교", "Ajou Univ", null)))
+            .thenReturn(List.of(university(1, "아주대학교", "Ajou University", null)));
+        localizationDictionary.reload();
+        assertEquals("Ajou Univ", localizationDictionary.localizeUniversityName("아주대학교", "en"));
+
+        localizationDictionary.refresh();
+
+        assertEquals("Ajou University", localizationDictionary.localizeUniversityName("아주대학교", "en"));
+        assertTrue(localizationDictionary.findKoreanUniversityName("Ajou Univ").isEmpty());
+    }
+
+    @DisplayName("해시태그 동의어는 한국어로, 한국어 해시태그는 요청 언어로 변환")
+    @Test
+    void testHashtagTranslation() {
+        assertEquals("여행", localizationDictionary.toKoreanHashtag("Travel"));
+        assertEquals("Trip", localizationDictionary.toForeignHashtag("여행", "en"));
+        assertEquals("大学生活", localizationDictionary.toForeignHashtag("대학생활", "zh"));
+        assertEquals("Realty", localizationDictionary.toForeignHashtag("real estate", "en"));
+        assertEquals("모르는태그", localizationDictionary.toForeignHashtag("모르는태그", "en"));
+    }
+}
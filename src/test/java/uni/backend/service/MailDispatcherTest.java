@@ -0,0 +1,182 @@
+package uni.backend.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.transaction.PlatformTransactionManager;
+import uni.backend.domain.MailDeadLetter;
+import uni.backend.domain.MailOutbox;
+import uni.backend.repository.MailDeadLetterRepository;
+import uni.backend.repository.MailOutboxRepository;
+import uni.backend.support.FakeSmtpServer;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class MailDispatcherTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 11, 1, 12, 0);
+
+    private FakeSmtpServer smtpServer;
+    private MailOutboxRepository mailOutboxRepository;
+    private MailDeadLetterRepository mailDeadLetterRepository;
+    private MailDispatcher mailDispatcher;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        smtpServer = new FakeSmtpServer();
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(smtpServer.getPort());
+
+        mailOutboxRepository = mock(MailOutboxRepository.class);
+        mailDeadLetterRepository = mock(MailDeadLetterRepository.class);
+        // 배치 10, 워커 2, 최대 3회, 백오프 1초부터 최대 4초, 임대 1분, 주기당 3배치
+        mailDispatcher = new MailDispatcher(mailOutboxRepository, mailDeadLetterRepository,
+            mailSender, mock(PlatformTransactionManager.class), 10, 2, 3, 1000, 4000, 60000, 3);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mailDispatcher.shutdown();
+        smtpServer.close();
+    }
+
+    private MailOutbox mail(long id, String to, int attempts) {
+        return MailOutbox.builder()
+            .id(id)
+            .fromAddress("UNI <jdragon@uni-ajou.site>")
+            .toAddress(to)
+            .subject("제목 " + id)
+            .body("본문 " + id)
+            .attempts(attempts)
+            .nextAttemptAt(NOW)
+            .build();
+    }
+
+    private void givenDue(List<MailOutbox> mails) {
+        when(mailOutboxRepository.findDueForUpdate(eq(NOW), any()))
+            .thenReturn(new ArrayList<>(mails));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Long> deletedIds() {
+        ArgumentCaptor<Collection<Long>> ids = ArgumentCaptor.forClass(Collection.class);
+        verify(mailOutboxRepository).deleteAllByIdInBatch(ids.capture());
+        return List.copyOf(ids.getValue());
+    }
+
+    @DisplayName("배치를 워커 수만큼 나눠 워커마다 SMTP 연결 하나로 보내고 보낸 메일은 outbox 에서 삭제")
+    @Test
+    void testSendsBatchOverOneConnectionPerWorker() {
+        List<MailOutbox> mails = IntStream.rangeClosed(1, 6)
+            .mapToObj(i -> mail(i, "user" + i + "@example.com", 0))
+            .toList();
+        givenDue(mails);
+
+        int dispatched = mailDispatcher.dispatchBatch(NOW);
+
+        assertEquals(6, dispatched);
+        assertEquals(6, smtpServer.getReceived().size());
+        assertEquals(2, smtpServer.getConnectionCount());
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L, 6L),
+            deletedIds().stream().sorted().toList());
+        // 발송 전에 임대 시각으로 미뤄 두어 다른 워커가 가져가지 않음
+        assertTrue(mails.stream().allMatch(m -> m.getNextAttemptAt().equals(NOW.plusMinutes(1))));
+    }
+
+    @DisplayName("거절된 수신자만 백오프 후 재시도로 예약하고 나머지는 발송 완료")
+    @Test
+    void testRejectedRecipientIsRescheduled() {
+        smtpServer.reject("bad@example.com");
+        MailOutbox good = mail(1, "good@example.com", 0);
+        MailOutbox bad = mail(2, "bad@example.com", 1);
+        givenDue(List.of(good, bad));
+
+        LocalDateTime before = LocalDateTime.now();
+        mailDispatcher.dispatchBatch(NOW);
+
+        assertEquals(List.of(1L), deletedIds());
+        verify(mailOutboxRepository).save(bad);
+        assertEquals(2, bad.getAttempts());
+        assertNotNull(bad.getLastError());
+        // 두 번째 실패: 1초 * 2
+        assertFalse(bad.getNextAttemptAt().isBefore(before.plusSeconds(2)));
+        verifyNoInteractions(mailDeadLetterRepository);
+    }
+
+    @DisplayName("최대 시도 횟수에 도달하면 dead letter 로 옮기고 outbox 에서 삭제")
+    @Test
+    void testExhaustedMailMovesToDeadLetter() {
+        smtpServer.reject("bad@example.com");
+        MailOutbox bad = mail(1, "bad@example.com", 2);
+        givenDue(List.of(bad));
+
+        mailDispatcher.dispatchBatch(NOW);
+
+        ArgumentCaptor<MailDeadLetter> deadLetter = ArgumentCaptor.forClass(MailDeadLetter.class);
+        verify(mailDeadLetterRepository).save(deadLetter.capture());
+        assertEquals("bad@example.com", deadLetter.getValue().getToAddress());
+        assertEquals(3, deadLetter.getValue().getAttempts());
+        verify(mailOutboxRepository).delete(bad);
+        verify(mailOutboxRepository, never()).save(bad);
+    }
+
+    @DisplayName("SMTP 서버에 연결할 수 없으면 배치 전체를 재시도로 예약")
+    @Test
+    void testConnectionFailureReschedulesWholeBatch() throws IOException {
+        smtpServer.close();
+        MailOutbox first = mail(1, "a@example.com", 0);
+        MailOutbox second = mail(2, "b@example.com", 0);
+        givenDue(List.of(first, second));
+
+        mailDispatcher.dispatchBatch(NOW);
+
+        verify(mailOutboxRepository, never()).deleteAllByIdInBatch(any());
+        assertEquals(1, first.getAttempts());
+        assertEquals(1, second.getAttempts());
+    }
+
+    @DisplayName("재시도 간격은 두 배씩 늘어나고 최대값을 넘지 않음")
+    @Test
+    void testBackoffDoublesUpToMax() {
+        assertEquals(1000, mailDispatcher.backoffMs(1));
+        assertEquals(2000, mailDispatcher.backoffMs(2));
+        assertEquals(4000, mailDispatcher.backoffMs(3));
+        assertEquals(4000, mailDispatcher.backoffMs(10));
+    }
+
+    @DisplayName("발송할 메일이 없으면 아무것도 하지 않음")
+    @Test
+    void testNothingDue() {
+        when(mailOutboxRepository.findDueForUpdate(eq(NOW), any())).thenReturn(List.of());
+
+        assertEquals(0, mailDispatcher.dispatchBatch(NOW));
+        assertEquals(0, smtpServer.getConnectionCount());
+    }
+
+    @DisplayName("가득 찬 배치가 계속 나와도 한 주기에 정해진 배치 수까지만 보내고 나머지는 다음 주기로 넘김")
+    @Test
+    void testDispatchStopsAfterMaxBatchesPerPoll() {
+        when(mailOutboxRepository.findDueForUpdate(any(), any())).thenAnswer(invocation ->
+            IntStream.rangeClosed(1, 10)
+                .mapToObj(i -> mail(i, "user" + i + "@example.com", 0))
+                .collect(Collectors.toCollection(ArrayList::new)));
+
+        mailDispatcher.dispatch();
+
+        verify(mailOutboxRepository, times(3)).findDueForUpdate(any(), any());
+        assertEquals(30, smtpServer.getReceived().size());
+    }
+}
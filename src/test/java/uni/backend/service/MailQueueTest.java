@@ -0,0 +1,55 @@
+package uni.backend.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mail.SimpleMailMessage;
+import uni.backend.domain.MailOutbox;
+import uni.backend.repository.MailOutboxRepository;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class MailQueueTest {
+
+    private MailOutboxRepository mailOutboxRepository;
+    private MailQueue mailQueue;
+
+    @BeforeEach
+    void setUp() {
+        mailOutboxRepository = mock(MailOutboxRepository.class);
+        mailQueue = new MailQueue(mailOutboxRepository);
+    }
+
+    @DisplayName("수신자마다 outbox 행을 하나씩 저장하고 보내는 사람이 없으면 기본 주소 사용")
+    @Test
+    @SuppressWarnings("unchecked")
+    void testEnqueueStoresOneRowPerRecipient() {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setTo("a@example.com", "b@example.com");
+        message.setSubject("제목");
+        message.setText("본문");
+
+        mailQueue.enqueue(message);
+
+        ArgumentCaptor<List<MailOutbox>> saved = ArgumentCaptor.forClass(List.class);
+        verify(mailOutboxRepository).saveAll(saved.capture());
+        assertEquals(List.of("a@example.com", "b@example.com"),
+            saved.getValue().stream().map(MailOutbox::getToAddress).toList());
+        assertTrue(saved.getValue().stream().allMatch(mail ->
+            mail.getFromAddress().equals(MailQueue.DEFAULT_FROM)
+                && mail.getSubject().equals("제목") && mail.getBody().equals("본문")
+                && mail.getAttempts() == 0));
+    }
+
+    @DisplayName("수신자가 없으면 예외")
+    @Test
+    void testEnqueueWithoutRecipient() {
+        assertThrows(IllegalArgumentException.class,
+            () -> mailQueue.enqueue(new SimpleMailMessage()));
+        verifyNoInteractions(mailOutboxRepository);
+    }
+}
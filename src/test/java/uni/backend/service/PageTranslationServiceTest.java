@@ -5,7 +5,8 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,7 +15,10 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import uni.backend.domain.ContentTranslation;
+import uni.backend.domain.TranslatedContentType;
 import uni.backend.domain.University;
 import uni.backend.domain.dto.HomeProfileResponse;
 import uni.backend.domain.dto.IndividualProfileResponse;
@@ -36,12 +40,20 @@ class PageTranslationServiceTest {
     @Mock
     private UniversityRepository universityRepository;
 
+    @Mock
+    private ContentTranslationService contentTranslationService;
+
     @InjectMocks
     private PageTranslationService pageTranslationService;
 
+    private LocalizationDictionary localizationDictionary;
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        localizationDictionary = new LocalizationDictionary(universityRepository);
+        ReflectionTestUtils.setField(pageTranslationService, "localizationDictionary",
+            localizationDictionary);
     }
 
     @Test
@@ -61,7 +73,8 @@ class PageTranslationServiceTest {
         mockUniversity.setZhUniName("首尔大学");
 
         // When: Mock 동작 정의
-        when(universityRepository.findByUniName("서울대학교")).thenReturn(Optional.of(mockUniversity));
+        when(universityRepository.findAll()).thenReturn(List.of(mockUniversity));
+        localizationDictionary.reload();
         when(translationService.determineTargetLanguage("en")).thenReturn("en");
 
         // Act: translateHomeResponse 호출
@@ -84,7 +97,8 @@ class PageTranslationServiceTest {
         Page<HomeProfileResponse> profiles = new PageImpl<>(mockProfiles);
 
         // When: Mock 동작 정의
-        when(universityRepository.findByUniName("Unknown University")).thenReturn(Optional.empty());
+        when(universityRepository.findAll()).thenReturn(List.of());
+        localizationDictionary.reload();
         when(translationService.determineTargetLanguage("en")).thenReturn("en");
 
         // Act: translateHomeResponse 호출
@@ -105,7 +119,7 @@ class PageTranslationServiceTest {
         mockProfile.setUniv("서울대학교");
 
         when(translationService.determineTargetLanguage("en")).thenReturn("en");
-        when(translationService.translate(any(TranslationRequest.class)))
+        when(translationService.translateAsync(any(TranslationRequest.class)))
             .thenAnswer(invocation -> {
                 TranslationRequest request = invocation.getArgument(0);
                 List<IndividualTranslationResponse> translations = new ArrayList<>();
@@ -116,7 +130,7 @@ class PageTranslationServiceTest {
                 }
                 TranslationResponse response = new TranslationResponse();
                 response.setTranslations(translations);
-                return response;
+                return CompletableFuture.completedFuture(response);
             });
 
         // Act
@@ -139,7 +153,7 @@ class PageTranslationServiceTest {
         mockQna.setReplies(List.of(mockReply));
 
         when(translationService.determineTargetLanguage("en")).thenReturn("en");
-        when(translationService.translate(any(TranslationRequest.class)))
+        when(translationService.translateAsync(any(TranslationRequest.class)))
             .thenAnswer(invocation -> {
                 TranslationRequest request = invocation.getArgument(0);
                 List<IndividualTranslationResponse> translations = new ArrayList<>();
@@ -150,7 +164,7 @@ class PageTranslationServiceTest {
                 }
                 TranslationResponse response = new TranslationResponse();
                 response.setTranslations(translations);
-                return response;
+                return CompletableFuture.completedFuture(response);
             });
 
         // Act
@@ -171,7 +185,7 @@ class PageTranslationServiceTest {
         mockReview.setReplies(List.of(mockReply));
 
         when(translationService.determineTargetLanguage("en")).thenReturn("en");
-        when(translationService.translate(any(TranslationRequest.class)))
+        when(translationService.translateAsync(any(TranslationRequest.class)))
             .thenAnswer(invocation -> {
                 TranslationRequest request = invocation.getArgument(0);
                 List<IndividualTranslationResponse> translations = new ArrayList<>();
@@ -182,7 +196,7 @@ class PageTranslationServiceTest {
                 }
                 TranslationResponse response = new TranslationResponse();
                 response.setTranslations(translations);
-                return response;
+                return CompletableFuture.completedFuture(response);
             });
 
         // Act
@@ -201,7 +215,7 @@ class PageTranslationServiceTest {
         mockMarker.setDescription("마커 설명");
 
         when(translationService.determineTargetLanguage("en")).thenReturn("en");
-        when(translationService.translate(any(TranslationRequest.class)))
+        when(translationService.translateAsync(any(TranslationRequest.class)))
             .thenAnswer(invocation -> {
                 TranslationRequest request = invocation.getArgument(0);
                 List<IndividualTranslationResponse> translations = new ArrayList<>();
@@ -212,7 +226,7 @@ class PageTranslationServiceTest {
                 }
                 TranslationResponse response = new TranslationResponse();
                 response.setTranslations(translations);
-                return response;
+                return CompletableFuture.completedFuture(response);
             });
 
         // Act
@@ -223,4 +237,125 @@ class PageTranslationServiceTest {
         assertEquals("Translated: 마커 설명", mockMarker.getDescription());
     }
 
+    @Test
+    void testTranslateQna_DedupesAndChunksIntoFewRequests() {
+        // Given: 서로 다른 질문 55개 + 모든 질문에 같은 답변
+        List<QnaResponse> qnas = new ArrayList<>();
+        for (int i = 0; i < 55; i++) {
+            QnaResponse qna = new QnaResponse();
+            qna.setContent("질문 " + i);
+            ReplyResponse reply = new ReplyResponse();
+            reply.setContent("감사합니다");
+            qna.setReplies(List.of(reply));
+            qnas.add(qna);
+        }
+
+        when(translationService.determineTargetLanguage("en")).thenReturn("en");
+        when(translationService.translateAsync(any(TranslationRequest.class)))
+            .thenAnswer(invocation -> {
+                TranslationRequest request = invocation.getArgument(0);
+                List<IndividualTranslationResponse> translations = new ArrayList<>();
+                for (String text : request.getText()) {
+                    IndividualTranslationResponse response = new IndividualTranslationResponse();
+                    response.setText("Translated: " + text);
+                    translations.add(response);
+                }
+                TranslationResponse response = new TranslationResponse();
+                response.setTranslations(translations);
+                return CompletableFuture.completedFuture(response);
+            });
+
+        // Act
+        pageTranslationService.translateQna(qnas, "en");
+
+        // Then: 고유 문장 56개 -> 50개 + 6개 두 번의 요청
+        verify(translationService, times(2)).translateAsync(any(TranslationRequest.class));
+        assertEquals("Translated: 질문 54", qnas.get(54).getContent());
+        assertEquals("Translated: 감사합니다", qnas.get(0).getReplies().get(0).getContent());
+        assertEquals("Translated: 감사합니다", qnas.get(54).getReplies().get(0).getContent());
+    }
+
+    @Test
+    void testTranslateReview_FallsBackToOriginalWhenDeadlineExceeded() {
+        // Given: 응답이 오지 않는 번역 요청
+        ReviewResponse mockReview = new ReviewResponse();
+        mockReview.setContent("리뷰 내용");
+        mockReview.setReplies(List.of());
+
+        CompletableFuture<TranslationResponse> pending = new CompletableFuture<>();
+        when(translationService.determineTargetLanguage("en")).thenReturn("en");
+        when(translationService.translateAsync(any(TranslationRequest.class))).thenReturn(pending);
+
+        // Act
+        boolean partial = pageTranslationService.translateReview(List.of(mockReview), "en");
+
+        // Then: 원문 유지 + 부분 번역 표시, 남은 요청은 취소
+        assertTrue(partial);
+        assertEquals("리뷰 내용", mockReview.getContent());
+        assertTrue(pending.isCancelled());
+    }
+
+    @Test
+    void testTranslateReview_FallsBackToOriginalWhenTranslationFails() {
+        ReviewResponse mockReview = new ReviewResponse();
+        mockReview.setContent("리뷰 내용");
+        mockReview.setReplies(List.of());
+
+        when(translationService.determineTargetLanguage("en")).thenReturn("en");
+        when(translationService.translateAsync(any(TranslationRequest.class)))
+            .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("DeepL down")));
+
+        boolean partial = pageTranslationService.translateReview(List.of(mockReview), "en");
+
+        assertTrue(partial);
+        assertEquals("리뷰 내용", mockReview.getContent());
+    }
+
+    @Test
+    void testTranslateQna_UsesPrecomputedTranslation() {
+        // Given: 질문은 미리 번역되어 있고, 블라인드된 답변은 저장된 원문과 다름
+        QnaResponse mockQna = new QnaResponse();
+        mockQna.setQnaId(1);
+        mockQna.setContent("질문 내용");
+        ReplyResponse mockReply = new ReplyResponse();
+        mockReply.setReplyId(2);
+        mockReply.setContent("블라인드 처리된 대댓글입니다.");
+        mockQna.setReplies(List.of(mockReply));
+
+        ContentTranslation storedQna = ContentTranslation.builder()
+            .contentId(1)
+            .sourceHash(ContentTranslationService.sourceHash("질문 내용"))
+            .translatedText("Stored question")
+            .status(ContentTranslation.Status.DONE)
+            .build();
+        ContentTranslation storedReply = ContentTranslation.builder()
+            .contentId(2)
+            .sourceHash(ContentTranslationService.sourceHash("원래 답변"))
+            .translatedText("Original reply")
+            .status(ContentTranslation.Status.DONE)
+            .build();
+
+        when(translationService.determineTargetLanguage("en")).thenReturn("en");
+        when(contentTranslationService.findTranslations(eq(TranslatedContentType.QNA), anyList(),
+            eq("en"))).thenReturn(Map.of(1, storedQna));
+        when(contentTranslationService.findTranslations(eq(TranslatedContentType.REPLY), anyList(),
+            eq("en"))).thenReturn(Map.of(2, storedReply));
+        when(translationService.translateAsync(any(TranslationRequest.class)))
+            .thenAnswer(invocation -> {
+                TranslationRequest request = invocation.getArgument(0);
+                assertEquals(List.of("블라인드 처리된 대댓글입니다."), request.getText());
+                IndividualTranslationResponse translation = new IndividualTranslationResponse();
+                translation.setText("Blinded reply");
+                TranslationResponse response = new TranslationResponse();
+                response.setTranslations(List.of(translation));
+                return CompletableFuture.completedFuture(response);
+            });
+
+        // Act
+        pageTranslationService.translateQna(List.of(mockQna), "en");
+
+        // Then
+        assertEquals("Stored question", mockQna.getContent());
+        assertEquals("Blinded reply", mockReply.getContent());
+    }
 }
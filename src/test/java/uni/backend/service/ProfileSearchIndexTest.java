@@ -0,0 +1,102 @@
+package uni.backend.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import uni.backend.domain.ProfileChangedEvent;
+import uni.backend.repository.ProfileRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ProfileSearchIndexTest {
+
+    private ProfileRepository profileRepository;
+    private ProfileSearchIndex profileSearchIndex;
+
+    private final List<Object[]> profileRows = new ArrayList<>();
+    private final List<Object[]> hashtagRows = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        profileRepository = mock(ProfileRepository.class);
+        profileSearchIndex = new ProfileSearchIndex(profileRepository, true);
+
+        // profileId, userId, univName, star, createdAt
+        profileRows.add(new Object[]{1, 101, "아주대학교", 4.0, LocalDateTime.of(2024, 1, 1, 0, 0)});
+        profileRows.add(new Object[]{2, 102, "아주대학교", 5.0, LocalDateTime.of(2024, 1, 2, 0, 0)});
+        profileRows.add(new Object[]{3, 103, "서울대학교", 3.0, LocalDateTime.of(2024, 1, 3, 0, 0)});
+        profileRows.add(new Object[]{4, 104, "아주대학교", null, LocalDateTime.of(2024, 1, 4, 0, 0)});
+
+        // profileId, hashtagId, hashtagName
+        hashtagRows.add(new Object[]{1, 10, "여행"});
+        hashtagRows.add(new Object[]{1, 20, "게임"});
+        hashtagRows.add(new Object[]{2, 10, "여행"});
+        hashtagRows.add(new Object[]{3, 10, "여행"});
+        hashtagRows.add(new Object[]{3, 20, "게임"});
+        hashtagRows.add(new Object[]{4, 20, "게임"});
+
+        when(profileRepository.findSearchIndexRows(isNull())).thenReturn(profileRows);
+        when(profileRepository.findSearchIndexHashtags(isNull())).thenReturn(hashtagRows);
+        profileSearchIndex.rebuild();
+    }
+
+    @DisplayName("대학과 해시태그 AND 조건을 교집합으로 계산하고 정렬된 페이지 반환")
+    @Test
+    void testSearchIntersectsAndSorts() {
+        Page<Integer> newest = profileSearchIndex.search("아주대학교", List.of("게임"),
+            ProfileSearchIndex.SortOrder.NEWEST, 0, 10);
+        assertEquals(List.of(4, 1), newest.getContent());
+
+        Page<Integer> highest = profileSearchIndex.search(null, List.of("여행", "게임"),
+            ProfileSearchIndex.SortOrder.HIGHEST_RATING, 0, 10);
+        assertEquals(List.of(1, 3), highest.getContent());
+
+        Page<Integer> lowest = profileSearchIndex.search("아주대학교", null,
+            ProfileSearchIndex.SortOrder.LOWEST_RATING, 0, 10);
+        assertEquals(List.of(4, 1, 2), lowest.getContent()); // 별점 없는 프로필이 가장 낮음
+
+        assertTrue(profileSearchIndex.search(null, List.of("없는태그"),
+            ProfileSearchIndex.SortOrder.NEWEST, 0, 10).isEmpty());
+    }
+
+    @DisplayName("페이지 크기와 전체 개수")
+    @Test
+    void testSearchPaging() {
+        Page<Integer> second = profileSearchIndex.search(null, null,
+            ProfileSearchIndex.SortOrder.NEWEST, 1, 3);
+
+        assertEquals(4, second.getTotalElements());
+        assertEquals(List.of(1), second.getContent());
+    }
+
+    @DisplayName("유저 단위 갱신: 해시태그 변경과 제재(행 없음)를 반영")
+    @Test
+    void testRefreshUser() {
+        // 1번 프로필이 게임 해시태그를 지움
+        when(profileRepository.findSearchIndexRows(101)).thenReturn(List.<Object[]>of(
+            new Object[]{1, 101, "아주대학교", 4.0, LocalDateTime.of(2024, 1, 1, 0, 0)}));
+        when(profileRepository.findSearchIndexHashtags(101)).thenReturn(List.<Object[]>of(
+            new Object[]{1, 10, "여행"}));
+        profileSearchIndex.onProfileChanged(new ProfileChangedEvent(101));
+
+        assertEquals(List.of(3), profileSearchIndex.search(null, List.of("여행", "게임"),
+            ProfileSearchIndex.SortOrder.NEWEST, 0, 10).getContent());
+
+        // 3번 프로필 유저가 제재되어 더 이상 조회되지 않음
+        when(profileRepository.findSearchIndexRows(103)).thenReturn(List.of());
+        when(profileRepository.findSearchIndexHashtags(103)).thenReturn(List.of());
+        profileSearchIndex.onProfileChanged(new ProfileChangedEvent(103));
+
+        assertTrue(profileSearchIndex.search(null, List.of("여행", "게임"),
+            ProfileSearchIndex.SortOrder.NEWEST, 0, 10).isEmpty());
+        assertEquals(3, profileSearchIndex.search(null, null,
+            ProfileSearchIndex.SortOrder.NEWEST, 0, 10).getTotalElements());
+    }
+}
@@ -3,6 +3,8 @@ package uni.backend.service;
 import static org.mockito.Mockito.*;
 import static org.junit.jupiter.api.Assertions.*;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -13,6 +15,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.context.ApplicationEventPublisher;
 
 import uni.backend.domain.Hashtag;
 import uni.backend.domain.MainCategory;
@@ -48,6 +51,15 @@ class ProfileServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ContentTranslationService contentTranslationService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private EntityManager entityManager;
+
     private Profile profile;
     private User user;
 
@@ -171,32 +183,82 @@ class ProfileServiceTest {
     }
 
     @Test
-    void 프로필_별점_업데이트_성공() {
+    void 프로필_별점_증감_반영_성공() {
         // Given
         Integer userId = user.getUserId();
+        profile.setReviewCount(2);
+        profile.setStarSum(9L);
+        when(profileRepository.findByUser_UserId(userId)).thenReturn(Optional.of(profile));
 
-        // 유저와 프로필 연관 설정
-        profile.setUser(user);
-        user.setProfile(profile);
+        // When: 별점 3점 리뷰 작성 후 5점 리뷰를 4점으로 수정
+        profileService.adjustProfileStar(userId, 1, 3);
+        profileService.adjustProfileStar(userId, 0, -1);
+
+        // Then
+        assertEquals(3, profile.getReviewCount());
+        assertEquals(11L, profile.getStarSum());
+        assertEquals(3.67, profile.getStar()); // 소수점 둘째 자리 반올림
+        verify(reviewRepository, never()).findByProfileOwnerUserId(any());
+        verify(reviewRepository, never()).aggregateStarsByProfileOwner(any());
+    }
+
+    @Test
+    void 이미_읽어_둔_프로필도_잠금과_함께_최신_집계로_다시_읽은_뒤_증감_반영() {
+        // Given: 리뷰 작성 중 작성자/프로필 주인을 읽으며 올라온 프로필은 리뷰 2개 기준 값이지만,
+        // 그 사이 다른 트랜잭션이 리뷰를 하나 더 달아 DB 에는 3개가 반영되어 있음
+        Integer userId = user.getUserId();
+        profile.setReviewCount(2);
+        profile.setStarSum(9L);
+        when(profileRepository.findByUser_UserId(userId)).thenReturn(Optional.of(profile));
+        doAnswer(invocation -> {
+            profile.setReviewCount(3);
+            profile.setStarSum(14L);
+            return null;
+        }).when(entityManager).refresh(profile, LockModeType.PESSIMISTIC_WRITE);
 
-        // 리뷰 모의 객체 설정
-        Review review1 = mock(Review.class);
-        Review review2 = mock(Review.class);
-        when(review1.getStar()).thenReturn(4);
-        when(review2.getStar()).thenReturn(5);
+        // When
+        profileService.adjustProfileStar(userId, 1, 4);
+
+        // Then: 캐시된 값(2개, 9점)이 아닌 DB 값에 증감을 더함
+        verify(entityManager).refresh(profile, LockModeType.PESSIMISTIC_WRITE);
+        assertEquals(4, profile.getReviewCount());
+        assertEquals(18L, profile.getStarSum());
+        assertEquals(4.5, profile.getStar());
+    }
 
-        // 리뷰 저장소와 유저 저장소의 반환값 설정
-        when(reviewRepository.findByProfileOwnerUserId(userId)).thenReturn(
-            List.of(review1, review2));
-        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+    @Test
+    void 마지막_리뷰_삭제시_별점_0() {
+        // Given
+        Integer userId = user.getUserId();
+        profile.setReviewCount(1);
+        profile.setStarSum(4L);
+        when(profileRepository.findByUser_UserId(userId)).thenReturn(Optional.of(profile));
 
         // When
-        profileService.updateProfileStar(userId);
+        profileService.adjustProfileStar(userId, -1, -4);
 
         // Then
-        assertEquals(4.5, profile.getStar()); // 평균 별점이 올바르게 계산되었는지 확인
-        verify(reviewRepository).findByProfileOwnerUserId(userId); // 리뷰 조회 확인
-        verify(userRepository).findById(userId); // 유저 조회 확인
+        assertEquals(0, profile.getReviewCount());
+        assertEquals(0.0, profile.getStar());
+    }
+
+    @Test
+    void 집계_전_프로필은_한번_집계하여_초기화() {
+        // Given: 집계 컬럼이 비어 있는 기존 프로필
+        Integer userId = user.getUserId();
+        profile.setReviewCount(null);
+        profile.setStarSum(null);
+        when(profileRepository.findByUser_UserId(userId)).thenReturn(Optional.of(profile));
+        List<Object[]> rows = List.<Object[]>of(new Object[]{userId, 2L, 9L});
+        when(reviewRepository.aggregateStarsByProfileOwner(userId)).thenReturn(rows);
+
+        // When
+        profileService.adjustProfileStar(userId, 1, 5);
+
+        // Then: 이미 반영된 리뷰를 집계하므로 증감분을 더하지 않음
+        assertEquals(2, profile.getReviewCount());
+        assertEquals(9L, profile.getStarSum());
+        assertEquals(4.5, profile.getStar());
     }
 
     @Test
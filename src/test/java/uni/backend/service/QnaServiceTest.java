@@ -5,6 +5,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,15 +14,23 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 
+import uni.backend.domain.TranslatedContentType;
 import uni.backend.domain.Profile;
 import uni.backend.domain.Qna;
 import uni.backend.domain.QnaLikes;
 import uni.backend.domain.Reply;
 import uni.backend.domain.User;
 import uni.backend.domain.dto.QnaResponse;
+import uni.backend.domain.dto.QnaRow;
+import uni.backend.domain.dto.ReplyRow;
 import uni.backend.repository.QnaLikeRepository;
 import uni.backend.repository.QnaRepository;
+import uni.backend.repository.ReplyRepository;
 import uni.backend.repository.UserRepository;
 
 public class QnaServiceTest {
@@ -35,6 +44,12 @@ public class QnaServiceTest {
     @Mock
     private QnaLikeRepository qnaLikeRepository;
 
+    @Mock
+    private ReplyRepository replyRepository;
+
+    @Mock
+    private ContentTranslationService contentTranslationService;
+
     @InjectMocks
     private QnaService qnaService;
 
@@ -133,26 +148,108 @@ public class QnaServiceTest {
         Qna deletedQna = qnaService.deleteQna(1);
 
         assertTrue(deletedQna.getDeleted());
+        verify(contentTranslationService).deleteTranslations(TranslatedContentType.QNA, 1);
     }
 
     @Test
     void Qna_목록_조회() {
-        when(qnaRepository.findByProfileOwnerUserId(1)).thenReturn(List.of(qna));
+        when(qnaRepository.findQnaRowsByProfileOwner(eq(1), any(Pageable.class)))
+            .thenReturn(new PageImpl<>(List.of(qnaRow(1, false, false)), PageRequest.of(0, 10), 1));
+        when(replyRepository.findReplyRowsByQnaIds(List.of(1))).thenReturn(List.of(
+            new ReplyRow(100, 1, 2, "Commenter", "commenter/image.jpg", "답변", false, false, 0L)));
 
-        List<QnaResponse> responses = qnaService.getUserQnas(1);
+        Page<QnaResponse> responses = qnaService.getUserQnas(1, 0, 10);
 
         assertNotNull(responses);
-        assertEquals(1, responses.size());
-        assertEquals(1, responses.get(0).getQnaId());
+        assertEquals(1, responses.getTotalElements());
+        assertEquals(1, responses.getContent().get(0).getQnaId());
+        assertEquals("commenter/image.jpg", responses.getContent().get(0).getImgProf());
+        assertEquals("답변", responses.getContent().get(0).getReplies().get(0).getContent());
     }
 
     @Test
     void Qna_삭제된_Qna_조회() {
-        qna.setDeleted(true);
-        when(qnaRepository.findByProfileOwnerUserId(1)).thenReturn(List.of(qna));
+        when(qnaRepository.findQnaRowsByProfileOwner(eq(1), any(Pageable.class)))
+            .thenReturn(new PageImpl<>(List.of(qnaRow(1, true, false)), PageRequest.of(0, 10), 1));
+
+        Page<QnaResponse> responses = qnaService.getUserQnas(1, 0, 10);
+
+        assertTrue(responses.getContent().get(0).getDeleted());
+        assertEquals("삭제된 Qna입니다.", responses.getContent().get(0).getDeletedMessage());
+    }
+
+    @Test
+    void Qna_목록_조회_쿼리_수는_데이터_크기와_무관() {
+        // Q&A 1개/대댓글 1개와 Q&A 10개/대댓글 200개 모두 같은 횟수의 쿼리로 조회되어야 함
+        assertEquals(2, countQueriesForQnaPage(1, 1));
+        assertEquals(2, countQueriesForQnaPage(10, 20));
+    }
+
+    @Test
+    void 빈_페이지는_대댓글을_조회하지_않음() {
+        when(qnaRepository.findQnaRowsByProfileOwner(eq(1), any(Pageable.class)))
+            .thenReturn(Page.empty());
+
+        Page<QnaResponse> responses = qnaService.getUserQnas(1, 3, 10);
 
-        List<QnaResponse> responses = qnaService.getUserQnas(1);
+        assertTrue(responses.isEmpty());
+        verify(replyRepository, never()).findReplyRowsByQnaIds(anyCollection());
+    }
+
+    @Test
+    void 페이지_크기가_0_이하면_기본값_너무_크면_최대값으로_조회() {
+        when(qnaRepository.findQnaRowsByProfileOwner(eq(1), any(Pageable.class)))
+            .thenReturn(Page.empty());
+
+        qnaService.getUserQnas(1, -1, 0);
+        qnaService.getUserQnas(1, 0, 10000);
+
+        verify(qnaRepository).findQnaRowsByProfileOwner(1, PageRequest.of(0, 10));
+        verify(qnaRepository).findQnaRowsByProfileOwner(1, PageRequest.of(0, 100));
+    }
+
+    @Test
+    void 블라인드된_Qna와_대댓글은_엔티티와_같은_안내_문구로_조회() {
+        when(qnaRepository.findQnaRowsByProfileOwner(eq(1), any(Pageable.class)))
+            .thenReturn(new PageImpl<>(List.of(qnaRow(1, false, true)), PageRequest.of(0, 10), 1));
+        when(replyRepository.findReplyRowsByQnaIds(List.of(1))).thenReturn(List.of(
+            new ReplyRow(100, 1, 2, "Commenter", "img", "답변", true, false, 0L)));
+
+        QnaResponse response = qnaService.getUserQnas(1, 0, 10).getContent().get(0);
+
+        assertEquals(Qna.BLIND_MESSAGE, response.getContent());
+        assertEquals(Reply.BLIND_MESSAGE, response.getReplies().get(0).getContent());
+    }
+
+    private QnaRow qnaRow(Integer qnaId, boolean deleted, boolean blind) {
+        return new QnaRow(qnaId, 1, "Profile Owner", 2, "Commenter", "commenter/image.jpg",
+            "질문 " + qnaId, blind, deleted, 0L);
+    }
 
-        assertTrue(responses.get(0).getDeleted());
+    // Q&A qnaCount 개, Q&A 마다 대댓글 repliesPerQna 개일 때 실행되는 저장소 쿼리 수 (개수 쿼리는 목록 쿼리에 포함)
+    private int countQueriesForQnaPage(int qnaCount, int repliesPerQna) {
+        reset(qnaRepository, replyRepository, userRepository, qnaLikeRepository);
+
+        List<QnaRow> rows = new ArrayList<>();
+        List<ReplyRow> replyRows = new ArrayList<>();
+        for (int i = 1; i <= qnaCount; i++) {
+            rows.add(qnaRow(i, false, false));
+            for (int j = 0; j < repliesPerQna; j++) {
+                replyRows.add(new ReplyRow(i * 1000 + j, i, 2, "Commenter", "img", "답변", false,
+                    false, 0L));
+            }
+        }
+        when(qnaRepository.findQnaRowsByProfileOwner(eq(1), any(Pageable.class)))
+            .thenReturn(new PageImpl<>(rows, PageRequest.of(0, 10), qnaCount));
+        when(replyRepository.findReplyRowsByQnaIds(anyCollection())).thenReturn(replyRows);
+
+        Page<QnaResponse> responses = qnaService.getUserQnas(1, 0, 10);
+        assertEquals(qnaCount, responses.getNumberOfElements());
+        assertEquals(repliesPerQna, responses.getContent().get(qnaCount - 1).getReplies().size());
+
+        return mockingDetails(qnaRepository).getInvocations().size()
+            + mockingDetails(replyRepository).getInvocations().size()
+            + mockingDetails(userRepository).getInvocations().size()
+            + mockingDetails(qnaLikeRepository).getInvocations().size();
     }
 }
@@ -14,6 +14,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import uni.backend.domain.Profile;
 import uni.backend.domain.Qna;
 import uni.backend.domain.Reply;
+import uni.backend.domain.TranslatedContentType;
 import uni.backend.domain.ReplyLikes;
 import uni.backend.domain.User;
 import uni.backend.domain.dto.ReplyResponse;
@@ -37,6 +38,9 @@ public class ReplyServiceTest {
     @Mock
     private ReplyLikeRepository replyLikeRepository;
 
+    @Mock
+    private ContentTranslationService contentTranslationService;
+
     @InjectMocks
     private ReplyService replyService;
 
@@ -154,6 +158,7 @@ public class ReplyServiceTest {
         assertNotNull(deletedReply);
         assertTrue(deletedReply.getDeleted());
         verify(replyRepository).save(reply);
+        verify(contentTranslationService).deleteTranslations(TranslatedContentType.REPLY, replyId);
     }
 
 
@@ -190,6 +195,8 @@ public class ReplyServiceTest {
         assertNotNull(updatedReply);
         assertEquals(newContent, updatedReply.getContent());
         verify(replyRepository).save(reply);
+        verify(contentTranslationService).requestTranslation(TranslatedContentType.REPLY, replyId,
+            newContent);
     }
 
     @Test
@@ -13,12 +13,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import uni.backend.domain.Report;
 import uni.backend.domain.ReportCategory;
 import uni.backend.domain.ReportReason;
 import uni.backend.domain.User;
 import uni.backend.domain.UserStatus;
+import uni.backend.domain.UserStatusChangedEvent;
 import uni.backend.domain.dto.ReportRequest;
 import uni.backend.repository.ReportRepository;
 import uni.backend.repository.UserRepository;
@@ -35,6 +37,10 @@ class ReportServiceTest {
     @Mock
     private AdminService adminService;
 
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ReportService reportService;
 
@@ -140,5 +146,6 @@ class ReportServiceTest {
         assertEquals(5L, reportedUser.getReportCount());
         assertEquals(UserStatus.BANNED, reportedUser.getStatus());
         verify(adminService).blindAllContentByUser(1);
+        verify(eventPublisher).publishEvent(new UserStatusChangedEvent(1, null, UserStatus.BANNED));
     }
 }
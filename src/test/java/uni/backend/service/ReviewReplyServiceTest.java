@@ -14,6 +14,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import uni.backend.domain.TranslatedContentType;
 import uni.backend.domain.Matching;
 import uni.backend.domain.Profile;
 import uni.backend.domain.Review;
@@ -40,6 +41,9 @@ class ReviewReplyServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ContentTranslationService contentTranslationService;
+
     @Mock
     private ReviewReplyLikeRepository reviewReplyLikeRepository; // Mock 추가
 
@@ -140,6 +144,8 @@ class ReviewReplyServiceTest {
         assertNotNull(deletedReply.getDeletedTime());
 
         verify(reviewReplyRepository).save(deletedReply);
+        verify(contentTranslationService).deleteTranslations(TranslatedContentType.REVIEW_REPLY,
+            reviewReply.getReplyId());
     }
 
     @Test
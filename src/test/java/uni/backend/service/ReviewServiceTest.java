@@ -5,6 +5,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,7 +17,9 @@ import org.mockito.MockitoAnnotations;
 
 import uni.backend.domain.*;
 import uni.backend.domain.dto.ReviewReplyResponse;
+import uni.backend.domain.dto.ReviewReplyRow;
 import uni.backend.domain.dto.ReviewResponse;
+import uni.backend.domain.dto.ReviewRow;
 import uni.backend.repository.*;
 
 public class ReviewServiceTest {
@@ -39,6 +42,12 @@ public class ReviewServiceTest {
     @Mock
     private ReviewLikeRepository reviewLikeRepository;
 
+    @Mock
+    private ReviewReplyRepository reviewReplyRepository;
+
+    @Mock
+    private ContentTranslationService contentTranslationService;
+
     private User profileOwner;
     private User commenter;
     private Matching matching;
@@ -114,7 +123,7 @@ public class ReviewServiceTest {
         verify(matchingRepository).findById(matching.getMatchingId());
         verify(userRepository, times(2)).findById(any());
         verify(reviewRepository).save(any(Review.class));
-        verify(profileService).updateProfileStar(profileOwner.getUserId());
+        verify(profileService).adjustProfileStar(profileOwner.getUserId(), 1, 5);
     }
 
     @Test
@@ -129,7 +138,22 @@ public class ReviewServiceTest {
         assertTrue(review.getDeleted());
         assertNotNull(review.getDeletedTime());
         verify(reviewRepository).findById(review.getReviewId());
-        verify(profileService).updateProfileStar(profileOwner.getUserId());
+        verify(profileService).adjustProfileStar(profileOwner.getUserId(), -1, -5);
+        verify(contentTranslationService).deleteTranslations(TranslatedContentType.REVIEW,
+            review.getReviewId());
+    }
+
+    @Test
+    void 이미_삭제된_리뷰는_별점을_다시_차감하지_않음() {
+        // given
+        review.setDeleted(true);
+        when(reviewRepository.findById(review.getReviewId())).thenReturn(Optional.of(review));
+
+        // when
+        reviewService.deleteReview(review.getReviewId());
+
+        // then
+        verify(profileService, never()).adjustProfileStar(any(), anyInt(), anyInt());
     }
 
     @Test
@@ -150,7 +174,7 @@ public class ReviewServiceTest {
         assertEquals(updatedStar, updatedReview.getStar());
         verify(reviewRepository).findById(review.getReviewId());
         verify(reviewRepository).save(any(Review.class));
-        verify(profileService).updateProfileStar(profileOwner.getUserId());
+        verify(profileService).adjustProfileStar(profileOwner.getUserId(), 0, -1);
     }
 
     @Test
@@ -222,8 +246,8 @@ public class ReviewServiceTest {
     @Test
     void 리뷰_리스트_조회_성공() {
         // given
-        when(reviewRepository.findByProfileOwnerUserId(profileOwner.getUserId())).thenReturn(
-            List.of(review));
+        when(reviewRepository.findReviewRowsByProfileOwner(profileOwner.getUserId())).thenReturn(
+            List.of(ReviewRow.from(review)));
 
         // when
         List<ReviewResponse> reviews = reviewService.getReviewResponsesByUserId(
@@ -234,6 +258,72 @@ public class ReviewServiceTest {
         assertEquals(1, reviews.size(), "리뷰 리스트의 크기는 1이어야 합니다.");
         assertEquals("Initial review content", reviews.get(0).getContent(),
             "리뷰 내용이 올바르게 반환되어야 합니다.");
+        assertEquals("commenter-profile.jpg", reviews.get(0).getCommenterImgProf());
+        assertTrue(reviews.get(0).getReplies().isEmpty());
+    }
+
+    @Test
+    void 리뷰_리스트_조회_저장소_호출_수는_데이터_크기와_무관() {
+        // 리뷰 1개/대댓글 1개와 리뷰 50개/대댓글 500개 모두 같은 횟수로 저장소를 호출해야 함
+        // (목 저장소 호출 수만 세므로 엔티티 지연 로딩으로 생기는 SQL 은 잡지 못함. 실제 SQL 수는 DB 테스트로 확인해야 함)
+        assertEquals(2, countRepositoryCallsForReviewList(1, 1));
+        assertEquals(2, countRepositoryCallsForReviewList(50, 10));
+    }
+
+    @Test
+    void 리뷰_리스트_조회시_삭제_블라인드_대댓글_마스킹() {
+        // given
+        ReviewRow row = ReviewRow.from(review);
+        List<ReviewReplyRow> replies = List.of(
+            new ReviewReplyRow(10, 1, 2, "Commenter", "img", "visible", 0L, false, false, null,
+                null),
+            new ReviewReplyRow(11, 1, 2, "Commenter", "img", "deleted", 0L, true, false, null,
+                null),
+            new ReviewReplyRow(12, 1, 2, "Commenter", "img", "blind", 0L, false, true, null,
+                null));
+        when(reviewRepository.findReviewRowsByProfileOwner(1)).thenReturn(List.of(row));
+        when(reviewReplyRepository.findReplyRowsByReviewIds(List.of(1))).thenReturn(replies);
+
+        // when
+        List<ReviewReplyResponse> responses = reviewService.getReviewResponsesByUserId(1).get(0)
+            .getReplies();
+
+        // then
+        assertEquals("visible", responses.get(0).getContent());
+        assertEquals("삭제된 대댓글입니다.", responses.get(1).getDeleteMessage());
+        assertNull(responses.get(1).getContent());
+        assertEquals("블라인드 처리된 대댓글입니다.", responses.get(2).getDeleteMessage());
+        assertNull(responses.get(2).getContent());
+    }
+
+    // 리뷰 reviewCount 개, 리뷰마다 대댓글 repliesPerReview 개일 때 저장소 메서드 호출 수
+    private int countRepositoryCallsForReviewList(int reviewCount, int repliesPerReview) {
+        reset(reviewRepository, reviewReplyRepository, userRepository, matchingRepository,
+            reviewLikeRepository);
+
+        List<ReviewRow> rows = new ArrayList<>();
+        List<ReviewReplyRow> replyRows = new ArrayList<>();
+        for (int i = 1; i <= reviewCount; i++) {
+            rows.add(new ReviewRow(i, 1, "Profile Owner", 2, "Commenter", "img", "review " + i, 5,
+                0L, false, false, null, null));
+            for (int j = 0; j < repliesPerReview; j++) {
+                replyRows.add(new ReviewReplyRow(i * 1000 + j, i, 2, "Commenter", "img",
+                    "reply", 0L, false, false, null, null));
+            }
+        }
+        when(reviewRepository.findReviewRowsByProfileOwner(1)).thenReturn(rows);
+        when(reviewReplyRepository.findReplyRowsByReviewIds(anyCollection())).thenReturn(
+            replyRows);
+
+        List<ReviewResponse> responses = reviewService.getReviewResponsesByUserId(1);
+        assertEquals(reviewCount, responses.size());
+        assertEquals(repliesPerReview, responses.get(reviewCount - 1).getReplies().size());
+
+        return mockingDetails(reviewRepository).getInvocations().size()
+            + mockingDetails(reviewReplyRepository).getInvocations().size()
+            + mockingDetails(userRepository).getInvocations().size()
+            + mockingDetails(matchingRepository).getInvocations().size()
+            + mockingDetails(reviewLikeRepository).getInvocations().size();
     }
 
 }
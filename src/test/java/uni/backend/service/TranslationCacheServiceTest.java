@@ -0,0 +1,76 @@
+package uni.backend.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import uni.backend.domain.TranslationCacheEntry;
+import uni.backend.domain.dto.IndividualTranslationResponse;
+import uni.backend.domain.dto.TranslationRequest;
+import uni.backend.repository.TranslationCacheEntryRepository;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TranslationCacheServiceTest {
+
+    private TranslationCacheEntryRepository translationCacheEntryRepository;
+    private TranslationCacheService translationCacheService;
+
+    @BeforeEach
+    void setUp() {
+        translationCacheEntryRepository = mock(TranslationCacheEntryRepository.class);
+        translationCacheService = new TranslationCacheService(translationCacheEntryRepository, 2);
+    }
+
+    private IndividualTranslationResponse translation(String text) {
+        IndividualTranslationResponse response = new IndividualTranslationResponse();
+        response.setText(text);
+        return response;
+    }
+
+    @DisplayName("같은 원문과 언어 조합이면 같은 키, 도착 언어가 다르면 다른 키")
+    @Test
+    void testCacheKeyDependsOnLanguages() {
+        TranslationRequest en = new TranslationRequest();
+        en.setSource_lang("KO");
+        en.setTarget_lang("EN");
+        TranslationRequest zh = new TranslationRequest();
+        zh.setSource_lang("KO");
+        zh.setTarget_lang("ZH");
+
+        assertEquals(translationCacheService.cacheKey("안녕", en), translationCacheService.cacheKey("안녕", en));
+        assertNotEquals(translationCacheService.cacheKey("안녕", en), translationCacheService.cacheKey("안녕", zh));
+    }
+
+    @DisplayName("저장한 번역은 DB 조회 없이 힙 캐시에서 반환")
+    @Test
+    void testPutAllThenGetAllHitsHeap() {
+        translationCacheService.putAll(Map.of("k1", translation("Hello")), "KO", "EN");
+
+        Map<String, IndividualTranslationResponse> found = translationCacheService.getAll(List.of("k1"));
+
+        assertEquals("Hello", found.get("k1").getText());
+        verify(translationCacheEntryRepository).saveAll(anyList());
+        verify(translationCacheEntryRepository, never()).findByCacheKeyIn(any());
+        assertEquals(1, translationCacheService.getStats().getHeapHits());
+    }
+
+    @DisplayName("힙 캐시에 없으면 DB 캐시에서 조회 후 힙에 적재")
+    @Test
+    void testGetAllFallsBackToDatabase() {
+        when(translationCacheEntryRepository.findByCacheKeyIn(any())).thenReturn(List.of(
+            TranslationCacheEntry.builder().cacheKey("k2").translatedText("Thanks").build()));
+
+        Map<String, IndividualTranslationResponse> first = translationCacheService.getAll(List.of("k2", "k3"));
+        Map<String, IndividualTranslationResponse> second = translationCacheService.getAll(List.of("k2"));
+
+        assertEquals("Thanks", first.get("k2").getText());
+        assertFalse(first.containsKey("k3"));
+        assertEquals("Thanks", second.get("k2").getText());
+        verify(translationCacheEntryRepository, times(1)).findByCacheKeyIn(any());
+        assertEquals(1, translationCacheService.getStats().getDatabaseHits());
+    }
+}
@@ -2,6 +2,8 @@ package uni.backend.service;
 
 import java.lang.reflect.Method;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -9,6 +11,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.web.client.RestClient;
+import org.springframework.web.reactive.function.client.WebClient;
 import uni.backend.domain.dto.TranslationRequest;
 import uni.backend.domain.dto.TranslationResponse;
 import uni.backend.domain.dto.IndividualTranslationResponse;
@@ -22,6 +25,12 @@ class TranslationServiceTest {
     @Mock
     private RestClient restClient;
 
+    @Mock
+    private WebClient webClient;
+
+    @Mock
+    private TranslationCacheService translationCacheService;
+
     @InjectMocks
     private TranslationService translationService;
 
@@ -137,4 +146,53 @@ class TranslationServiceTest {
         assertNull(
             translationRequest.getGlossary_id()); // No glossary should be applied for unsupported targetLang
     }
-}
\ No newline at end of file
+
+    @DisplayName("모든 문장이 캐시에 있으면 DeepL 을 호출하지 않음")
+    @Test
+    void givenCachedTexts_whenTranslate_thenSkipExternalCall() {
+        // given
+        translationRequest.setText(List.of("안녕하세요", "감사합니다", "안녕하세요"));
+        when(translationCacheService.cacheKey(anyString(), any(TranslationRequest.class)))
+            .thenAnswer(invocation -> "key-" + invocation.getArgument(0));
+
+        IndividualTranslationResponse hello = new IndividualTranslationResponse();
+        hello.setText("Hello");
+        IndividualTranslationResponse thanks = new IndividualTranslationResponse();
+        thanks.setText("Thank you");
+        when(translationCacheService.getAll(anyList()))
+            .thenReturn(Map.of("key-안녕하세요", hello, "key-감사합니다", thanks));
+
+        // when
+        TranslationResponse response = translationService.translate(translationRequest);
+
+        // then
+        assertEquals(3, response.getTranslations().size());
+        assertEquals("Hello", response.getTranslations().get(0).getText());
+        assertEquals("Thank you", response.getTranslations().get(1).getText());
+        assertEquals("Hello", response.getTranslations().get(2).getText());
+        verifyNoInteractions(restClient);
+        verify(translationCacheService, never()).putAll(any(), any(), any());
+    }
+
+    @DisplayName("비동기 번역도 모든 문장이 캐시에 있으면 바로 완료된 결과를 반환")
+    @Test
+    void givenCachedTexts_whenTranslateAsync_thenCompleteWithoutExternalCall() {
+        // given
+        translationRequest.setText(List.of("안녕하세요"));
+        when(translationCacheService.cacheKey(anyString(), any(TranslationRequest.class)))
+            .thenAnswer(invocation -> "key-" + invocation.getArgument(0));
+
+        IndividualTranslationResponse hello = new IndividualTranslationResponse();
+        hello.setText("Hello");
+        when(translationCacheService.getAll(anyList())).thenReturn(Map.of("key-안녕하세요", hello));
+
+        // when
+        CompletableFuture<TranslationResponse> future = translationService.translateAsync(
+            translationRequest);
+
+        // then
+        assertTrue(future.isDone());
+        assertEquals("Hello", future.join().getTranslations().get(0).getText());
+        verifyNoInteractions(webClient, restClient);
+    }
+}
@@ -2,10 +2,13 @@ package uni.backend.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -22,6 +25,9 @@ public class UniversityServiceTest {
     @Mock
     private UniversityRepository universityRepository;
 
+    @Mock
+    private LocalizationDictionary localizationDictionary;
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
@@ -47,5 +53,22 @@ public class UniversityServiceTest {
         assertEquals("Sample University 2", result.get(1).getUniName(), "두 번째 대학의 이름이 같아야 합니다.");
     }
 
+    @Test
+    void 영어대학이름_한국어로변환() {
+        when(localizationDictionary.findKoreanUniversityName("Ajou University"))
+            .thenReturn(Optional.of("아주대학교"));
+
+        assertEquals("아주대학교", universityService.convertToKorean("Ajou University"));
+        assertEquals("아주대학교", universityService.convertToKorean("아주대학교"));
+        verifyNoInteractions(universityRepository);
+    }
+
+    @Test
+    void 없는영어대학이름_예외() {
+        when(localizationDictionary.findKoreanUniversityName("Unknown University"))
+            .thenReturn(Optional.empty());
 
+        assertThrows(IllegalArgumentException.class,
+            () -> universityService.convertToKorean("Unknown University"));
+    }
 }
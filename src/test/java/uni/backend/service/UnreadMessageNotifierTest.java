@@ -0,0 +1,107 @@
+package uni.backend.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.transaction.PlatformTransactionManager;
+import uni.backend.domain.UnreadMessageNotification;
+import uni.backend.repository.ChatRoomRepository;
+import uni.backend.repository.UnreadMessageNotificationRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class UnreadMessageNotifierTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 11, 1, 0, 0);
+
+    private ChatRoomRepository chatRoomRepository;
+    private UnreadMessageNotificationRepository notificationRepository;
+    private MailQueue mailQueue;
+    private UnreadMessageNotifier notifier;
+
+    @BeforeEach
+    void setUp() {
+        chatRoomRepository = mock(ChatRoomRepository.class);
+        notificationRepository = mock(UnreadMessageNotificationRepository.class);
+        mailQueue = mock(MailQueue.class);
+        // 페이지 크기 2, 24시간 지난 메시지만
+        notifier = new UnreadMessageNotifier(chatRoomRepository, notificationRepository, mailQueue,
+            mock(PlatformTransactionManager.class), 2, 24);
+    }
+
+    private List<Object[]> rows(Object[]... rows) {
+        return new ArrayList<>(List.of(rows));
+    }
+
+    @DisplayName("유저별로 묶인 결과를 키셋 페이지로 읽고 유저마다 메일 한 통을 outbox 에 넣고 기록을 남김")
+    @Test
+    void testSendsOneDigestPerRecipientAcrossPages() {
+        LocalDateTime cutoff = NOW.minusHours(24);
+        when(chatRoomRepository.findStaleUnreadRecipients(cutoff, 0, 2)).thenReturn(rows(
+            new Object[]{1, "a@example.com", 20L, 57L},
+            new Object[]{4, "b@example.com", 1L, 2L}));
+        when(chatRoomRepository.findStaleUnreadRecipients(cutoff, 4, 2)).thenReturn(rows(
+            new Object[]{7, "c@example.com", 2L, 3L}));
+
+        int queued = notifier.notifyUnreadMessages(NOW);
+
+        assertEquals(3, queued);
+        verify(chatRoomRepository, times(2)).findStaleUnreadRecipients(any(), any(), anyInt());
+        verify(chatRoomRepository, never()).findAll();
+        ArgumentCaptor<SimpleMailMessage> mails = ArgumentCaptor.forClass(SimpleMailMessage.class);
+        verify(mailQueue, times(3)).enqueue(mails.capture());
+        assertArrayEquals(new String[]{"a@example.com"}, mails.getAllValues().get(0).getTo());
+        assertEquals("20개의 채팅방에 읽지 않은 메시지 57개가 있습니다.",
+            mails.getAllValues().get(0).getText());
+
+        ArgumentCaptor<UnreadMessageNotification> saved =
+            ArgumentCaptor.forClass(UnreadMessageNotification.class);
+        verify(notificationRepository, times(3)).save(saved.capture());
+        UnreadMessageNotification first = saved.getAllValues().stream()
+            .filter(n -> n.getUserId() == 1).findFirst().orElseThrow();
+        assertEquals(20, first.getRoomCount());
+        assertEquals(57L, first.getUnreadCount());
+        assertEquals(LocalDate.of(2024, 11, 1), first.getNotifiedOn());
+        assertNotNull(first.getSentAt());
+    }
+
+    @DisplayName("같은 날 이미 알림을 받은 유저는 건너뜀")
+    @Test
+    void testSkipsRecipientsAlreadyNotifiedToday() {
+        when(chatRoomRepository.findStaleUnreadRecipients(any(), eq(0), eq(2))).thenReturn(rows(
+            new Object[]{1, "a@example.com", 1L, 1L}));
+        when(notificationRepository.findNotifiedUserIds(LocalDate.of(2024, 11, 1), List.of(1)))
+            .thenReturn(List.of(1));
+
+        assertEquals(0, notifier.notifyUnreadMessages(NOW));
+
+        verifyNoInteractions(mailQueue);
+        verify(notificationRepository, never()).save(any());
+    }
+
+    @DisplayName("outbox 에 넣지 못한 유저는 기록하지 않아 다음 실행에서 다시 시도하고 나머지 유저는 계속 처리")
+    @Test
+    void testFailedEnqueueIsNotRecorded() {
+        when(chatRoomRepository.findStaleUnreadRecipients(any(), eq(0), eq(2))).thenReturn(rows(
+            new Object[]{1, "a@example.com", 1L, 1L},
+            new Object[]{2, "b@example.com", 1L, 1L}));
+        doThrow(new IllegalArgumentException("Mail recipient cannot be empty"))
+            .doNothing()
+            .when(mailQueue).enqueue(any(SimpleMailMessage.class));
+
+        assertEquals(1, notifier.notifyUnreadMessages(NOW));
+
+        ArgumentCaptor<UnreadMessageNotification> saved =
+            ArgumentCaptor.forClass(UnreadMessageNotification.class);
+        verify(notificationRepository).save(saved.capture());
+        assertEquals(2, saved.getValue().getUserId());
+    }
+}
@@ -5,12 +5,13 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import uni.backend.domain.Profile;
+import uni.backend.domain.ProfileChangedEvent;
 import uni.backend.domain.Role;
 import uni.backend.domain.User;
 import uni.backend.domain.UserStatus;
@@ -34,11 +35,14 @@ class UserServiceImplTest {
     private UserRepository userRepository;
 
     @Mock
-    private JavaMailSender mailSender;
+    private MailQueue mailQueue;
 
     @Mock
     private JwtUtils jwtUtils;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
@@ -48,6 +52,7 @@ class UserServiceImplTest {
     void givenUser_whenSaveUser_thenUserSavedWithProfile() {
         // Given
         User user = new User();
+        user.setUserId(7);
         user.setEmail("test@uni.com");
         when(userRepository.save(user)).thenReturn(user);
 
@@ -57,6 +62,8 @@ class UserServiceImplTest {
         // Then
         assertNotNull(savedUser.getProfile());
         verify(userRepository, times(1)).save(user);
+        // 새 프로필이 홈 카드와 검색 색인에 반영되도록 이벤트 발행
+        verify(eventPublisher).publishEvent(new ProfileChangedEvent(7));
     }
 
     @Test
@@ -99,16 +106,13 @@ class UserServiceImplTest {
         when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
         when(jwtUtils.generateJwtToken(email)).thenReturn("test-token");
 
-        // Mock mailSender behavior
-        doNothing().when(mailSender).send(any(SimpleMailMessage.class));
-
         // When
         userService.generateAndSendResetCode(email);
 
         // Then
         verify(userRepository, times(1)).findByEmail(email);
         verify(jwtUtils, times(1)).generateJwtToken(email);
-        verify(mailSender, times(1)).send(any(SimpleMailMessage.class));
+        verify(mailQueue, times(1)).enqueue(any(SimpleMailMessage.class));
     }
 
     @Test
@@ -126,7 +130,7 @@ class UserServiceImplTest {
         assertEquals("No user found with email: " + email, exception.getMessage());
         verify(userRepository, times(1)).findByEmail(email);
         verify(jwtUtils, never()).generateJwtToken(anyString());
-        verify(mailSender, never()).send(any(SimpleMailMessage.class));
+        verify(mailQueue, never()).enqueue(any(SimpleMailMessage.class));
     }
 
     @Test
@@ -0,0 +1,166 @@
+package uni.backend.support;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * 테스트용 로컬 STOMP 브로커. relay 모드에서 외부 브로커 대신 띄워 두고, 받은 프레임을 기록한다.
+ * <p>
+ * CONNECT 에는 CONNECTED 로 응답하고, SEND 는 같은 목적지를 SUBSCRIBE 한 연결에 MESSAGE 로 전달한다. 목적지 이름은 제한하지
+ * 않으므로 임의의 주소를 받는 브로커(ActiveMQ Artemis 등)처럼 동작한다.
+ */
+public class FakeStompBroker implements AutoCloseable {
+
+    private final ServerSocket serverSocket;
+    private final List<Frame> received = new CopyOnWriteArrayList<>();
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+
+    public FakeStompBroker() throws IOException {
+        serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        Thread.ofPlatform().daemon().name("fake-stomp").start(this::acceptLoop);
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    public List<Frame> getReceived() {
+        return List.copyOf(received);
+    }
+
+    // 조건에 맞는 프레임이 올 때까지 대기
+    public Frame await(Predicate<Frame> condition, long timeoutMs) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        while (System.nanoTime() < deadline) {
+            for (Frame frame : received) {
+                if (condition.test(frame)) {
+                    return frame;
+                }
+            }
+            Thread.sleep(20);
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                Thread.ofPlatform().daemon().start(() -> handle(socket));
+            } catch (IOException e) {
+                return; // 브로커 종료
+            }
+        }
+    }
+
+    private void handle(Socket socket) {
+        try (socket) {
+            InputStream in = socket.getInputStream();
+            OutputStream out = socket.getOutputStream();
+            Frame frame;
+            while ((frame = readFrame(in)) != null) {
+                received.add(frame);
+                switch (frame.command()) {
+                    case "CONNECT", "STOMP" -> write(out, "CONNECTED",
+                        Map.of("version", "1.2", "heart-beat", "0,0"), "");
+                    case "SUBSCRIBE" -> subscriptions.add(new Subscription(
+                        frame.headers().get("destination"), frame.headers().get("id"), out));
+                    case "SEND" -> deliver(frame);
+                    case "DISCONNECT" -> {
+                        return;
+                    }
+                    default -> {
+                    }
+                }
+            }
+        } catch (IOException ignored) {
+            // 클라이언트가 연결을 끊음
+        }
+    }
+
+    private void deliver(Frame frame) {
+        String destination = frame.headers().get("destination");
+        for (Subscription subscription : subscriptions) {
+            if (!subscription.destination().equals(destination)) {
+                continue;
+            }
+            try {
+                write(subscription.out(), "MESSAGE", Map.of("destination", destination,
+                    "subscription", subscription.id(), "message-id", "m-" + received.size()),
+                    frame.body());
+            } catch (IOException e) {
+                subscriptions.remove(subscription);
+            }
+        }
+    }
+
+    // NUL 로 끝나는 STOMP 프레임 하나를 읽음 (프레임 사이의 하트비트 개행은 건너뜀)
+    private static Frame readFrame(InputStream in) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        int b;
+        while ((b = in.read()) != -1) {
+            if (b == 0) {
+                break;
+            }
+            if (buffer.size() == 0 && (b == '\n' || b == '\r')) {
+                continue;
+            }
+            buffer.write(b);
+        }
+        if (b == -1) {
+            return null;
+        }
+
+        String raw = buffer.toString(StandardCharsets.UTF_8);
+        int headerEnd = raw.indexOf("\n\n");
+        String head = headerEnd >= 0 ? raw.substring(0, headerEnd) : raw;
+        String body = headerEnd >= 0 ? raw.substring(headerEnd + 2) : "";
+
+        String[] lines = head.split("\r?\n");
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (int i = 1; i < lines.length; i++) {
+            int colon = lines[i].indexOf(':');
+            if (colon > 0) {
+                headers.putIfAbsent(lines[i].substring(0, colon), lines[i].substring(colon + 1));
+            }
+        }
+        return new Frame(lines[0].trim(), headers, body);
+    }
+
+    private static void write(OutputStream out, String command, Map<String, String> headers,
+        String body) throws IOException {
+        StringBuilder frame = new StringBuilder(command).append('\n');
+        headers.forEach((name, value) -> frame.append(name).append(':').append(value).append('\n'));
+        frame.append('\n').append(body);
+        synchronized (out) {
+            out.write(frame.toString().getBytes(StandardCharsets.UTF_8));
+            out.write(0);
+            out.flush();
+        }
+    }
+
+    public record Frame(String command, Map<String, String> headers, String body) {
+
+    }
+
+    private record Subscription(String destination, String id, OutputStream out) {
+
+    }
+}